@@ -0,0 +1,49 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.Instant;
+
+/**
+ * 벤치마크용 엔티티 생성 (DB 없이).
+ * id가 없으면 RecurrencePlanCache가 캐시하지 않으므로 리플렉션으로 채움
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    static Schedule schedule(long id, String title, Instant start, Instant end) {
+        try {
+            Constructor<Schedule> ctor = Schedule.class.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            Schedule s = ctor.newInstance();
+            s.editTitle(title);
+            s.reschedule(start, end);
+            setId(Schedule.class, s, id);
+            return s;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static ScheduleRecurrence recurrence(long id, RecurrenceFreq freq, int interval,
+                                         String[] byDay, Integer[] byMonthday, Integer[] byMonth) {
+        ScheduleRecurrence r = ScheduleRecurrence.of(freq, interval, byDay, byMonthday, byMonth, null);
+        setId(ScheduleRecurrence.class, r, id);
+        return r;
+    }
+
+    private static void setId(Class<?> type, Object target, long id) {
+        try {
+            Field f = type.getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(target, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository.OccurrenceRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OccurrenceQueryService의 메모리 구간 (인덱스 행 → item, 멀티데이 split, run 병합, 날짜별 그룹핑).
+ * 월 뷰 한 번에 해당하는 합성 행 (단발 50%, 그중 1/5은 여러 날, 반복 50%)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OccurrenceAssemblyBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
+    private static final String[] THEMES = {"BLACK", "RED", "BLUE", "GREEN"};
+
+    @Param({"200", "2000", "20000"})
+    public int rows;
+
+    private final OccurrenceSplitter splitter = new OccurrenceSplitterImpl();
+    private List<OccurrenceRow> indexRows;
+    private List<List<OccurrenceItem>> runs;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        Instant monthStart = LocalDate.of(2026, 3, 1).atStartOfDay(ZONE).toInstant();
+        long monthSeconds = 31L * 86_400;
+
+        indexRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boolean recurring = rnd.nextBoolean();
+            long scheduleId = recurring ? 1 + rnd.nextInt(Math.max(1, rows / 20)) : 100_000L + i;
+            Instant start = monthStart.plusSeconds((rnd.nextLong(monthSeconds) / 900) * 900);
+            long minutes = !recurring && rnd.nextInt(5) == 0 ? 60L * (24 + rnd.nextInt(72)) : 30L + rnd.nextInt(120);
+            indexRows.add(new OccurrenceRow(scheduleId, 1L + rnd.nextInt(5), "일정 " + scheduleId,
+                    THEMES[rnd.nextInt(THEMES.length)], start, start.plusSeconds(minutes * 60), recurring));
+        }
+        // 실제 조회처럼 (start_at, schedule_id) 순서로 읽혀 온다고 가정
+        indexRows.sort(Comparator.comparing(OccurrenceRow::startAt).thenComparing(OccurrenceRow::scheduleId));
+        runs = buildItems();
+    }
+
+    /** 행 순서 item(반복 + 단발 첫 조각)과 멀티데이 뒷조각 run (조회 서비스와 같은 모양) */
+    @Benchmark
+    public List<List<OccurrenceItem>> buildItems() {
+        List<OccurrenceItem> rowItems = new ArrayList<>(indexRows.size());
+        List<OccurrenceItem> tails = new ArrayList<>();
+        for (OccurrenceRow row : indexRows) {
+            if (row.recurring()) {
+                rowItems.add(OccurrenceAssembler.item(row.scheduleId(), row.calendarId(), row.title(), row.theme(),
+                        row.startAt(), row.endAt(), true));
+            } else {
+                List<OccurrenceItem> out = rowItems;
+                for (var split : splitter.splitIfMultiDay(row.startAt(), row.endAt(), ZONE)) {
+                    out.add(OccurrenceAssembler.item(row.scheduleId(), row.calendarId(), row.title(), row.theme(),
+                            split.startUtc(), split.endUtc(), false));
+                    out = tails;
+                }
+            }
+        }
+        tails.sort(START_ORDER);
+        return List.of(rowItems, tails);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<OccurrenceItem>> groupByDay() {
+        return OccurrenceAssembler.groupByDay(OccurrenceAssembler.merge(runs, START_ORDER), ZONE);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<OccurrenceItem>> assemble() {
+        return OccurrenceAssembler.groupByDay(OccurrenceAssembler.merge(buildItems(), START_ORDER), ZONE);
+    }
+}
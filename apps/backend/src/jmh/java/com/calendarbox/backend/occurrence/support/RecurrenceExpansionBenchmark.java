@@ -0,0 +1,83 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 반복 규칙 전개 (RecurrenceExpander.expand) 처리량/할당량.
+ * 규칙 4종 x 윈도우 3종 x 엔진 2종 (zoned = RecurrenceExpanderImpl, epoch = EpochRecurrenceExpander)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecurrenceExpansionBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public enum Rule { DAILY, WEEKLY_MULTI, MONTHLY_ORDINAL, YEARLY }
+
+    public enum Window { MONTH, YEAR, DECADE }
+
+    @Param
+    public Rule rule;
+
+    @Param
+    public Window window;
+
+    @Param({"zoned", "epoch"})
+    public String engine;
+
+    private RecurrenceExpander expander;
+    private Schedule schedule;
+    private ScheduleRecurrence recurrence;
+    private ZonedDateTime winFrom;
+    private ZonedDateTime winTo;
+
+    @Setup
+    public void setup() {
+        RecurrencePlanCache planCache = new RecurrencePlanCache(1_000);
+        expander = "epoch".equals(engine)
+                ? new EpochRecurrenceExpander(planCache)
+                : new RecurrenceExpanderImpl(planCache);
+
+        ZonedDateTime seed = LocalDateTime.of(2020, 1, 6, 9, 0).atZone(ZONE);
+        schedule = BenchmarkFixtures.schedule(1L, "bench", seed.toInstant(), seed.plusHours(1).toInstant());
+        recurrence = switch (rule) {
+            case DAILY -> BenchmarkFixtures.recurrence(1L, RecurrenceFreq.DAILY, 1, null, null, null);
+            case WEEKLY_MULTI -> BenchmarkFixtures.recurrence(1L, RecurrenceFreq.WEEKLY, 1,
+                    new String[]{"MO", "WE", "FR"}, null, null);
+            case MONTHLY_ORDINAL -> BenchmarkFixtures.recurrence(1L, RecurrenceFreq.MONTHLY, 1,
+                    new String[]{"2TU", "-1FR"}, null, null);
+            case YEARLY -> BenchmarkFixtures.recurrence(1L, RecurrenceFreq.YEARLY, 1,
+                    null, new Integer[]{15}, new Integer[]{3, 9});
+        };
+        schedule.makeRecurrence(recurrence);
+
+        winFrom = LocalDate.of(2026, 1, 1).atStartOfDay(ZONE);
+        winTo = switch (window) {
+            case MONTH -> winFrom.plusMonths(1);
+            case YEAR -> winFrom.plusYears(1);
+            case DECADE -> winFrom.plusYears(10);
+        };
+
+        // 윈도우 안팎에 고르게 흩어진 예외 날짜 (7일 간격)
+        int from = (int) winFrom.toLocalDate().minusYears(1).toEpochDay();
+        int to = (int) winTo.toLocalDate().toEpochDay();
+        recurrence.assignExceptionEpochDays(IntStream.iterate(from, d -> d < to, d -> d + 7).toArray());
+    }
+
+    @Benchmark
+    public List<RecurrenceExpander.Slice> expand() {
+        return expander.expand(schedule, recurrence, winFrom, winTo, ZONE);
+    }
+}
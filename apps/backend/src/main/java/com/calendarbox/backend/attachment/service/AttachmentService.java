@@ -7,18 +7,17 @@ import com.calendarbox.backend.attachment.repository.AttachmentRepository;
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.global.infra.storage.StorageClient;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import com.calendarbox.backend.schedule.service.ScheduleCounterService;
+import com.calendarbox.backend.schedule.service.ScheduleSearchDocService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,18 +31,19 @@ import java.util.Map;
 public class AttachmentService {
 
     private final ScheduleRepository scheduleRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final AttachmentRepository attachmentRepository;
     private final StorageClient storage;
     private final MemberRepository memberRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
 
     public List<ImageAttachmentDto> getImages(Long userId, Long scheduleId){
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                &&!scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
+                &&!accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         return attachmentRepository.findImagesByScheduleId(scheduleId).stream().map(a -> {
@@ -63,8 +63,8 @@ public class AttachmentService {
     public List<FileAttachmentDto> getFiles(Long userId, Long scheduleId) {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                &&!scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
+                &&!accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         return attachmentRepository.findFilesByScheduleId(scheduleId).stream().map(a ->
@@ -83,8 +83,8 @@ public class AttachmentService {
         Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = a.getSchedule();
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                &&!scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
+                &&!accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         String originalKey = a.getObjectKey();
@@ -98,6 +98,8 @@ public class AttachmentService {
         }
 
         schedule.removeAttachment(a);
+        scheduleSearchDocService.changed(schedule.getId());
+        scheduleCounterService.changed(schedule.getId());
     }
 
     public String getDownloadUrl(Long userId, Long attachmentId, boolean inline){
@@ -106,8 +108,8 @@ public class AttachmentService {
 
         Schedule schedule = a.getSchedule();
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                &&!scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
+                &&!accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         return storage.presignGet(a.getObjectKey(), a.getOriginalName(), inline);
@@ -1,5 +1,6 @@
 package com.calendarbox.backend.attachment.service;
 
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.expense.domain.ExpenseOcrTask;
 import com.calendarbox.backend.attachment.support.UploadCache;
 import com.calendarbox.backend.attachment.domain.Attachment;
@@ -11,9 +12,7 @@ import com.calendarbox.backend.attachment.repository.AttachmentRepository;
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
 import com.calendarbox.backend.calendar.repository.CalendarRepository;
 import com.calendarbox.backend.expense.repository.ExpenseOcrTaskRepository;
 import com.calendarbox.backend.global.config.OcrMqConfig;
@@ -24,9 +23,9 @@ import com.calendarbox.backend.global.utils.HashUtil;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import com.calendarbox.backend.schedule.service.ScheduleCounterService;
+import com.calendarbox.backend.schedule.service.ScheduleSearchDocService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
@@ -58,8 +57,7 @@ public class UploadService {
             // 한글
             "application/x-hwp"
     );
-    private final CalendarMemberRepository calendarMemberRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final StorageClient storage;
     private final UploadCache cache;
     private final AttachmentRepository attachmentRepository;
@@ -68,14 +66,16 @@ public class UploadService {
     private final CalendarRepository calendarRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
     private final ExpenseOcrTaskRepository expenseOcrTaskRepository;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
     private final RabbitTemplate rabbitTemplate;
     @Transactional(readOnly = true)
     public PresignResponse presign(Long userId, PresignRequest req) {
         Member user = memberRepository.findById(userId).orElseThrow(()->new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(req.scheduleId()).orElseThrow(()->new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),user.getId(), CalendarMemberStatus.ACCEPTED)
-        &&!scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED)
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), user.getId())
+        &&!accessDecisionCache.isScheduleParticipant(schedule.getId(), userId)
         &&!schedule.getCreatedBy().getId().equals(user.getId()))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         var ct = req.contentType().toLowerCase();
@@ -107,6 +107,8 @@ public class UploadService {
                 schedule, member, ctx.filename(), req.objectKey(), ctx.contentType(), ctx.size(), pos
         ));
         cache.remove(req.uploadId());
+        scheduleSearchDocService.changed(schedule.getId());
+        scheduleCounterService.changed(schedule.getId());
         if(ctx.isReceipt() || saved.getObjectKey().contains("/receipts/")){
             ExpenseOcrTask task = expenseOcrTaskRepository.saveAndFlush(
                     ExpenseOcrTask.of(saved, schedule, HashUtil.sha256(saved.getObjectKey()))
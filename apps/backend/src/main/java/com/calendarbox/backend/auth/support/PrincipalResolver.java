@@ -0,0 +1,63 @@
+package com.calendarbox.backend.auth.support;
+
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.member.domain.Member;
+import com.calendarbox.backend.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * JwtAuthFilter가 검증한 회원 id → 서비스에서 쓸 회원.
+ * - 토큰 서명/만료는 필터에서 끝났으므로 여기서는 탈퇴(deleted_at) 여부만 확인
+ * - 확인 결과는 로컬 캐시 (TTL), 같은 요청 안에서는 요청 속성으로 한 번만
+ * - FK로만 쓰는 경우 reference()로 프록시를 넘겨 SELECT 없이 처리 (필드 접근 시 그때 로드)
+ */
+@Component
+public class PrincipalResolver {
+
+    private static final String VERIFIED_ATTR = PrincipalResolver.class.getName() + ".verified";
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, Boolean> activeMembers;
+
+    public PrincipalResolver(MemberRepository memberRepository,
+                             @Value("${auth.principal.cache-ttl-seconds:60}") long ttlSeconds,
+                             @Value("${auth.principal.cache-max-size:100000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        this.activeMembers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /** 살아 있는 회원인지 확인 (아니면 MEMBER_NOT_FOUND) */
+    public Long requireActive(Long memberId) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null && memberId.equals(attrs.getAttribute(VERIFIED_ATTR, RequestAttributes.SCOPE_REQUEST))) {
+            return memberId;
+        }
+        if (!activeMembers.get(memberId, memberRepository::existsByIdAndDeletedAtIsNull)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        if (attrs != null) attrs.setAttribute(VERIFIED_ATTR, memberId, RequestAttributes.SCOPE_REQUEST);
+        return memberId;
+    }
+
+    /** requireActive + 지연 로딩 프록시 (작성자/actor 등 FK 용도) */
+    public Member reference(Long memberId) {
+        requireActive(memberId);
+        return memberRepository.getReferenceById(memberId);
+    }
+
+    /** 탈퇴 처리 등 회원 상태를 바꾼 뒤 호출 */
+    public void evict(Long memberId) {
+        activeMembers.invalidate(memberId);
+    }
+}
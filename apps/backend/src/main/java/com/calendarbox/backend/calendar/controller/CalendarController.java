@@ -7,8 +7,11 @@ import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.enums.CalendarType;
 import com.calendarbox.backend.calendar.enums.Visibility;
 import com.calendarbox.backend.calendar.service.*;
+import com.calendarbox.backend.global.dto.CursorResponse;
 import com.calendarbox.backend.global.dto.PageResponse;
 import com.calendarbox.backend.global.dto.ApiResponse;
+import com.calendarbox.backend.global.utils.ConditionalGet;
+import com.calendarbox.backend.occurrence.service.CalendarVersionService;
 import com.calendarbox.backend.schedule.dto.request.CloneScheduleRequest;
 import com.calendarbox.backend.schedule.dto.response.CloneScheduleResponse;
 import com.calendarbox.backend.schedule.service.ScheduleService;
@@ -28,6 +31,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.Instant;
 
@@ -43,6 +47,7 @@ public class CalendarController {
     private final CalendarMemberQueryService calendarMemberQueryService;
     private final ScheduleService scheduleService;
     private final CalendarHistoryQueryService calendarHistoryQueryService;
+    private final CalendarVersionService calendarVersionService;
 
     @Operation(summary = "캘린더 생성", description = "새 캘린더를 생성합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -103,10 +108,15 @@ public class CalendarController {
     @GetMapping("/calendars/{calendarId}")
     public ResponseEntity<ApiResponse<CalendarDetail>> getDetail(
             @AuthenticationPrincipal(expression = "id") Long userId,
-            @PathVariable Long calendarId
+            @PathVariable Long calendarId,
+            WebRequest webRequest
     ){
+        // 소유자/PUBLIC/그룹 멤버만 ETag 사용, 나머지(친구 공개 등)는 기존처럼 권한 판단 후 응답
+        var etag = calendarVersionService.calendarDetailEtag(userId, calendarId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) return ConditionalGet.notModified(etag.get());
         var data = calendarQueryService.getCalendarDetail(userId, calendarId);
-        return ResponseEntity.ok(ApiResponse.ok("캘린더 상세 조회 성공", data));
+        var body = ApiResponse.ok("캘린더 상세 조회 성공", data);
+        return etag.isPresent() ? ConditionalGet.ok(etag.get(), body) : ResponseEntity.ok(body);
     }
 
     @Operation(
@@ -241,6 +251,22 @@ public class CalendarController {
         return ResponseEntity.ok(ApiResponse.ok("캘린더 히스토리 조회 성공",data));
     }
 
+    @Operation(
+            summary = "캘린더 히스토리 목록 조회 (커서)",
+            description = "캘린더 히스토리를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다."
+    )
+    @GetMapping("/calendars/{calendarId}/histories/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<CalendarHistoryDto>>> scrollHistories(
+            @AuthenticationPrincipal(expression="id") Long userId,
+            @PathVariable Long calendarId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        size = Math.min(Math.max(size, 1), 100);
+        var data = calendarHistoryQueryService.scroll(userId, calendarId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok("캘린더 히스토리 조회 성공", data));
+    }
+
     @Operation(
             summary = "받은 캘린더 초대 목록 조회",
             description = "받은 캘린더 초대 목록을 조회합니다."
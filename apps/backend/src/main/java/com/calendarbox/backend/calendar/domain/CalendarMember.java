@@ -24,7 +24,8 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public class CalendarMember {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_member_seq")
+    @SequenceGenerator(name = "calendar_member_seq", sequenceName = "calendar_member_calendar_member_id_seq", allocationSize = 50)
     @Column(name = "calendar_member_id")
     private Long id;
 
@@ -1,6 +1,7 @@
 package com.calendarbox.backend.calendar.repository;
 
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.List;
 
 public interface CalendarHistoryRepository extends JpaRepository<CalendarHistory, Long> {
     @EntityGraph(attributePaths = "actor")
@@ -27,4 +29,19 @@ public interface CalendarHistoryRepository extends JpaRepository<CalendarHistory
             @Param("calendarId") Long calendarId,
             Pageable pageable
     );
+
+    // keyset (count 없음) - 최신순, beforeId가 null이면 첫 페이지
+    @EntityGraph(attributePaths = "actor")
+    @Query("""
+        select h from CalendarHistory h
+        where h.calendar.id = :calendarId
+          and (:beforeId is null or h.createdAt < :beforeAt or (h.createdAt = :beforeAt and h.id < :beforeId))
+        order by h.createdAt desc, h.id desc
+    """)
+    List<CalendarHistory> findSliceBefore(
+            @Param("calendarId") Long calendarId,
+            @Param("beforeAt") Instant beforeAt,
+            @Param("beforeId") Long beforeId,
+            Limit limit
+    );
 }
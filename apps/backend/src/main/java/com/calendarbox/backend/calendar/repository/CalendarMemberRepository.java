@@ -160,6 +160,23 @@ order by c.name asc, c.id desc
     """)
     List<Long> findCalendarIdsByMemberIdAndStatuses(@Param("memberId")Long memberId, @Param("statuses")List<CalendarMemberStatus> statuses);
 
+    @Query("""
+    select cm.member.id
+    from CalendarMember cm
+    where cm.calendar.id = :calendarId
+      and cm.member.id in :memberIds
+      and cm.status = com.calendarbox.backend.calendar.enums.CalendarMemberStatus.ACCEPTED
+    """)
+    List<Long> findAcceptedMemberIdsIn(@Param("calendarId") Long calendarId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Query("""
+    select cm.member.id
+    from CalendarMember cm
+    where cm.calendar.id = :calendarId
+      and cm.status = com.calendarbox.backend.calendar.enums.CalendarMemberStatus.ACCEPTED
+    """)
+    List<Long> findAcceptedMemberIds(@Param("calendarId") Long calendarId);
+
     @Query("""
 select case when count(cm) > 0 then true else false end
 from CalendarMember cm
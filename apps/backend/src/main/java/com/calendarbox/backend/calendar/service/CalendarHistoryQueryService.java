@@ -3,14 +3,16 @@ package com.calendarbox.backend.calendar.service;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.dto.response.CalendarHistoryDto;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.global.dto.Cursor;
+import com.calendarbox.backend.global.dto.CursorResponse;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -25,7 +28,7 @@ import java.util.Objects;
 @Transactional(readOnly = true)
 public class CalendarHistoryQueryService {
 
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final CalendarHistoryRepository calendarHistoryRepository;
     private final ScheduleRepository scheduleRepository;
 
@@ -34,15 +37,33 @@ public class CalendarHistoryQueryService {
             Long calendarId,
             Pageable pageable
     ) {
-        if (!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(
-                calendarId, userId, CalendarMemberStatus.ACCEPTED
-        )) {
-            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
-        }
+        checkAccepted(userId, calendarId);
 
         Page<CalendarHistory> page = calendarHistoryRepository.findPage(calendarId, pageable);
+        Map<Long, Schedule> scheduleMap = loadSchedules(page.getContent());
+        return page.map(h -> toDto(h, calendarId, scheduleMap));
+    }
+
+    /** getHistories의 keyset 버전 - 최신순 고정, count 없음 */
+    public CursorResponse<CalendarHistoryDto> scroll(Long userId, Long calendarId, String cursor, int size) {
+        checkAccepted(userId, calendarId);
+        Cursor before = Cursor.decode(cursor);
+
+        List<CalendarHistory> rows = calendarHistoryRepository.findSliceBefore(calendarId,
+                before == null ? null : before.at(), before == null ? null : before.id(), Limit.of(size + 1));
+        CursorResponse<CalendarHistory> slice = CursorResponse.of(rows, size, h -> new Cursor(h.getCreatedAt(), h.getId()));
+        Map<Long, Schedule> scheduleMap = loadSchedules(slice.content());
+        return slice.map(h -> toDto(h, calendarId, scheduleMap));
+    }
+
+    private void checkAccepted(Long userId, Long calendarId) {
+        if (!accessDecisionCache.isCalendarMember(calendarId, userId)) {
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        }
+    }
 
-        List<Long> scheduleIds = page.getContent().stream()
+    private Map<Long, Schedule> loadSchedules(List<CalendarHistory> histories) {
+        List<Long> scheduleIds = histories.stream()
                 .filter(h -> h.getType() == CalendarHistoryType.SCHEDULE_CREATED
                         || h.getType() == CalendarHistoryType.SCHEDULE_UPDATED
                         || h.getType() == CalendarHistoryType.SCHEDULE_DELETED)
@@ -51,76 +72,76 @@ public class CalendarHistoryQueryService {
                 .distinct()
                 .toList();
 
-        final var scheduleMap = scheduleIds.isEmpty()
-                ? java.util.Map.<Long, Schedule>of()
+        return scheduleIds.isEmpty()
+                ? Map.<Long, Schedule>of()
                 : scheduleRepository.findAllById(scheduleIds).stream()
                 .collect(java.util.stream.Collectors.toMap(Schedule::getId, s -> s));
+    }
 
-        return page.map(h -> {
-            CalendarHistoryType t = h.getType();
-            String actorName = (h.getActor() == null ? null : h.getActor().getName());
-
-            // 1) Schedule 계열
-            if (t == CalendarHistoryType.SCHEDULE_CREATED
-                    || t == CalendarHistoryType.SCHEDULE_UPDATED
-                    || t == CalendarHistoryType.SCHEDULE_DELETED) {
-
-                Schedule s = (h.getEntityId() == null) ? null : scheduleMap.get(h.getEntityId());
-
-                String title = (s != null) ? s.getTitle() : asString(h.getChangedFields().get("title"));
-                Instant startAt = (s != null) ? s.getStartAt() : asInstant(h.getChangedFields().get("startAt"));
-                Instant endAt = (s != null) ? s.getEndAt() : asInstant(h.getChangedFields().get("endAt"));
-
-                return new CalendarHistoryDto(
-                        h.getId(),
-                        calendarId,
-                        actorName,
-                        null,
-                        title,
-                        startAt,
-                        endAt,
-                        t,
-                        h.getCreatedAt()
-                );
-            }
+    private CalendarHistoryDto toDto(CalendarHistory h, Long calendarId, Map<Long, Schedule> scheduleMap) {
+        CalendarHistoryType t = h.getType();
+        String actorName = (h.getActor() == null ? null : h.getActor().getName());
 
-            // 2) Member 계열
-            if (t == CalendarHistoryType.CALENDAR_MEMBER_ADDED
-                    || t == CalendarHistoryType.CALENDAR_MEMBER_REMOVED) {
-
-                // 저장 키가 통일되어 있지 않아서 values 중 첫 값(대개 이름)을 targetName으로 사용
-                String targetName = null;
-                if (h.getChangedFields() != null && !h.getChangedFields().isEmpty()) {
-                    Object first = h.getChangedFields().values().iterator().next();
-                    targetName = asString(first);
-                }
-
-                return new CalendarHistoryDto(
-                        h.getId(),
-                        calendarId,
-                        actorName,         // 여기 null로 두고 싶으면 null로 바꿔도 됨
-                        targetName,
-                        null,
-                        null,
-                        null,
-                        t,
-                        h.getCreatedAt()
-                );
-            }
+        // 1) Schedule 계열
+        if (t == CalendarHistoryType.SCHEDULE_CREATED
+                || t == CalendarHistoryType.SCHEDULE_UPDATED
+                || t == CalendarHistoryType.SCHEDULE_DELETED) {
+
+            Schedule s = (h.getEntityId() == null) ? null : scheduleMap.get(h.getEntityId());
+
+            String title = (s != null) ? s.getTitle() : asString(h.getChangedFields().get("title"));
+            Instant startAt = (s != null) ? s.getStartAt() : asInstant(h.getChangedFields().get("startAt"));
+            Instant endAt = (s != null) ? s.getEndAt() : asInstant(h.getChangedFields().get("endAt"));
 
-            // 3) Calendar 업데이트 등
             return new CalendarHistoryDto(
                     h.getId(),
                     calendarId,
                     actorName,
                     null,
+                    title,
+                    startAt,
+                    endAt,
+                    t,
+                    h.getCreatedAt()
+            );
+        }
+
+        // 2) Member 계열
+        if (t == CalendarHistoryType.CALENDAR_MEMBER_ADDED
+                || t == CalendarHistoryType.CALENDAR_MEMBER_REMOVED) {
+
+            // 저장 키가 통일되어 있지 않아서 values 중 첫 값(대개 이름)을 targetName으로 사용
+            String targetName = null;
+            if (h.getChangedFields() != null && !h.getChangedFields().isEmpty()) {
+                Object first = h.getChangedFields().values().iterator().next();
+                targetName = asString(first);
+            }
+
+            return new CalendarHistoryDto(
+                    h.getId(),
+                    calendarId,
+                    actorName,         // 여기 null로 두고 싶으면 null로 바꿔도 됨
+                    targetName,
                     null,
                     null,
                     null,
                     t,
                     h.getCreatedAt()
             );
-        });
+        }
+
+        // 3) Calendar 업데이트 등
+        return new CalendarHistoryDto(
+                h.getId(),
+                calendarId,
+                actorName,
+                null,
+                null,
+                null,
+                null,
+                t,
+                h.getCreatedAt()
+        );
     }
 
     private String asString(Object v) {
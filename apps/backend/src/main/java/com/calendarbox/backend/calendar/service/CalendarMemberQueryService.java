@@ -5,6 +5,7 @@ import com.calendarbox.backend.calendar.dto.response.InvitedCalendarMemberItem;
 import com.calendarbox.backend.calendar.enums.CalendarMemberSort;
 import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.dto.PageResponse;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
@@ -21,11 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CalendarMemberQueryService {
 
     private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
 
     public Page<CalendarMemberItem> listMembers(Long viewerId, Long calendarId, CalendarMemberStatus status, CalendarMemberSort sort, Pageable pageable){
-        boolean canView = calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(
-                calendarId, viewerId, CalendarMemberStatus.ACCEPTED
-        );
+        boolean canView = accessDecisionCache.isCalendarMember(calendarId, viewerId);
         if(!canView){
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
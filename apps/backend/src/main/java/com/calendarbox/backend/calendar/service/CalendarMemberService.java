@@ -14,6 +14,7 @@ import com.calendarbox.backend.calendar.enums.CalendarType;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
 import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
 import com.calendarbox.backend.calendar.repository.CalendarRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
@@ -21,6 +22,8 @@ import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.notification.domain.Notification;
 import com.calendarbox.backend.notification.enums.NotificationType;
 import com.calendarbox.backend.notification.repository.NotificationRepository;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -35,11 +38,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CalendarMemberService {
     private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final CalendarRepository calendarRepository;
     private final MemberRepository memberRepository;
     private final NotificationRepository notificationRepository;
     private final ObjectMapper objectMapper;
     private final CalendarHistoryRepository calendarHistoryRepository;
+    private final ScheduleChangeService scheduleChangeService;
+    private final FreeBusyCache freeBusyCache;
 
     public InviteMembersResponse inviteMembers(Long inviterId, Long calendarId, InviteMembersRequest request){
         Member inviter = memberRepository.findById(inviterId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
@@ -58,8 +64,7 @@ public class CalendarMemberService {
             throw new BusinessException(ErrorCode.INVITE_ONLY_FOR_GROUP);
         }
 
-        boolean inviterIsMember = calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(
-                calendarId, inviterId, CalendarMemberStatus.ACCEPTED);
+        boolean inviterIsMember = accessDecisionCache.isCalendarMember(calendarId, inviterId);
         if (!inviterIsMember){
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
@@ -193,6 +198,9 @@ public class CalendarMemberService {
                         .changedFields(Map.of("newCalendarMemberName:", calendarMember.getMember().getName()))
                         .build()
                 );
+                scheduleChangeService.calendarChanged(calendarMember.getCalendar().getId());
+                accessDecisionCache.calendarMemberChanged(calendarMember.getCalendar().getId(), responderId);
+                freeBusyCache.evictMembersAfterCommit(List.of(responderId));
             }
             case REJECT -> calendarMember.reject();
         }
@@ -224,6 +232,8 @@ public class CalendarMemberService {
                 throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
             calendarMemberRepository.delete(calendarMember);
         }
+        accessDecisionCache.calendarMemberChanged(calendarMember.getCalendar().getId(), targetId);
+        freeBusyCache.evictMembersAfterCommit(List.of(targetId));
 
         calendarHistoryRepository.save(
                 CalendarHistory.builder()
@@ -234,6 +244,7 @@ public class CalendarMemberService {
                         .changedFields(Map.of("removedCalendarMemberName:", calendarMember.getMember().getName()))
                         .build()
         );
+        scheduleChangeService.calendarChanged(calendarMember.getCalendar().getId());
 
         String msg = isWithdraw?
                 calendarMember.getCalendar().getName() + " 캘린더에서 탈퇴했습니다.":
@@ -13,10 +13,13 @@ import com.calendarbox.backend.calendar.enums.Visibility;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
 import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
 import com.calendarbox.backend.calendar.repository.CalendarRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +41,9 @@ public class CalendarService {
     private final CalendarMemberRepository calendarMemberRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
     private final ObjectMapper objectMapper;
+    private final ScheduleChangeService scheduleChangeService;
+    private final AccessDecisionCache accessDecisionCache;
+    private final FreeBusyCache freeBusyCache;
 
     public CreateCalendarResponse create(Long creatorId, String name, CalendarType type, Visibility visibility, boolean isDefault){
         Member creator = memberRepository.findByIdForUpdate(creatorId)
@@ -57,6 +63,9 @@ public class CalendarService {
         CalendarMember calendarMember = CalendarMember.create(calendar,creator,makeDefault);
         calendar.addMember(calendarMember);
         creator.addMember(calendarMember);
+        // 같은 id로 남아 있을 수 있는 '멤버 아님' 판정 제거
+        accessDecisionCache.calendarMemberChanged(calendar.getId(), creatorId);
+        freeBusyCache.evictMembersAfterCommit(List.of(creatorId));
 
         return new CreateCalendarResponse(
                 calendar.getId(),
@@ -107,6 +116,7 @@ public class CalendarService {
                 .changedFields(diff)
                 .build();
         calendarHistoryRepository.save(history);
+        scheduleChangeService.calendarChanged(c.getId());
 
         return new CalendarEditResponse(
                 c.getId(),
@@ -121,7 +131,10 @@ public class CalendarService {
         Calendar calendar = calendarRepository.findByIdAndOwner_Id(calendarId,userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CALENDAR_NOT_FOUND));
 
+        // 멤버 목록은 삭제 전에 조회
+        freeBusyCache.evictMembersAfterCommit(calendarMemberRepository.findAcceptedMemberIds(calendarId));
         calendarRepository.delete(calendar);
+        accessDecisionCache.calendarRemoved(calendarId);
     }
 
     public void setDefault(Long memberId, Long calendarId){
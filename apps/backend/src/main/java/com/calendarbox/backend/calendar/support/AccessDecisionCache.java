@@ -0,0 +1,118 @@
+package com.calendarbox.backend.calendar.support;
+
+import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
+import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.global.infra.cache.CacheInvalidator;
+import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
+import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 권한 검사(캘린더 ACCEPTED 멤버 / 일정 ACCEPTED 참가자) 결과 로컬 캐시.
+ * - 키 = (대상 종류, 캘린더/일정 id, 회원 id), 값 = 존재 여부 (없음도 캐시)
+ * - 멤버/참가자 상태를 바꾸는 서비스가 커밋 후 무효화 → 로컬에서 지우고 Redis pub/sub으로 다른 노드에도 전파
+ * - 회원별 ACCEPTED 캘린더 id 목록도 정렬된 long[]로 같이 보관 (캘린더 미지정 목록/검색/occurrence 조회용)
+ * - 전파가 유실돼도 TTL 안에는 맞춰짐
+ */
+@Slf4j
+@Component
+public class AccessDecisionCache {
+
+    static final String CHANNEL = "access:invalidate";
+
+    private enum Kind { C, S }
+
+    private record Key(Kind kind, Long targetId, Long memberId) {}
+
+    private final CalendarMemberRepository calendarMemberRepository;
+    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final Cache<Key, Boolean> cache;
+    private final Cache<Long, long[]> calendarIdsByMember;
+    private final CacheInvalidator invalidator;
+
+    public AccessDecisionCache(CalendarMemberRepository calendarMemberRepository,
+                               ScheduleParticipantRepository scheduleParticipantRepository,
+                               StringRedisTemplate redis,
+                               RedisMessageListenerContainer listenerContainer,
+                               @Value("${access.cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${access.cache.max-size:100000}") long maxSize) {
+        this.calendarMemberRepository = calendarMemberRepository;
+        this.scheduleParticipantRepository = scheduleParticipantRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.calendarIdsByMember = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.invalidator = new CacheInvalidator(CHANNEL, redis, listenerContainer, this::evictLocal);
+    }
+
+    /** calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(.., ACCEPTED) */
+    public boolean isCalendarMember(Long calendarId, Long memberId) {
+        return cache.get(new Key(Kind.C, calendarId, memberId), k ->
+                calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendarId, memberId, CalendarMemberStatus.ACCEPTED));
+    }
+
+    /** calendarMemberRepository.findCalendarIdsByMemberIdAndStatuses(.., [ACCEPTED]) - id 오름차순 */
+    public List<Long> acceptedCalendarIds(Long memberId) {
+        long[] ids = calendarIdsByMember.get(memberId, k -> calendarMemberRepository
+                .findCalendarIdsByMemberIdAndStatuses(memberId, List.of(CalendarMemberStatus.ACCEPTED))
+                .stream().mapToLong(Long::longValue).sorted().toArray());
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    /** scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(.., ACCEPTED) */
+    public boolean isScheduleParticipant(Long scheduleId, Long memberId) {
+        return cache.get(new Key(Kind.S, scheduleId, memberId), k ->
+                scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId, memberId, ScheduleParticipantStatus.ACCEPTED));
+    }
+
+    /** 캘린더 멤버 상태 변경 (수락/삭제/캘린더 생성) - 그 회원의 캘린더 id 목록도 */
+    public void calendarMemberChanged(Long calendarId, Long memberId) {
+        invalidator.invalidateAfterCommit(Kind.C + ":" + calendarId + ":" + memberId);
+    }
+
+    /** 캘린더 삭제 - 그 캘린더의 항목 전부, 그 캘린더를 포함한 회원별 목록도 */
+    public void calendarRemoved(Long calendarId) {
+        invalidator.invalidateAfterCommit(Kind.C + ":" + calendarId + ":*");
+    }
+
+    /** 일정 참가자 상태 변경 (수락/삭제) */
+    public void scheduleParticipantChanged(Long scheduleId, Long memberId) {
+        invalidator.invalidateAfterCommit(Kind.S + ":" + scheduleId + ":" + memberId);
+    }
+
+    /** "C:12:34" / "S:56:34" / "C:12:*" */
+    private void evictLocal(String message) {
+        String[] parts = message.split(":");
+        if (parts.length != 3) return;
+        try {
+            Kind kind = Kind.valueOf(parts[0]);
+            Long targetId = Long.valueOf(parts[1]);
+            if ("*".equals(parts[2])) {
+                cache.asMap().keySet().removeIf(k -> k.kind() == kind && k.targetId().equals(targetId));
+                if (kind == Kind.C) {
+                    calendarIdsByMember.asMap().values().removeIf(ids -> Arrays.binarySearch(ids, targetId) >= 0);
+                }
+            } else {
+                Long memberId = Long.valueOf(parts[2]);
+                cache.invalidate(new Key(kind, targetId, memberId));
+                if (kind == Kind.C) calendarIdsByMember.invalidate(memberId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("[ACCESS CACHE] unknown message={}", message);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.calendarbox.backend.expense.service;
 
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.expense.domain.Expense;
 import com.calendarbox.backend.expense.domain.ExpenseLine;
 import com.calendarbox.backend.expense.dto.request.AddExpenseLineRequest;
@@ -12,8 +13,6 @@ import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import com.calendarbox.backend.schedule.service.ScheduleReminderQueryService;
 import lombok.RequiredArgsConstructor;
@@ -28,8 +27,8 @@ import java.util.Optional;
 @Transactional
 public class ExpenseLineService {
     private final MemberRepository memberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ExpenseRepository expenseRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
     private final ExpenseLineRepository expenseLineRepository;
 
     public ExpenseLineDto addExpenseLine(Long userId, Long expenseId, AddExpenseLineRequest request){
@@ -37,7 +36,7 @@ public class ExpenseLineService {
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
         Schedule schedule = expense.getSchedule();
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         ExpenseLine expenseLine = ExpenseLine.of(expense, request.label(),request.quantity(),request.unitAmount());
@@ -53,7 +52,7 @@ public class ExpenseLineService {
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
         Schedule schedule = expense.getSchedule();
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         ExpenseLine expenseLine = expenseLineRepository.findById(expenseLineId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_LINE_NOT_FOUND));
@@ -80,7 +79,7 @@ public class ExpenseLineService {
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
         Schedule schedule = expense.getSchedule();
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(schedule.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(schedule.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         ExpenseLine expenseLine = expenseLineRepository.findById(expenseLineId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_LINE_NOT_FOUND));
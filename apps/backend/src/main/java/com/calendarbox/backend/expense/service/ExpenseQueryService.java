@@ -1,7 +1,6 @@
 package com.calendarbox.backend.expense.service;
 
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.expense.domain.Expense;
 import com.calendarbox.backend.expense.dto.response.ExpenseDetailResponse;
 import com.calendarbox.backend.expense.dto.response.ExpenseListItem;
@@ -12,8 +11,6 @@ import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,16 +23,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ExpenseQueryService {
     private final MemberRepository memberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
     private final ExpenseRepository expenseRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
     public ExpenseListResponse getExpenses(Long userId, Long scheduleId){
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if(!schedule.getCreatedBy().getId().equals(userId)
-        && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
-        && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(schedule.getCalendar().getId(),userId, CalendarMemberStatus.ACCEPTED))
+        && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
+        && !accessDecisionCache.isCalendarMember(schedule.getCalendar().getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         List<Expense> expenses =  expenseRepository.findBySchedule_Id(scheduleId);
@@ -60,8 +56,8 @@ public class ExpenseQueryService {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if(!schedule.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(schedule.getCalendar().getId(),userId, CalendarMemberStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
+                && !accessDecisionCache.isCalendarMember(schedule.getCalendar().getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
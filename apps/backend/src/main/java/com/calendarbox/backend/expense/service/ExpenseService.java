@@ -2,6 +2,7 @@ package com.calendarbox.backend.expense.service;
 
 import com.calendarbox.backend.attachment.domain.Attachment;
 import com.calendarbox.backend.attachment.repository.AttachmentRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.expense.dto.request.AddExpenseRequest;
 import com.calendarbox.backend.expense.dto.request.EditExpenseRequest;
 import com.calendarbox.backend.expense.dto.response.AddExpenseResponse;
@@ -14,9 +15,8 @@ import com.calendarbox.backend.global.infra.storage.StorageClient;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import com.calendarbox.backend.schedule.service.ScheduleCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,9 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional
 public class ExpenseService {
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final MemberRepository memberRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleCounterService scheduleCounterService;
     private final ExpenseRepository expenseRepository;
     private final StorageClient storageClient;
     private final AttachmentRepository attachmentRepository;
@@ -36,7 +37,7 @@ public class ExpenseService {
         Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         Expense expense = Expense.fromManual(schedule, req.name(),req.amount(),req.paidAt(),req.occurrenceDate());
@@ -50,7 +51,7 @@ public class ExpenseService {
         Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
@@ -65,7 +66,7 @@ public class ExpenseService {
         Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        if(!schedule.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!schedule.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         Expense expense = expenseRepository.findById(expenseId).orElseThrow(() -> new BusinessException(ErrorCode.EXPENSE_NOT_FOUND));
@@ -77,5 +78,6 @@ public class ExpenseService {
 
         schedule.removeExpense(expense);
         expenseRepository.delete(expense);
+        if (!expense.getAttachments().isEmpty()) scheduleCounterService.changed(scheduleId);
     }
 }
@@ -0,0 +1,36 @@
+package com.calendarbox.backend.global.dto;
+
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 위치 (마지막으로 내려준 행의 정렬 키 + id).
+ * 클라이언트에는 base64url 문자열로만 내려가고, 정렬 방향은 엔드포인트마다 고정
+ */
+public record Cursor(Instant at, Long id) {
+
+    public String encode() {
+        String raw = at.getEpochSecond() + "." + at.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 값이면 첫 페이지(null), 형식이 틀리면 CURSOR_INVALID */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int dot = raw.indexOf('.');
+            int colon = raw.indexOf(':');
+            if (dot < 0 || colon < dot) throw new BusinessException(ErrorCode.CURSOR_INVALID);
+            Instant at = Instant.ofEpochSecond(
+                    Long.parseLong(raw.substring(0, dot)), Long.parseLong(raw.substring(dot + 1, colon)));
+            return new Cursor(at, Long.parseLong(raw.substring(colon + 1)));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new BusinessException(ErrorCode.CURSOR_INVALID);
+        }
+    }
+}
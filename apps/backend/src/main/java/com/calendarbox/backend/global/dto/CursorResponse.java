@@ -0,0 +1,27 @@
+package com.calendarbox.backend.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 응답 (전체 개수/페이지 수 없음 - count 쿼리를 하지 않음).
+ * 기존 offset 엔드포인트는 PageResponse 그대로
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,         // 다음 페이지 없으면 null
+        boolean hasNext
+) {
+    /** fetched는 size + 1개까지 조회한 결과 (넘치는 1개로 다음 페이지 여부 판단) */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Cursor> keyOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String next = hasNext ? keyOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, size, next, hasNext);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> f) {
+        return new CursorResponse<>(content.stream().map(f).toList(), size, nextCursor, hasNext);
+    }
+}
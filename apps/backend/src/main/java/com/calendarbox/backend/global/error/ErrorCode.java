@@ -5,6 +5,7 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     // 공통
     VALIDATION_ERROR("VALIDATION_ERROR", HttpStatus.BAD_REQUEST, "요청 값이 올바르지 않습니다."),
+    CURSOR_INVALID("CURSOR_INVALID", HttpStatus.BAD_REQUEST, "커서가 유효하지 않습니다. 처음부터 다시 조회해 주세요."),
     INTERNAL_ERROR("INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, "서버에서 오류가 발생했습니다."),
     EXTERNAL_API_ERROR("EXTERNAL_API_ERROR", HttpStatus.BAD_GATEWAY,"외부 API 연동 중 오류가 발생했습니다."),
     // 인증/인가
@@ -48,8 +49,11 @@ public enum ErrorCode {
     RECURRENCE_NOT_FOUND("RECURRENCE_NOT_FOUND", HttpStatus.NOT_FOUND, "반복 규칙이 존재하지 않습니다."),
     RECURRENCE_EXDATE_DUP("RECURRENCE_EXDATE_DUP", HttpStatus.CONFLICT, "예외 날짜가 이미 존재합니다."),
     RECURRENCE_EXDATE_NOT_FOUND("RECURRENCE_EXDATE_NOT_FOUND", HttpStatus.NOT_FOUND, "예외 날짜가 존재하지 않습니다."),
+    OCCURRENCE_NOT_FOUND("OCCURRENCE_NOT_FOUND", HttpStatus.NOT_FOUND, "해당 순번의 일정이 존재하지 않습니다."),
+    SYNC_TOKEN_INVALID("SYNC_TOKEN_INVALID", HttpStatus.GONE, "동기화 토큰이 유효하지 않습니다. 전체 동기화가 필요합니다."),
     SCHEDULE_RECUR_EXDATE_MISMATCH("SCHEDULE_RECUR_EXDATE_MISMATCH", HttpStatus.BAD_REQUEST, "예외 날짜가 해당 스케줄 반복에 속하지 않습니다."),
     RECURRENCE_UNTIL_BEFORE_END("RECURRENCE_UNTIL_BEFORE_END", HttpStatus.BAD_REQUEST, "반복 종료일은 스케줄 종료일 이후여야 합니다."),
+    RECURRENCE_TOO_EXPENSIVE("RECURRENCE_TOO_EXPENSIVE", HttpStatus.BAD_REQUEST, "반복 횟수가 너무 많습니다. 종료일을 앞당기거나 간격을 늘려 주세요."),
     RECURRENCE_ALREADY_EXISTS("RECURRENCE_ALREADY_EXISTS", HttpStatus.CONFLICT,"예외가 이미 존재합니다."),
 
     REMINDER_MINUTES_DUP("REMINDER_MINUTES_DUP", HttpStatus.CONFLICT,"리마인더가 이미 존재합니다."),
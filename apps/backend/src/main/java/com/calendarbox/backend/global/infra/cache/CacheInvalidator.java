@@ -0,0 +1,64 @@
+package com.calendarbox.backend.global.infra.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 공통 규칙 (AccessDecisionCache, FreeBusyCache, OccurrenceMonthCache).
+ * - 커밋 후에 실행 (트랜잭션 밖이면 바로) → 롤백된 변경으로 지우거나, 커밋 전 값으로 다시 채우지 않음
+ * - 로컬 캐시는 메시지를 로컬에 적용하고 Redis pub/sub 채널로 다른 노드에도 전파
+ * - 전파가 유실되거나 발행에 실패해도 다른 노드는 TTL 안에 맞춰짐
+ */
+@Slf4j
+public final class CacheInvalidator {
+
+    private final String channel;
+    private final StringRedisTemplate redis;
+    private final Consumer<String> evictLocal;
+
+    /** 채널 구독까지 등록. evictLocal은 이 노드와 다른 노드에서 온 메시지 모두에 호출됨 */
+    public CacheInvalidator(String channel, StringRedisTemplate redis, RedisMessageListenerContainer listenerContainer,
+                            Consumer<String> evictLocal) {
+        this.channel = channel;
+        this.redis = redis;
+        this.evictLocal = evictLocal;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+
+    /** 커밋 후 로컬 적용 + 전파 */
+    public void invalidateAfterCommit(String message) {
+        afterCommit(() -> invalidate(message));
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 밖이면 바로 실행 (롤백되면 실행 안 함) */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void invalidate(String message) {
+        evictLocal.accept(message);
+        try {
+            redis.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 다른 노드는 TTL로 맞춰짐
+            log.warn("[CACHE INVALIDATE] publish failed channel={} message={}", channel, message, e);
+        }
+    }
+}
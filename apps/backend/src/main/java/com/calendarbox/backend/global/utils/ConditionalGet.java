@@ -0,0 +1,25 @@
+package com.calendarbox.backend.global.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag 조건부 GET 응답.
+ * - Spring Security 기본 헤더(no-store)가 붙으면 클라이언트가 재검증을 못 하므로 private, no-cache로 명시
+ * - 304 판단은 컨트롤러에서 WebRequest.checkNotModified(etag)로 (If-None-Match 목록/약한 비교 처리)
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {}
+
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+}
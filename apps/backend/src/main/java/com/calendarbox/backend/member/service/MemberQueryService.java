@@ -1,8 +1,6 @@
 package com.calendarbox.backend.member.service;
 
-import com.calendarbox.backend.global.error.BusinessException;
-import com.calendarbox.backend.global.error.ErrorCode;
-import com.calendarbox.backend.member.domain.Member;
+import com.calendarbox.backend.auth.support.PrincipalResolver;
 import com.calendarbox.backend.member.dto.response.MemberSearchItem;
 import com.calendarbox.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +16,10 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class MemberQueryService {
     private final MemberRepository memberRepository;
+    private final PrincipalResolver principalResolver;
 
     public Page<MemberSearchItem> search(Long userId, String query, Pageable pageable){
-        Member user = memberRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        principalResolver.requireActive(userId);
 
         if (query == null) return Page.empty(pageable);
         String raw = query.trim();
@@ -46,7 +44,7 @@ public class MemberQueryService {
         if (phoneToken != null) phoneToken = "%" + phoneToken + "%";
 
         return memberRepository.searchByEmailLocalOrPhoneOrNameContains(
-                user.getId(), emailToken, phoneToken, nameToken, pageable
+                userId, emailToken, phoneToken, nameToken, pageable
         );
     }
 
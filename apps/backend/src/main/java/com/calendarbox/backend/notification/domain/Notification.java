@@ -20,7 +20,8 @@ import java.util.Map;
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_notification_id_seq", allocationSize = 50)
     @Column(name = "notification_id")
     private Long id;
 
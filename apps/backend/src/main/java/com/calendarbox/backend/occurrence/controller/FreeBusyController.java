@@ -0,0 +1,39 @@
+package com.calendarbox.backend.occurrence.controller;
+
+import com.calendarbox.backend.global.dto.ApiResponse;
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.occurrence.dto.response.FreeBusyResponse;
+import com.calendarbox.backend.occurrence.service.FreeBusyService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+@Tag(name = "FreeBusy", description = "회원 바쁜 시간 조회")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members")
+public class FreeBusyController {
+
+    private final FreeBusyService freeBusyService;
+
+    // 병합된 busy 구간만 (제목/캘린더 정보 없음)
+    @GetMapping("/{memberId}/freebusy")
+    public ResponseEntity<ApiResponse<FreeBusyResponse>> getFreeBusy(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long memberId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
+    ) {
+        if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        var resp = freeBusyService.getFreeBusy(userId, memberId, from, to, zone);
+        return ResponseEntity.ok(ApiResponse.ok("free/busy 조회 성공", resp));
+    }
+}
@@ -0,0 +1,35 @@
+package com.calendarbox.backend.occurrence.controller;
+
+import com.calendarbox.backend.global.dto.ApiResponse;
+import com.calendarbox.backend.occurrence.dto.request.MeetingSlotRequest;
+import com.calendarbox.backend.occurrence.dto.response.MeetingSlotResponse;
+import com.calendarbox.backend.occurrence.service.MeetingSlotService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.ZoneId;
+
+@Tag(name = "MeetingSlot", description = "그룹 공통 빈 시간 찾기")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/calendars")
+public class MeetingSlotController {
+
+    private final MeetingSlotService meetingSlotService;
+
+    // 캘린더 멤버들의 공통 빈 시간 (가장 이른 순)
+    @PostMapping("/{calendarId}/meeting-slots")
+    public ResponseEntity<ApiResponse<MeetingSlotResponse>> findMeetingSlots(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long calendarId,
+            @RequestBody @Valid MeetingSlotRequest request
+    ) {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        var resp = meetingSlotService.findSlots(userId, calendarId, request, zone);
+        return ResponseEntity.ok(ApiResponse.ok("공통 빈 시간 조회 성공", resp));
+    }
+}
@@ -3,17 +3,29 @@ package com.calendarbox.backend.occurrence.controller;
 import com.calendarbox.backend.global.dto.ApiResponse;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.global.utils.ConditionalGet;
 import com.calendarbox.backend.occurrence.dto.response.OccurrenceBucketResponse;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceIndexResponse;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceSyncResponse;
+import com.calendarbox.backend.occurrence.service.CachedOccurrenceService;
+import com.calendarbox.backend.occurrence.service.CalendarVersionService;
 import com.calendarbox.backend.occurrence.service.OccurrenceQueryService;
+import com.calendarbox.backend.occurrence.service.OccurrenceStreamService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Tag(name = "Occurrence", description = "캘린더 뷰")
 @RestController
@@ -22,6 +34,9 @@ import java.time.ZonedDateTime;
 public class OccurrenceController {
 
     private final OccurrenceQueryService occurrenceQueryService;
+    private final OccurrenceStreamService occurrenceStreamService;
+    private final CalendarVersionService calendarVersionService;
+    private final CachedOccurrenceService cachedOccurrenceService;
 
     // 특정 캘린더
     @GetMapping("/calendars/{calendarId}/occurrences")
@@ -29,24 +44,104 @@ public class OccurrenceController {
             @AuthenticationPrincipal(expression = "id") Long userId,
             @PathVariable Long calendarId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            WebRequest webRequest
     ) {
         if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
         ZoneId zone = ZoneId.of("Asia/Seoul");
-        var resp = occurrenceQueryService.getOccurrences(userId, /*nullable*/ calendarId, from, to, zone);
-        return ResponseEntity.ok(ApiResponse.ok("캘린더 occurrence 조회 성공", resp));
+        // 캘린더 순번이 그대로면 조회/전개 없이 304
+        String etag = calendarVersionService.occurrenceEtag(userId, calendarId, from, to, zone);
+        if (webRequest.checkNotModified(etag)) return ConditionalGet.notModified(etag);
+        var resp = cachedOccurrenceService.getOccurrences(userId, /*nullable*/ calendarId, from, to, zone);
+        return ConditionalGet.ok(etag, ApiResponse.ok("캘린더 occurrence 조회 성공", resp));
     }
 
     // 모든 캘린더 - 메인 대시보드
     @GetMapping("/occurrences")
     public ResponseEntity<ApiResponse<OccurrenceBucketResponse>> getOccurrencesAll(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            WebRequest webRequest
+    ) {
+        if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        // 내 캘린더 집합 + 각 순번으로 ETag (멤버십이 바뀌어도 달라짐)
+        String etag = calendarVersionService.occurrenceEtag(userId, null, from, to, zone);
+        if (webRequest.checkNotModified(etag)) return ConditionalGet.notModified(etag);
+        var resp = cachedOccurrenceService.getOccurrences(userId, /*calendarId=*/ null, from, to, zone);
+        return ConditionalGet.ok(etag, ApiResponse.ok("전체 occurrence 조회 성공", resp));
+    }
+
+    // 특정 캘린더 - 델타 동기화 (syncToken 이후 바뀐 일정의 occurrence만)
+    @GetMapping("/calendars/{calendarId}/occurrences/sync")
+    public ResponseEntity<ApiResponse<OccurrenceSyncResponse>> syncOccurrencesByCalendar(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long calendarId,
+            @RequestParam(required = false) String syncToken,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
+    ) {
+        if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        var resp = occurrenceQueryService.sync(userId, calendarId, syncToken, from, to, zone);
+        return ResponseEntity.ok(ApiResponse.ok("occurrence 동기화 성공", resp));
+    }
+
+    // 특정 캘린더 - 연간 뷰/내보내기용 스트리밍 (NDJSON, 날짜당 한 줄)
+    @GetMapping(value = "/calendars/{calendarId}/occurrences/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOccurrencesByCalendar(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
+    ) {
+        return stream(userId, calendarId, from, to);
+    }
+
+    // 모든 캘린더 - 스트리밍
+    @GetMapping(value = "/occurrences/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOccurrencesAll(
             @AuthenticationPrincipal(expression = "id") Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
     ) {
+        return stream(userId, /*calendarId=*/ null, from, to);
+    }
+
+    // 반복 시리즈의 n번째(0부터) occurrence
+    @GetMapping("/schedules/{scheduleId}/occurrences/nth")
+    public ResponseEntity<ApiResponse<OccurrenceItem>> getNthOccurrence(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long scheduleId,
+            @RequestParam long n
+    ) {
+        if (n < 0) throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        var resp = occurrenceQueryService.getNthOccurrence(userId, scheduleId, n, zone);
+        return ResponseEntity.ok(ApiResponse.ok("n번째 occurrence 조회 성공", resp));
+    }
+
+    // 특정 시각 기준 occurrence 순번 (그 이전에 시작한 occurrence 수)
+    @GetMapping("/schedules/{scheduleId}/occurrences/index")
+    public ResponseEntity<ApiResponse<OccurrenceIndexResponse>> getOccurrenceIndex(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @PathVariable Long scheduleId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime at
+    ) {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Instant atUtc = at.toInstant();
+        var resp = occurrenceQueryService.getOccurrenceIndex(userId, scheduleId, atUtc, zone);
+        return ResponseEntity.ok(ApiResponse.ok("occurrence 순번 조회 성공", resp));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(Long userId, Long calendarIdOrNull,
+                                                         ZonedDateTime from, ZonedDateTime to) {
         if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
         ZoneId zone = ZoneId.of("Asia/Seoul");
-        var resp = occurrenceQueryService.getOccurrences(userId, /*calendarId=*/ null, from, to, zone);
-        return ResponseEntity.ok(ApiResponse.ok("전체 occurrence 조회 성공", resp));
+        // 권한 검사는 응답 시작 전에 (스트리밍 도중엔 상태 코드를 바꿀 수 없음)
+        List<Long> calendarIds = occurrenceQueryService.resolveViewableCalendarIds(userId, calendarIdOrNull);
+        StreamingResponseBody body = out -> occurrenceStreamService.write(calendarIds, from, to, zone, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 }
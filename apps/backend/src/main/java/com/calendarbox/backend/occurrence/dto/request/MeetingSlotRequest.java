@@ -0,0 +1,23 @@
+package com.calendarbox.backend.occurrence.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record MeetingSlotRequest(
+        @NotEmpty @Size(max = 100) List<Long> memberIds,
+        @NotNull ZonedDateTime from,
+        @NotNull ZonedDateTime to,
+        @NotNull @Min(5) Integer durationMinutes,
+        LocalTime workStart,        // 기본 09:00
+        LocalTime workEnd,          // 기본 18:00
+        Integer slotMinutes,        // 5 | 15, 기본 15
+        @Min(1) @Max(50) Integer limit   // 기본 5
+) {
+}
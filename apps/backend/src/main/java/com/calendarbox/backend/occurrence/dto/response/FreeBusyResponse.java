@@ -0,0 +1,11 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record FreeBusyResponse(
+        Long memberId,
+        Instant fromUtc,
+        Instant toUtc,
+        List<BusyIntervalItem> busy
+) {}
@@ -0,0 +1,8 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.time.Instant;
+
+public record MeetingSlotItem(
+        Instant startAtUtc,
+        Instant endAtUtc
+) {}
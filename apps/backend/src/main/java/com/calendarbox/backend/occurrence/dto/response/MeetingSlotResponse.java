@@ -0,0 +1,10 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.util.List;
+
+public record MeetingSlotResponse(
+        Long calendarId,
+        int slotMinutes,
+        int durationMinutes,
+        List<MeetingSlotItem> slots
+) {}
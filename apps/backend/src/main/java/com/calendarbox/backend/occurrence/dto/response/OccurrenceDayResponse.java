@@ -0,0 +1,9 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OccurrenceDayResponse(
+        LocalDate date,
+        List<OccurrenceItem> items
+) {}
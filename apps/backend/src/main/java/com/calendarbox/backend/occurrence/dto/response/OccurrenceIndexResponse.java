@@ -0,0 +1,9 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.time.Instant;
+
+public record OccurrenceIndexResponse(
+        Long scheduleId,
+        Instant at,
+        long index
+) {}
@@ -0,0 +1,20 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 델타 동기화 결과.
+ * - fullSync=true: 윈도우 전체를 occurrences로 교체
+ * - fullSync=false: changed/removed 일정의 기존 occurrence를 지우고 occurrences를 추가
+ */
+public record OccurrenceSyncResponse(
+        Long calendarId,
+        String syncToken,
+        boolean fullSync,
+        Instant fromUtc,
+        Instant toUtc,
+        List<Long> changedScheduleIds,
+        List<Long> removedScheduleIds,
+        List<OccurrenceItem> occurrences
+) {}
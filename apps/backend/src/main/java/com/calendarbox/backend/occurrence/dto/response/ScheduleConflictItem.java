@@ -0,0 +1,21 @@
+package com.calendarbox.backend.occurrence.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+// 볼 수 없는 캘린더의 일정은 scheduleId/calendarId/title 없이 시간만 (busy)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScheduleConflictItem(
+        Long scheduleId,
+        Long calendarId,
+        String title,
+        Instant startAtUtc,
+        Instant endAtUtc,
+        boolean recurring,
+        boolean sameCalendar     // false = 같은 참가자가 들어간 다른 캘린더 일정
+) {
+    public static ScheduleConflictItem busy(Instant startAtUtc, Instant endAtUtc, boolean recurring) {
+        return new ScheduleConflictItem(null, null, null, startAtUtc, endAtUtc, recurring, false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.calendarbox.backend.occurrence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 전개용 예외 날짜 projection.
+ * ScheduleRecurrenceException 엔티티를 올리지 않고 시리즈별 date[] 한 행으로 읽어 epoch day 배열로 바꿈
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecurrenceExceptionDayRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * recurrenceId → 예외 날짜 (epoch day 오름차순). 예외가 없는 시리즈는 빠짐.
+     * fromDate/toDate가 null이면 전체 날짜
+     */
+    public Map<Long, int[]> findEpochDays(Collection<Long> recurrenceIds, LocalDate fromDate, LocalDate toDate) {
+        Map<Long, int[]> out = new HashMap<>();
+        if (recurrenceIds.isEmpty()) return out;
+        boolean windowed = fromDate != null && toDate != null;
+        String sql = """
+                SELECT schedule_recurrence_id, array_agg(DISTINCT exception_date ORDER BY exception_date) AS days
+                FROM schedule_recurrence_exception
+                WHERE schedule_recurrence_id = ANY (?)
+                """
+                + (windowed ? "  AND exception_date BETWEEN ? AND ?\n" : "")
+                + "GROUP BY schedule_recurrence_id";
+
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", recurrenceIds.toArray()));
+            if (windowed) {
+                ps.setObject(2, fromDate);
+                ps.setObject(3, toDate);
+            }
+            return ps;
+        }, rs -> {
+            Date[] dates = (Date[]) rs.getArray("days").getArray();
+            int[] days = new int[dates.length];
+            for (int i = 0; i < dates.length; i++) days[i] = (int) dates[i].toLocalDate().toEpochDay();
+            out.put(rs.getLong("schedule_recurrence_id"), days);
+        });
+        return out;
+    }
+}
@@ -0,0 +1,91 @@
+package com.calendarbox.backend.occurrence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 캘린더 변경 순번(calendar.change_seq)과 일정 단위 변경 로그(schedule_change).
+ * - 순번은 calendar 행 UPDATE로 발급 → 같은 캘린더의 쓰기는 커밋 순서대로 순번을 받음
+ * - 일정마다 마지막 변경만 남기므로 로그 크기는 일정 수(+툼스톤)로 제한됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleChangeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ChangeRow(Long scheduleId, long changeSeq, boolean removed) {}
+
+    /** 다음 순번 발급 (calendar 행 잠금은 트랜잭션 끝까지 유지) */
+    public long nextSeq(Long calendarId) {
+        Long seq = jdbcTemplate.queryForObject(
+                "UPDATE calendar SET change_seq = change_seq + 1 WHERE calendar_id = ? RETURNING change_seq",
+                Long.class, calendarId);
+        return seq == null ? 0L : seq;
+    }
+
+    public long currentSeq(Long calendarId) {
+        List<Long> seq = jdbcTemplate.queryForList(
+                "SELECT change_seq FROM calendar WHERE calendar_id = ?", Long.class, calendarId);
+        return seq.isEmpty() ? 0L : seq.get(0);
+    }
+
+    /** 캘린더별 현재 순번 (없는 캘린더는 빠짐) */
+    public Map<Long, Long> findSeqs(Collection<Long> calendarIds) {
+        Map<Long, Long> out = new HashMap<>();
+        if (calendarIds.isEmpty()) return out;
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT calendar_id, change_seq FROM calendar WHERE calendar_id = ANY (?)");
+            ps.setArray(1, con.createArrayOf("bigint", calendarIds.toArray()));
+            return ps;
+        }, rs -> {
+            out.put(rs.getLong("calendar_id"), rs.getLong("change_seq"));
+        });
+        return out;
+    }
+
+    /**
+     * 추가 조회 없이 상세 조회가 허용되는 경우(소유자, PUBLIC, 그룹 멤버)에만 순번을 돌려줌.
+     * 친구 관계로 허용되는 경우 등은 비어 있음 → 호출부에서 일반 경로로 처리
+     */
+    public Optional<Long> findSeqIfDirectlyVisible(Long calendarId, Long viewerId) {
+        List<Long> seq = jdbcTemplate.queryForList("""
+                SELECT c.change_seq
+                  FROM calendar c
+                 WHERE c.calendar_id = ?
+                   AND (c.owner_id = ?
+                        OR c.visibility = 'PUBLIC'
+                        OR (c.type = 'GROUP' AND EXISTS (
+                                SELECT 1 FROM calendar_member cm
+                                 WHERE cm.calendar_id = c.calendar_id
+                                   AND cm.member_id = ?
+                                   AND cm.status IN ('ACCEPTED', 'INVITED'))))
+                """, Long.class, calendarId, viewerId, viewerId);
+        return seq.stream().findFirst();
+    }
+
+    public void upsert(Long calendarId, Long scheduleId, long seq, boolean removed) {
+        jdbcTemplate.update("""
+                INSERT INTO schedule_change (calendar_id, schedule_id, change_seq, removed)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (calendar_id, schedule_id)
+                DO UPDATE SET change_seq = EXCLUDED.change_seq, removed = EXCLUDED.removed
+                """, calendarId, scheduleId, seq, removed);
+    }
+
+    /** (sinceExclusive, untilInclusive] 사이에 바뀐 일정 */
+    public List<ChangeRow> findBetween(Long calendarId, long sinceExclusive, long untilInclusive) {
+        return jdbcTemplate.query("""
+                SELECT schedule_id, change_seq, removed
+                  FROM schedule_change
+                 WHERE calendar_id = ?
+                   AND change_seq > ?
+                   AND change_seq <= ?
+                 ORDER BY change_seq ASC
+                """, (rs, rowNum) -> new ChangeRow(rs.getLong("schedule_id"), rs.getLong("change_seq"), rs.getBoolean("removed")),
+                calendarId, sinceExclusive, untilInclusive);
+    }
+}
@@ -0,0 +1,320 @@
+package com.calendarbox.backend.occurrence.repository;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * schedule_occurrence(물리화된 occurrence) 접근.
+ * - 대량 insert/delete가 잦아서 JPA 엔티티 대신 JDBC로 직접 다룸
+ * - 시간은 전부 UTC(timestamptz)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleOccurrenceRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    // 윈도우 [:fromUtc, :toUtc)를 물리화된 occurrence가 다 덮지 못하는 시리즈 (r = schedule_recurrence)
+    private static final String LAGGING_SERIES = """
+                   AND r.until >= :fromUtc
+                   AND (r.materialized_until IS NULL
+                        OR (r.materialized_until < :toUtc AND r.materialized_until < r.until)
+                        OR r.materialized_from > :fromUtc)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record OccurrenceRow(Long scheduleId, Long calendarId, String title, String theme,
+                                Instant startAt, Instant endAt, boolean recurring) {}
+
+    public record HorizonTarget(Long scheduleId, Instant materializedUntil) {}
+
+    public record ConflictRow(Long scheduleId, Long calendarId, String title,
+                              Instant startAt, Instant endAt, boolean recurring, boolean sameCalendar) {}
+
+    private final RowMapper<OccurrenceRow> occurrenceRowMapper =
+            (rs, rowNum) -> new OccurrenceRow(
+                    rs.getLong("schedule_id"),
+                    rs.getLong("calendar_id"),
+                    rs.getString("title"),
+                    rs.getString("theme"),
+                    instant(rs, "start_at"),
+                    instant(rs, "end_at"),
+                    rs.getBoolean("recurring")
+            );
+
+    public void deleteBySchedule(Long scheduleId) {
+        jdbcTemplate.update("DELETE FROM schedule_occurrence WHERE schedule_id = ?", scheduleId);
+    }
+
+    /** start_at 기준 [fromInclusive, toExclusive) 구간의 occurrence 삭제 (예외 날짜 추가 시) */
+    public int deleteStartingBetween(Long scheduleId, Instant fromInclusive, Instant toExclusive) {
+        return jdbcTemplate.update("""
+                DELETE FROM schedule_occurrence
+                 WHERE schedule_id = ?
+                   AND start_at >= ?
+                   AND start_at <  ?
+                """, scheduleId, utc(fromInclusive), utc(toExclusive));
+    }
+
+    /** 이미 있는 (schedule_id, start_at)은 무시 → horizon 경계에서 겹쳐 전개돼도 안전 */
+    public void insertAll(Long scheduleId, Long calendarId, boolean recurring, List<RecurrenceExpander.Slice> slices) {
+        if (slices.isEmpty()) return;
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO schedule_occurrence (schedule_id, calendar_id, start_at, end_at, recurring)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (schedule_id, start_at) DO NOTHING
+                """, slices, 500, (ps, slice) -> {
+            ps.setLong(1, scheduleId);
+            ps.setLong(2, calendarId);
+            ps.setObject(3, utc(slice.startUtc()));
+            ps.setObject(4, utc(slice.endUtc()));
+            ps.setBoolean(5, recurring);
+        });
+    }
+
+    /** 물리화 구간 기록 (from NULL = 시드부터, until NULL = 저장 안 함/INLINE) */
+    public void markMaterialized(Long scheduleId, Instant materializedFrom, Instant materializedUntil) {
+        jdbcTemplate.update("UPDATE schedule_recurrence SET materialized_from = ?, materialized_until = ? WHERE schedule_id = ?",
+                utc(materializedFrom), utc(materializedUntil), scheduleId);
+    }
+
+    /** horizon 연장 (시작 지점은 그대로) */
+    public void extendMaterialized(Long scheduleId, Instant materializedUntil) {
+        jdbcTemplate.update("UPDATE schedule_recurrence SET materialized_until = ? WHERE schedule_id = ?",
+                utc(materializedUntil), scheduleId);
+    }
+
+    public List<OccurrenceRow> findOverlapping(Collection<Long> calendarIds, Instant fromUtc, Instant toUtc) {
+        var params = new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.query("""
+                SELECT o.schedule_id, o.calendar_id, s.title, s.theme, o.start_at, o.end_at, o.recurring
+                  FROM schedule_occurrence o
+                  JOIN schedule s ON s.schedule_id = o.schedule_id
+                 WHERE o.calendar_id IN (:calIds)
+                   AND o.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                 ORDER BY o.start_at ASC, o.schedule_id ASC
+                """, params, occurrenceRowMapper);
+    }
+
+    /**
+     * 윈도우와 겹치는 단발 일정 (schedule 테이블에서 필요한 컬럼만 바로 읽음 - 엔티티/영속성 컨텍스트 거치지 않음).
+     * 물리화 타임존이 아닌 조회처럼 인덱스(schedule_occurrence) 대신 원본이 필요한 경우용.
+     * start_at 순 (조회 서비스가 정렬 없이 반복 전개 결과와 병합)
+     */
+    public List<OccurrenceRow> findSingles(Collection<Long> calendarIds, Instant fromUtc, Instant toUtc) {
+        if (calendarIds.isEmpty()) return List.of();
+        var params = new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.query("""
+                SELECT s.schedule_id, s.calendar_id, s.title, s.theme, s.start_at, s.end_at, false AS recurring
+                  FROM schedule s
+                 WHERE s.calendar_id IN (:calIds)
+                   AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                   AND NOT EXISTS (SELECT 1 FROM schedule_recurrence r WHERE r.schedule_id = s.schedule_id)
+                 ORDER BY s.start_at ASC, s.schedule_id ASC
+                """, params, occurrenceRowMapper);
+    }
+
+    /** 델타 동기화: 바뀐 일정 중 윈도우와 겹치는 단발 일정 */
+    public List<OccurrenceRow> findSinglesByIds(Collection<Long> scheduleIds, Instant fromUtc, Instant toUtc) {
+        if (scheduleIds.isEmpty()) return List.of();
+        var params = new MapSqlParameterSource()
+                .addValue("ids", scheduleIds)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.query("""
+                SELECT s.schedule_id, s.calendar_id, s.title, s.theme, s.start_at, s.end_at, false AS recurring
+                  FROM schedule s
+                 WHERE s.schedule_id IN (:ids)
+                   AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                   AND NOT EXISTS (SELECT 1 FROM schedule_recurrence r WHERE r.schedule_id = s.schedule_id)
+                """, params, occurrenceRowMapper);
+    }
+
+    /** 참가자(ACCEPTED)로 들어가 있는 단발 일정 - free/busy용 */
+    public List<OccurrenceRow> findSinglesByAcceptedParticipant(Long memberId, Instant fromUtc, Instant toUtc) {
+        var params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.query("""
+                SELECT s.schedule_id, s.calendar_id, s.title, s.theme, s.start_at, s.end_at, false AS recurring
+                  FROM schedule s
+                  JOIN schedule_participant sp ON sp.schedule_id = s.schedule_id
+                 WHERE sp.member_id = :memberId
+                   AND sp.status = 'ACCEPTED'
+                   AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                   AND NOT EXISTS (SELECT 1 FROM schedule_recurrence r WHERE r.schedule_id = s.schedule_id)
+                """, params, occurrenceRowMapper);
+    }
+
+    /**
+     * 윈도우와 겹치는 단발 일정을 start_at 순으로 스트리밍 (대용량 export용).
+     * - fetch size를 지정해 한 번에 전부 메모리에 올리지 않음 (트랜잭션 안에서 호출해야 커서로 동작)
+     * - 반환된 Stream은 호출부에서 반드시 닫아야 함
+     */
+    public Stream<OccurrenceRow> streamSingles(Collection<Long> calendarIds, Instant fromUtc, Instant toUtc) {
+        return jdbcTemplate.queryForStream(con -> {
+            var ps = con.prepareStatement("""
+                    SELECT s.schedule_id, s.calendar_id, s.title, s.theme, s.start_at, s.end_at, false AS recurring
+                      FROM schedule s
+                     WHERE s.calendar_id = ANY (?)
+                       AND s.time_range && tstzrange(?, ?, '[)')
+                       AND NOT EXISTS (SELECT 1 FROM schedule_recurrence r WHERE r.schedule_id = s.schedule_id)
+                     ORDER BY s.start_at ASC, s.schedule_id ASC
+                    """);
+            ps.setArray(1, con.createArrayOf("bigint", calendarIds.toArray()));
+            ps.setObject(2, utc(fromUtc));
+            ps.setObject(3, utc(toUtc));
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, occurrenceRowMapper);
+    }
+
+    /**
+     * 주어진 구간들(한 일정의 occurrence)과 겹치는 다른 일정의 occurrence.
+     * - 같은 캘린더: (calendar_id, time_range) GiST
+     * - 다른 캘린더: memberIds 중 누군가 ACCEPTED 참가자인 일정
+     * 물리화된 행만 보므로 물리화가 덮지 못하는 시리즈는 호출부에서 따로 전개해야 함
+     */
+    public List<ConflictRow> findConflicting(Long scheduleId, Long calendarId, Collection<Long> memberIds,
+                                             List<RecurrenceExpander.Slice> slices, int limit) {
+        if (slices.isEmpty()) return List.of();
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("""
+                    WITH mine AS (
+                        SELECT tstzrange(m.st, m.et, '[)') AS r
+                          FROM unnest(?::text[]::timestamptz[], ?::text[]::timestamptz[]) AS m(st, et)
+                    ), hits AS (
+                        SELECT o.schedule_id, o.start_at, o.end_at, o.recurring, true AS same_calendar
+                          FROM mine
+                          JOIN schedule_occurrence o ON o.calendar_id = ? AND o.time_range && mine.r
+                         WHERE o.schedule_id <> ?
+                        UNION
+                        SELECT o.schedule_id, o.start_at, o.end_at, o.recurring, false
+                          FROM schedule_participant p
+                          JOIN schedule_occurrence o ON o.schedule_id = p.schedule_id
+                          JOIN mine ON o.time_range && mine.r
+                         WHERE p.member_id = ANY (?)
+                           AND p.status = 'ACCEPTED'
+                           AND o.calendar_id <> ?
+                           AND o.schedule_id <> ?
+                    )
+                    SELECT h.schedule_id, s.calendar_id, s.title, h.start_at, h.end_at, h.recurring, h.same_calendar
+                      FROM hits h
+                      JOIN schedule s ON s.schedule_id = h.schedule_id
+                     ORDER BY h.start_at ASC, h.schedule_id ASC
+                     LIMIT ?
+                    """);
+            // 시각 배열은 ISO-8601(UTC) 문자열로 넘기고 SQL에서 timestamptz[]로 캐스팅
+            ps.setArray(1, con.createArrayOf("text", slices.stream().map(x -> x.startUtc().toString()).toArray()));
+            ps.setArray(2, con.createArrayOf("text", slices.stream().map(x -> x.endUtc().toString()).toArray()));
+            ps.setLong(3, calendarId);
+            ps.setLong(4, scheduleId);
+            ps.setArray(5, con.createArrayOf("bigint", memberIds.toArray()));
+            ps.setLong(6, calendarId);
+            ps.setLong(7, scheduleId);
+            ps.setInt(8, limit);
+            return ps;
+        }, (rs, rowNum) -> new ConflictRow(
+                rs.getLong("schedule_id"),
+                rs.getLong("calendar_id"),
+                rs.getString("title"),
+                instant(rs, "start_at"),
+                instant(rs, "end_at"),
+                rs.getBoolean("recurring"),
+                rs.getBoolean("same_calendar")
+        ));
+    }
+
+    /**
+     * 윈도우를 물리화가 덮지 못하는 반복 시리즈
+     * (아직 전개 전/INLINE이거나, horizon 밖 또는 STREAMING 시작 이전을 보는 경우) → 조회 시 즉석 전개 대상
+     */
+    public List<Long> findLaggingRecurringScheduleIds(Collection<Long> calendarIds, Instant fromUtc, Instant toUtc) {
+        var params = new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.queryForList("""
+                SELECT s.schedule_id
+                  FROM schedule s
+                  JOIN schedule_recurrence r ON r.schedule_id = s.schedule_id
+                 WHERE s.calendar_id IN (:calIds)
+                """ + LAGGING_SERIES, params, Long.class);
+    }
+
+    /** 참가자(ACCEPTED)가 들어간 다른 캘린더의 반복 시리즈 중 윈도우를 물리화가 덮지 못하는 것 (겹침 검사 보충용) */
+    public List<Long> findLaggingRecurringScheduleIdsOfParticipants(Collection<Long> memberIds, Long excludeCalendarId,
+                                                                    Instant fromUtc, Instant toUtc) {
+        if (memberIds.isEmpty()) return List.of();
+        var params = new MapSqlParameterSource()
+                .addValue("memberIds", memberIds)
+                .addValue("calendarId", excludeCalendarId)
+                .addValue("fromUtc", utc(fromUtc))
+                .addValue("toUtc", utc(toUtc));
+        return namedJdbcTemplate.queryForList("""
+                SELECT DISTINCT s.schedule_id
+                  FROM schedule_participant p
+                  JOIN schedule s ON s.schedule_id = p.schedule_id
+                  JOIN schedule_recurrence r ON r.schedule_id = s.schedule_id
+                 WHERE p.member_id IN (:memberIds)
+                   AND p.status = 'ACCEPTED'
+                   AND s.calendar_id <> :calendarId
+                """ + LAGGING_SERIES, params, Long.class);
+    }
+
+    /** horizon까지 아직 채워지지 않은 반복 시리즈 (배치용, INLINE은 저장하지 않으므로 제외) */
+    public List<HorizonTarget> findBehindHorizon(Instant horizon, int limit) {
+        return jdbcTemplate.query("""
+                SELECT r.schedule_id, r.materialized_until
+                  FROM schedule_recurrence r
+                 WHERE r.expansion_strategy <> 'INLINE'
+                   AND (r.materialized_until IS NULL
+                        OR (r.materialized_until < ? AND r.materialized_until < r.until))
+                 ORDER BY r.materialized_until ASC NULLS FIRST
+                 LIMIT ?
+                """, (rs, rowNum) -> new HorizonTarget(rs.getLong("schedule_id"), instant(rs, "materialized_until")),
+                utc(horizon), limit);
+    }
+
+    /** 실제 occurrence 범위가 아직 계산되지 않은 반복 시리즈 (V14 이전 데이터, 배치용) */
+    public List<Long> findMissingOccurrenceBounds(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT r.schedule_id
+                  FROM schedule_recurrence r
+                 WHERE r.first_occurrence_at IS NULL
+                 LIMIT ?
+                """, Long.class, limit);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime odt = rs.getObject(column, OffsetDateTime.class);
+        return odt == null ? null : odt.toInstant();
+    }
+}
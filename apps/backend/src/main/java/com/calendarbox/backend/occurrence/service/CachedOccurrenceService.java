@@ -0,0 +1,139 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceBucketResponse;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.occurrence.repository.ScheduleChangeRepository;
+import com.calendarbox.backend.occurrence.support.OccurrenceAssembler;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache.BucketKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 캘린더 뷰 조회 앞단의 월 버킷 캐시 (OccurrenceController → 여기 → OccurrenceQueryService).
+ * - (캘린더, 타임존, 연월) 버킷을 Redis에서 한 번에 읽고, 없는 달만 달 단위로 묶어 DB에서 전개
+ * - 전체 캘린더 뷰는 캘린더별 버킷을 이어 붙여 만듦 (캘린더 하나가 바뀌어도 나머지 버킷은 그대로)
+ * - 무효화는 일정/반복/예외 변경 서비스에서 그 일정이 걸친 달만 (OccurrenceMonthCache.evictAfterCommit)
+ */
+@Service
+@RequiredArgsConstructor
+public class CachedOccurrenceService {
+
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
+
+    private final OccurrenceQueryService occurrenceQueryService;
+    private final OccurrenceMonthCache occurrenceMonthCache;
+    private final ScheduleChangeRepository scheduleChangeRepository;
+
+    @Value("${occurrence.month-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${occurrence.month-cache.max-months:6}")
+    private int maxMonths;
+
+    /** OccurrenceQueryService.getOccurrences와 같은 응답 (윈도우가 너무 길면 캐시를 건너뜀) */
+    public OccurrenceBucketResponse getOccurrences(Long viewerId, Long calendarIdOrNull,
+                                                   ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        YearMonth firstMonth = YearMonth.from(fromZ.withZoneSameInstant(zone));
+        YearMonth lastMonth = YearMonth.from(toZ.withZoneSameInstant(zone).minusNanos(1));
+        if (!enabled || firstMonth.plusMonths(maxMonths - 1L).isBefore(lastMonth)) {
+            return occurrenceQueryService.getOccurrences(viewerId, calendarIdOrNull, fromZ, toZ, zone);
+        }
+
+        List<Long> calendarIds = occurrenceQueryService.resolveViewableCalendarIds(viewerId, calendarIdOrNull);
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+        if (calendarIds.isEmpty()) {
+            return new OccurrenceBucketResponse(calendarIdOrNull, fromUtc, toUtc, Map.of());
+        }
+
+        List<BucketKey> keys = new ArrayList<>();
+        for (YearMonth m = firstMonth; !m.isAfter(lastMonth); m = m.plusMonths(1)) {
+            for (Long calendarId : calendarIds) keys.add(new BucketKey(calendarId, m));
+        }
+        Map<BucketKey, List<OccurrenceItem>> buckets = occurrenceMonthCache.getAll(keys, zone);
+        if (buckets.size() < keys.size()) {
+            buckets.putAll(loadMissing(keys, buckets.keySet(), zone));
+        }
+
+        List<OccurrenceItem> out = OccurrenceAssembler.merge(stitch(keys, buckets, fromUtc, toUtc), START_ORDER);
+        Map<LocalDate, List<OccurrenceItem>> days = OccurrenceAssembler.groupByDay(out, zone);
+        return new OccurrenceBucketResponse(calendarIdOrNull, fromUtc, toUtc, days);
+    }
+
+    /**
+     * 빠진 버킷을 달 단위로 묶어 계산 (같은 달이 빠진 캘린더들은 한 번에 조회) 후 저장.
+     * 계산 도중 캘린더 순번이 바뀌었으면(동시 수정) 그 캘린더 버킷은 저장하지 않음.
+     * 순번 확인 뒤에 커밋된 변경은 계산 전에 읽은 캐시 세대로 막음 (그 사이 evict가 돌았으면 저장 안 됨)
+     */
+    private Map<BucketKey, List<OccurrenceItem>> loadMissing(List<BucketKey> keys, Set<BucketKey> hit, ZoneId zone) {
+        Map<YearMonth, List<Long>> missingByMonth = new TreeMap<>();
+        for (BucketKey k : keys) {
+            if (!hit.contains(k)) missingByMonth.computeIfAbsent(k.month(), m -> new ArrayList<>()).add(k.calendarId());
+        }
+        Set<Long> missingCalendars = new HashSet<>();
+        missingByMonth.values().forEach(missingCalendars::addAll);
+        Map<Long, Long> generations = occurrenceMonthCache.generations(missingCalendars);
+        Map<Long, Long> seqBefore = scheduleChangeRepository.findSeqs(missingCalendars);
+
+        Map<BucketKey, List<OccurrenceItem>> loaded = new HashMap<>();
+        missingByMonth.forEach((month, calendarIds) -> {
+            ZonedDateTime monthFrom = month.atDay(1).atStartOfDay(zone);
+            ZonedDateTime monthTo = month.plusMonths(1).atDay(1).atStartOfDay(zone);
+            Map<Long, List<OccurrenceItem>> byCalendar = new HashMap<>();
+            for (Long calendarId : calendarIds) byCalendar.put(calendarId, new ArrayList<>());
+            for (OccurrenceItem it : occurrenceQueryService.loadWindow(calendarIds, monthFrom, monthTo, zone)) {
+                byCalendar.get(it.calendarId()).add(it);
+            }
+            byCalendar.forEach((calendarId, items) -> loaded.put(new BucketKey(calendarId, month), items));
+        });
+
+        Map<Long, Long> seqAfter = scheduleChangeRepository.findSeqs(missingCalendars);
+        Map<BucketKey, List<OccurrenceItem>> cacheable = new HashMap<>();
+        loaded.forEach((k, items) -> {
+            if (Objects.equals(seqBefore.get(k.calendarId()), seqAfter.get(k.calendarId()))) cacheable.put(k, items);
+        });
+        occurrenceMonthCache.putAll(cacheable, generations, zone);
+        return loaded;
+    }
+
+    /**
+     * 버킷들을 윈도우로 자름 (달 경계에 걸친 occurrence는 양쪽 버킷에 있으므로 occurrenceId로 한 번만).
+     * 단발 일정은 원래 조회처럼 윈도우와 겹치면 날짜별 조각을 모두 포함.
+     * 버킷은 시작순으로 저장/계산되므로 버킷별로 걸러낸 run도 시작순 (호출부에서 병합)
+     */
+    private static List<List<OccurrenceItem>> stitch(List<BucketKey> keys, Map<BucketKey, List<OccurrenceItem>> buckets,
+                                                     Instant fromUtc, Instant toUtc) {
+        Set<Long> visibleSingles = new HashSet<>();
+        for (BucketKey k : keys) {
+            for (OccurrenceItem it : buckets.getOrDefault(k, List.of())) {
+                if (!it.recurring() && overlaps(it, fromUtc, toUtc)) visibleSingles.add(it.scheduleId());
+            }
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<List<OccurrenceItem>> runs = new ArrayList<>(keys.size());
+        for (BucketKey k : keys) {
+            List<OccurrenceItem> run = new ArrayList<>();
+            for (OccurrenceItem it : buckets.getOrDefault(k, List.of())) {
+                boolean visible = it.recurring() ? overlaps(it, fromUtc, toUtc) : visibleSingles.contains(it.scheduleId());
+                if (visible && seen.add(it.occurrenceId())) run.add(it);
+            }
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    private static boolean overlaps(OccurrenceItem it, Instant fromUtc, Instant toUtc) {
+        return it.startAtUtc().isBefore(toUtc) && it.endAtUtc().isAfter(fromUtc);
+    }
+}
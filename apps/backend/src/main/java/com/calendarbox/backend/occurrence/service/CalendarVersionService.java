@@ -0,0 +1,76 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.global.utils.HashUtil;
+import com.calendarbox.backend.occurrence.repository.ScheduleChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 캘린더 순번(calendar.change_seq) 기반 ETag.
+ * - 조회 대상 캘린더 집합 + 각 캘린더 순번 + 요청 파라미터를 해시
+ * - 본문 조회(JPA 로딩/반복 전개)보다 먼저 계산 → If-None-Match가 맞으면 본문 조회 없이 304
+ * - ETag를 본문보다 먼저 읽으므로, 사이에 변경이 끼어도 다음 요청에서 다시 200이 나가는 쪽으로만 어긋남
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CalendarVersionService {
+
+    private final ScheduleChangeRepository scheduleChangeRepository;
+    private final AccessDecisionCache accessDecisionCache;
+    private final OccurrenceQueryService occurrenceQueryService;
+
+    /** occurrence 뷰 (캘린더 지정 또는 내 전체 캘린더) - 권한 검사 포함 */
+    public String occurrenceEtag(Long viewerId, Long calendarIdOrNull,
+                                 ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        List<Long> calendarIds = occurrenceQueryService.resolveViewableCalendarIds(viewerId, calendarIdOrNull);
+        return etag("occ", calendarIds, calendarIdOrNull, fromZ.toInstant(), toZ.toInstant(), zone);
+    }
+
+    /**
+     * 스케줄 목록 (ScheduleQueryService.getList와 같은 대상 캘린더 규칙) - 권한 검사 포함.
+     * 304가 본문 조회보다 먼저 나가므로 여기서 막지 않으면 남의 캘린더 변경 여부가 드러남
+     */
+    public String scheduleListEtag(Long viewerId, Long calendarIdOrNull, Instant from, Instant to, Pageable pageable) {
+        List<Long> calendarIds;
+        if (calendarIdOrNull != null) {
+            if (!accessDecisionCache.isCalendarMember(calendarIdOrNull, viewerId)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+            calendarIds = List.of(calendarIdOrNull);
+        } else {
+            calendarIds = accessDecisionCache.acceptedCalendarIds(viewerId);
+        }
+        return etag("sch", calendarIds, calendarIdOrNull, from, to,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+
+    /** 캘린더 상세 - 바로 허용되는 조회자만 (그 외에는 비어 있고 일반 경로로 권한 판단) */
+    public Optional<String> calendarDetailEtag(Long viewerId, Long calendarId) {
+        return scheduleChangeRepository.findSeqIfDirectlyVisible(calendarId, viewerId)
+                .map(seq -> quote(HashUtil.sha256("cal|" + calendarId + ":" + seq)));
+    }
+
+    private String etag(String kind, List<Long> calendarIds, Object... params) {
+        List<Long> sorted = new ArrayList<>(calendarIds);
+        Collections.sort(sorted);
+        Map<Long, Long> seqs = scheduleChangeRepository.findSeqs(sorted);
+
+        StringBuilder sb = new StringBuilder(kind);
+        for (Object p : params) sb.append('|').append(p);
+        for (Long id : sorted) sb.append('|').append(id).append(':').append(seqs.getOrDefault(id, -1L));
+        return quote(HashUtil.sha256(sb.toString()));
+    }
+
+    private static String quote(String hash) {
+        return "\"" + hash.substring(0, 32) + "\"";
+    }
+}
@@ -0,0 +1,110 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.friendship.repository.FriendshipRepository;
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.member.repository.MemberRepository;
+import com.calendarbox.backend.occurrence.dto.response.BusyIntervalItem;
+import com.calendarbox.backend.occurrence.dto.response.FreeBusyResponse;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository.OccurrenceRow;
+import com.calendarbox.backend.occurrence.support.BusyIntervals;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander.Slice;
+import com.calendarbox.backend.occurrence.support.RecurringSeriesLoader;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FreeBusyService {
+
+    private final MemberRepository memberRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final RecurrenceExpander recurrenceExpander;
+    private final FreeBusyCache freeBusyCache;
+    private final RecurringSeriesLoader recurringSeriesLoader;
+
+    @Value("${occurrence.freebusy.max-range-days:62}")
+    private long maxRangeDays;
+
+    /**
+     * 회원의 busy 구간(병합됨, 제목 없음).
+     * 대상: ACCEPTED 캘린더의 일정 + ACCEPTED 참가자로 들어간 일정. 본인 또는 친구만 조회 가능.
+     */
+    public FreeBusyResponse getFreeBusy(Long viewerId, Long memberId,
+                                        ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        if (!viewerId.equals(memberId) && !friendshipRepository.existsAcceptedBetween(viewerId, memberId))
+            throw new BusinessException(ErrorCode.FRIENDSHIP_REQUIRED);
+
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+        if (Duration.between(fromUtc, toUtc).toDays() > maxRangeDays)
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+
+        List<BusyIntervalItem> busy = busyIntervals(memberId, fromUtc, toUtc, zone).stream()
+                .map(s -> new BusyIntervalItem(s.startUtc(), s.endUtc()))
+                .toList();
+
+        return new FreeBusyResponse(memberId, fromUtc, toUtc, busy);
+    }
+
+    /** 병합된 busy 구간 (권한 검사 없음 - 호출부에서 확인) */
+    public List<Slice> busyIntervals(Long memberId, Instant fromUtc, Instant toUtc, ZoneId zone) {
+        // 날짜 버킷 단위로 캐시 조회, 없는 날짜만 한 번에 계산
+        LocalDate firstDay = fromUtc.atZone(zone).toLocalDate();
+        LocalDate lastDay  = toUtc.minusNanos(1).atZone(zone).toLocalDate();
+        Map<LocalDate, List<Slice>> days = freeBusyCache.getDays(memberId, firstDay, lastDay, zone,
+                missing -> loadDays(memberId, missing.first(), missing.last(), zone));
+
+        // 날짜 경계에서 잘린 구간은 다시 이어 붙인 뒤 요청 윈도우로 자름
+        List<Slice> all = new ArrayList<>();
+        days.values().forEach(all::addAll);
+        return BusyIntervals.clip(BusyIntervals.merge(all), fromUtc, toUtc);
+    }
+
+    private Map<LocalDate, List<Slice>> loadDays(Long memberId, LocalDate firstDay, LocalDate lastDay, ZoneId zone) {
+        ZonedDateTime fromZ = firstDay.atStartOfDay(zone);
+        ZonedDateTime toZ   = lastDay.plusDays(1).atStartOfDay(zone);
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+
+        List<Long> calendarIds = accessDecisionCache.acceptedCalendarIds(memberId);
+
+        List<OccurrenceRow> singles = new ArrayList<>(scheduleOccurrenceRepository.findSinglesByAcceptedParticipant(memberId, fromUtc, toUtc));
+        List<Schedule> recurrings = new ArrayList<>(recurringSeriesLoader.byAcceptedParticipant(memberId, fromUtc, toUtc, zone));
+        if (!calendarIds.isEmpty()) {
+            singles.addAll(scheduleOccurrenceRepository.findSingles(calendarIds, fromUtc, toUtc));
+            recurrings.addAll(recurringSeriesLoader.byCalendarIds(calendarIds, fromUtc, toUtc, zone));
+        }
+
+        // 캘린더 일정이면서 참가 일정인 경우 한 번만
+        Set<Long> seen = new HashSet<>();
+        List<Slice> intervals = new ArrayList<>();
+        for (OccurrenceRow row : singles) {
+            if (seen.add(row.scheduleId())) intervals.add(new Slice(row.startAt(), row.endAt()));
+        }
+        for (Schedule s : recurrings) {
+            if (seen.add(s.getId())) intervals.addAll(recurrenceExpander.expand(s, s.getRecurrence(), fromZ, toZ, zone));
+        }
+
+        return BusyIntervals.splitByDay(BusyIntervals.merge(intervals), firstDay, lastDay, zone);
+    }
+}
@@ -0,0 +1,104 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.repository.CalendarRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.occurrence.dto.request.MeetingSlotRequest;
+import com.calendarbox.backend.occurrence.dto.response.MeetingSlotItem;
+import com.calendarbox.backend.occurrence.dto.response.MeetingSlotResponse;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander.Slice;
+import com.calendarbox.backend.occurrence.support.SlotBitset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.*;
+import java.util.*;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MeetingSlotService {
+
+    private static final LocalTime DEFAULT_WORK_START = LocalTime.of(9, 0);
+    private static final LocalTime DEFAULT_WORK_END   = LocalTime.of(18, 0);
+    private static final int DEFAULT_SLOT_MINUTES = 15;
+    private static final int DEFAULT_LIMIT = 5;
+
+    private final CalendarRepository calendarRepository;
+    private final AccessDecisionCache accessDecisionCache;
+    private final CalendarMemberRepository calendarMemberRepository;
+    private final FreeBusyService freeBusyService;
+
+    @Value("${occurrence.meeting-slot.max-range-days:62}")
+    private long maxRangeDays;
+
+    /**
+     * 캘린더 멤버들의 공통 빈 시간 중 가장 이른 K개.
+     * - 회원별 busy 구간을 같은 슬롯 비트셋에 찍어 OR, 업무 시간 밖과 윈도우 밖도 busy로 채움
+     * - 0 비트 연속 구간을 앞에서부터 훑어 duration 길이의 슬롯을 겹치지 않게 뽑음
+     */
+    public MeetingSlotResponse findSlots(Long viewerId, Long calendarId, MeetingSlotRequest req, ZoneId zone) {
+        calendarRepository.findById(calendarId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CALENDAR_NOT_FOUND));
+        if (!accessDecisionCache.isCalendarMember(calendarId, viewerId))
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+
+        Set<Long> memberIds = new LinkedHashSet<>(req.memberIds());
+        if (new HashSet<>(calendarMemberRepository.findAcceptedMemberIdsIn(calendarId, memberIds)).size() != memberIds.size())
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+
+        Instant fromUtc = req.from().toInstant();
+        Instant toUtc   = req.to().toInstant();
+        if (!fromUtc.isBefore(toUtc)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
+        if (Duration.between(fromUtc, toUtc).toDays() > maxRangeDays)
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+
+        int slotMinutes = req.slotMinutes() == null ? DEFAULT_SLOT_MINUTES : req.slotMinutes();
+        if (slotMinutes != 5 && slotMinutes != 15) throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        LocalTime workStart = req.workStart() == null ? DEFAULT_WORK_START : req.workStart();
+        LocalTime workEnd   = req.workEnd() == null ? DEFAULT_WORK_END : req.workEnd();
+        if (!workStart.isBefore(workEnd)) throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        int limit = req.limit() == null ? DEFAULT_LIMIT : req.limit();
+
+        // 그리드 원점은 from의 로컬 자정 → 슬롯 경계가 업무 시간 경계와 맞음
+        int slotSeconds = slotMinutes * 60;
+        LocalDate firstDay = req.from().withZoneSameInstant(zone).toLocalDate();
+        LocalDate lastDay  = toUtc.minusNanos(1).atZone(zone).toLocalDate();
+        Instant origin = firstDay.atStartOfDay(zone).toInstant();
+        int size = (int) -Math.floorDiv(-Duration.between(origin, toUtc).getSeconds(), slotSeconds);
+        SlotBitset grid = new SlotBitset(origin, slotSeconds, size);
+
+        grid.markBusy(origin, fromUtc);
+        for (LocalDate d = firstDay; !d.isAfter(lastDay); d = d.plusDays(1)) {
+            grid.markBusy(d.atStartOfDay(zone).toInstant(), d.atTime(workStart).atZone(zone).toInstant());
+            grid.markBusy(d.atTime(workEnd).atZone(zone).toInstant(), d.plusDays(1).atStartOfDay(zone).toInstant());
+        }
+        grid.markBusy(toUtc, grid.slotStart(size));
+
+        for (Long memberId : memberIds) {
+            for (Slice s : freeBusyService.busyIntervals(memberId, fromUtc, toUtc, zone)) {
+                grid.markBusy(s.startUtc(), s.endUtc());
+            }
+        }
+
+        // 빈 구간마다 duration 길이 슬롯을 앞에서부터 채움
+        Duration duration = Duration.ofMinutes(req.durationMinutes());
+        int need = (int) -Math.floorDiv(-duration.getSeconds(), slotSeconds);
+        List<MeetingSlotItem> slots = new ArrayList<>();
+        int i = grid.nextFree(0);
+        while (i < size && slots.size() < limit) {
+            int runEnd = grid.nextBusy(i);
+            for (int s = i; s + need <= runEnd && slots.size() < limit; s += need) {
+                Instant start = grid.slotStart(s);
+                slots.add(new MeetingSlotItem(start, start.plus(duration)));
+            }
+            i = grid.nextFree(runEnd);
+        }
+
+        return new MeetingSlotResponse(calendarId, slotMinutes, req.durationMinutes(), slots);
+    }
+}
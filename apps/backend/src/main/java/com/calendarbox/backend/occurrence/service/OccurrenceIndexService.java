@@ -0,0 +1,190 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.support.RecurrenceCostEstimator;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import com.calendarbox.backend.occurrence.support.RecurrenceNavigator;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.ExpansionStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * schedule_occurrence 물리화 유지.
+ * - 일정/반복/예외 변경 서비스에서 같은 트랜잭션 안에서 호출
+ * - 반복 일정은 시드 ~ min(until, horizon) 까지만 저장하고 나머지는 OccurrenceHorizonJob이 밀어줌
+ * - 시리즈별 전개 전략(ExpansionStrategy): INLINE은 저장하지 않고, STREAMING은 최근 rolling-months 이후만 저장
+ *   (저장 안 된 구간은 OccurrenceQueryService가 조회 때 전개)
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OccurrenceIndexService {
+
+    /** 물리화 기준 타임존 (캘린더 뷰와 동일) */
+    public static final ZoneId INDEX_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final RecurrenceExpander recurrenceExpander;
+    private final RecurrenceNavigator recurrenceNavigator;
+    private final RecurrenceCostEstimator recurrenceCostEstimator;
+
+    @Value("${occurrence.index.horizon-months:12}")
+    private int horizonMonths;
+
+    @Value("${occurrence.strategy.rolling-months:3}")
+    private int rollingMonths;
+
+    public Instant currentHorizon() {
+        return ZonedDateTime.now(INDEX_ZONE).toLocalDate().withDayOfMonth(1)
+                .plusMonths(horizonMonths + 1L)
+                .atStartOfDay(INDEX_ZONE)
+                .toInstant();
+    }
+
+    /**
+     * 반복 규칙 생성/수정, 시드 시각 변경 시 rebuild 전에 호출: 전개 비용 추정치와 전략을 시리즈에 기록.
+     * 시리즈 전체 occurrence 수가 상한을 넘는 규칙은 여기서 거절 (조회 경로까지 가지 않게)
+     */
+    public void applyCostEstimate(Schedule s) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return;
+
+        var estimate = recurrenceCostEstimator.estimate(s, r, currentHorizon(), INDEX_ZONE);
+        if (recurrenceCostEstimator.tooExpensive(estimate))
+            throw new BusinessException(ErrorCode.RECURRENCE_TOO_EXPENSIVE);
+        r.applyCostEstimate(estimate.cost().occurrencesPerYear(), estimate.cost().windowCost(), estimate.strategy());
+    }
+
+    /** 일정 생성/시간 변경/반복 규칙 변경: 시리즈 전체 재구성 */
+    public void rebuild(Schedule s) {
+        scheduleOccurrenceRepository.deleteBySchedule(s.getId());
+
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) {
+            scheduleOccurrenceRepository.insertAll(s.getId(), s.getCalendar().getId(), false,
+                    List.of(new RecurrenceExpander.Slice(s.getStartAt(), s.getEndAt())));
+            return;
+        }
+
+        // 기존 전개는 시드 이전(같은 주/월/연도)의 후보도 내보내므로 시드 연도 1월 1일부터 전개
+        ZonedDateTime from = s.getStartAt().atZone(INDEX_ZONE).toLocalDate()
+                .withDayOfYear(1)
+                .atStartOfDay(INDEX_ZONE);
+        switch (r.getExpansionStrategy()) {
+            case INLINE -> scheduleOccurrenceRepository.markMaterialized(s.getId(), null, null);
+            case STREAMING -> {
+                ZonedDateTime rollingFrom = ZonedDateTime.now(INDEX_ZONE).toLocalDate().withDayOfMonth(1)
+                        .minusMonths(rollingMonths)
+                        .atStartOfDay(INDEX_ZONE);
+                if (rollingFrom.isAfter(from)) materialize(s, r, rollingFrom, currentHorizon(), rollingFrom.toInstant());
+                else materialize(s, r, from, currentHorizon(), null);
+            }
+            case MATERIALIZED -> materialize(s, r, from, currentHorizon(), null);
+        }
+        refreshBounds(s);
+    }
+
+    /** horizon 연장: 이미 저장된 구간 뒤만 이어서 전개 */
+    public void extend(Schedule s, Instant materializedUntil, Instant horizon) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null || r.getExpansionStrategy() == ExpansionStrategy.INLINE) return;
+        if (materializedUntil == null) {
+            rebuild(s);
+            return;
+        }
+        if (!materializedUntil.isBefore(horizon)) return;
+        insertRange(s, r, materializedUntil.atZone(INDEX_ZONE), horizon);
+        scheduleOccurrenceRepository.extendMaterialized(s.getId(), horizon);
+    }
+
+    public void remove(Long scheduleId) {
+        scheduleOccurrenceRepository.deleteBySchedule(scheduleId);
+    }
+
+    /** 예외 날짜 추가: 그 날(현지) 시작하는 occurrence만 제거 */
+    public void excludeDate(Schedule s, LocalDate exceptionDate) {
+        scheduleOccurrenceRepository.deleteStartingBetween(
+                s.getId(),
+                exceptionDate.atStartOfDay(INDEX_ZONE).toInstant(),
+                exceptionDate.plusDays(1).atStartOfDay(INDEX_ZONE).toInstant()
+        );
+        refreshBounds(s);
+    }
+
+    /** 예외 날짜 삭제: 그 날만 다시 전개해서 채움 (예외 목록에서 이미 빠진 상태로 호출) */
+    public void restoreDate(Schedule s, LocalDate exceptionDate) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return;
+        if (r.getExpansionStrategy() == ExpansionStrategy.INLINE) {
+            refreshBounds(s);
+            return;
+        }
+
+        ZonedDateTime dayStart = exceptionDate.atStartOfDay(INDEX_ZONE);
+        ZonedDateTime dayEnd = exceptionDate.plusDays(1).atStartOfDay(INDEX_ZONE);
+
+        List<RecurrenceExpander.Slice> slices = new ArrayList<>();
+        for (var slice : recurrenceExpander.expand(s, r, dayStart, dayEnd, INDEX_ZONE)) {
+            if (!slice.startUtc().isBefore(dayStart.toInstant()) && slice.startUtc().isBefore(dayEnd.toInstant())) {
+                slices.add(slice);
+            }
+        }
+        scheduleOccurrenceRepository.insertAll(s.getId(), s.getCalendar().getId(), true, slices);
+        refreshBounds(s);
+    }
+
+    /**
+     * 반복 시리즈의 실제 occurrence 범위(first/last_occurrence_at) 갱신.
+     * 첫/마지막 occurrence는 RecurrenceNavigator로 시드부터 전개하지 않고 바로 구함
+     */
+    public void refreshBounds(Schedule s) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return;
+
+        var first = recurrenceNavigator.nthOccurrence(s, 0, INDEX_ZONE);
+        if (first.isEmpty()) {
+            // 예외로 전부 빠진 시리즈: 길이 0 구간으로 두어 사실상 어떤 윈도우에도 안 걸리게
+            r.updateOccurrenceBounds(s.getStartAt(), s.getStartAt());
+            return;
+        }
+        Instant last = (r.getUntil() == null)
+                ? null
+                : recurrenceNavigator.lastOccurrence(s, INDEX_ZONE)
+                        .map(RecurrenceExpander.Slice::endUtc)
+                        .orElse(first.get().endUtc());
+        r.updateOccurrenceBounds(first.get().startUtc(), last);
+    }
+
+    /** from부터 horizon까지 새로 저장 (materializedFrom: STREAMING 시작 시각, 시드부터면 null) */
+    private void materialize(Schedule s, ScheduleRecurrence r, ZonedDateTime from, Instant horizon, Instant materializedFrom) {
+        insertRange(s, r, from, horizon);
+        scheduleOccurrenceRepository.markMaterialized(s.getId(), materializedFrom, horizon);
+    }
+
+    private void insertRange(Schedule s, ScheduleRecurrence r, ZonedDateTime from, Instant horizon) {
+        ZonedDateTime end = horizon.atZone(INDEX_ZONE);
+        ZonedDateTime untilZ = (r.getUntil() == null) ? null : r.getUntil().atZone(INDEX_ZONE);
+
+        // 전개기 한 번 호출 상한이 있어서 1년 단위로 끊어서 전개
+        ZonedDateTime chunkFrom = from;
+        while (chunkFrom.isBefore(end)) {
+            if (untilZ != null && chunkFrom.isAfter(untilZ)) break;
+            ZonedDateTime chunkTo = chunkFrom.plusYears(1);
+            if (chunkTo.isAfter(end)) chunkTo = end;
+
+            var slices = recurrenceExpander.expand(s, r, chunkFrom, chunkTo, INDEX_ZONE);
+            scheduleOccurrenceRepository.insertAll(s.getId(), s.getCalendar().getId(), true, slices);
+            chunkFrom = chunkTo;
+        }
+    }
+}
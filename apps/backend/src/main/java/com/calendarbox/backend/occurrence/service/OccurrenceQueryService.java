@@ -1,18 +1,27 @@
 package com.calendarbox.backend.occurrence.service;
 
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.auth.support.PrincipalResolver;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
-import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.occurrence.dto.response.OccurrenceBucketResponse;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceIndexResponse;
 import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceSyncResponse;
+import com.calendarbox.backend.occurrence.repository.ScheduleChangeRepository;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository.OccurrenceRow;
+import com.calendarbox.backend.occurrence.support.OccurrenceAssembler;
 import com.calendarbox.backend.occurrence.support.OccurrenceSplitter;
+import com.calendarbox.backend.occurrence.support.ParallelRecurrenceExpander;
 import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import com.calendarbox.backend.occurrence.support.RecurrenceNavigator;
+import com.calendarbox.backend.occurrence.support.RecurringSeriesLoader;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
@@ -20,7 +29,6 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -28,25 +36,27 @@ import java.util.stream.Collectors;
 public class OccurrenceQueryService {
 
     private final ScheduleRepository scheduleRepository;
-    private final MemberRepository memberRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final PrincipalResolver principalResolver;
+    private final ScheduleChangeRepository scheduleChangeRepository;
 
     // 이미 사용 중인 헬퍼로 보임(너 코드에 등장)
     private final OccurrenceSplitter occurrenceSplitter;
     private final RecurrenceExpander recurrenceExpander;
+    private final RecurrenceNavigator recurrenceNavigator;
+    private final ParallelRecurrenceExpander parallelRecurrenceExpander;
+    private final RecurringSeriesLoader recurringSeriesLoader;
+
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
 
     public OccurrenceBucketResponse getOccurrences(
             Long viewerId, Long calendarIdOrNull,
             ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone
     ){
-        // 0) 사용자 존재 확인
-        memberRepository.findById(viewerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        // 1) 대상 캘린더 집합 계산 + 권한 검사
-        //    - calendarId 지정: 그 캘린더 권한 체크(ACCEPTED)
-        //    - null: 내가 ACCEPTED로 속한 모든 캘린더 목록
-        List<Long> targetCalendarIds = resolveTargetCalendarIds(viewerId, calendarIdOrNull);
+        // 0~1) 사용자 확인 + 대상 캘린더 집합/권한
+        List<Long> targetCalendarIds = resolveViewableCalendarIds(viewerId, calendarIdOrNull);
 
 
         // 2) UTC 변환 (저장은 UTC 가정)
@@ -58,74 +68,212 @@ public class OccurrenceQueryService {
             return new OccurrenceBucketResponse(calendarIdOrNull, fromUtc, toUtc, Map.of());
         }
 
-        // 3) 데이터 로드
-        List<Schedule> singles = scheduleRepository.findNoRecurByCalendarIds(targetCalendarIds, fromUtc, toUtc);
-        List<Schedule> recurrings = scheduleRepository.findRecurringWithExceptionsByCalendarIds(targetCalendarIds, fromUtc);
+        // 3) 데이터 로드 + 전개 (단발/반복 run을 병합해서 시작순으로 옴)
+        List<OccurrenceItem> out = loadWindow(targetCalendarIds, fromZ, toZ, zone);
+
+        // 4) 날짜별 그룹핑 (현지날짜 기준, 한 번 훑기)
+        Map<LocalDate, List<OccurrenceItem>> days = OccurrenceAssembler.groupByDay(out, zone);
+
+        // calendarId는 단건/다건 모두 대응 위해 null이면 -1 같은 표식도 가능하지만
+        // 그대로 null 허용 대신 days만 신뢰해도 됨. 여긴 기존 레코드 유지.
+        return new OccurrenceBucketResponse(
+                calendarIdOrNull, fromUtc, toUtc, days
+        );
+    }
+
+    /**
+     * 조회 대상 캘린더 집합 계산 + 권한 검사 (스트리밍 조회도 같이 사용)
+     * - calendarId 지정: 그 캘린더 권한 체크(ACCEPTED)
+     * - null: 내가 ACCEPTED로 속한 모든 캘린더 목록
+     */
+    public List<Long> resolveViewableCalendarIds(Long viewerId, Long calendarIdOrNull) {
+        principalResolver.requireActive(viewerId);
+        return resolveTargetCalendarIds(viewerId, calendarIdOrNull);
+    }
+
+    /**
+     * syncToken 이후 바뀐 일정의 occurrence만 (CalDAV sync-collection 방식).
+     * - 토큰 없음: 윈도우 전체 + 새 토큰
+     * - 토큰 있음: 변경 로그에서 바뀐/삭제된 일정만 골라 그 일정들의 윈도우 내 occurrence만 다시 만듦
+     * - 토큰은 같은 윈도우로 이어서 쓰는 것을 전제로 함 (윈도우가 바뀌면 토큰 없이 다시 받기)
+     * REPEATABLE_READ 스냅샷 안에서 순번 → 변경 로그 → occurrence 순으로 읽어 토큰과 내용이 어긋나지 않게 함
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public OccurrenceSyncResponse sync(Long viewerId, Long calendarId, String syncToken,
+                                       ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        resolveViewableCalendarIds(viewerId, calendarId);
+
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+        long current = scheduleChangeRepository.currentSeq(calendarId);
+        String nextToken = calendarId + ":" + current;
+
+        if (syncToken == null || syncToken.isBlank()) {
+            List<OccurrenceItem> all = loadWindow(List.of(calendarId), fromZ, toZ, zone);
+            return new OccurrenceSyncResponse(calendarId, nextToken, true, fromUtc, toUtc, List.of(), List.of(), all);
+        }
 
-        // 4) 전개
-        List<OccurrenceItem> out = new ArrayList<>();
+        long since = parseSyncToken(syncToken, calendarId, current);
+        List<Long> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (var row : scheduleChangeRepository.findBetween(calendarId, since, current)) {
+            (row.removed() ? removed : changed).add(row.scheduleId());
+        }
 
-        // 4-1) 단발: 멀티데이 split(표시 안정성) 후 item화
-        for (Schedule s : singles) {
-            for (var split : occurrenceSplitter.splitIfMultiDay(s.getStartAt(), s.getEndAt(), zone)) {
-                out.add(toItemSingle(s, split.startUtc(), split.endUtc()));
+        List<OccurrenceItem> items = new ArrayList<>();
+        if (!changed.isEmpty()) {
+            for (var row : scheduleOccurrenceRepository.findSinglesByIds(changed, fromUtc, toUtc)) {
+                addSingle(items, items, row, zone);
             }
+            List<Schedule> recurrings = recurringSeriesLoader.byIds(changed);
+            items.addAll(parallelRecurrenceExpander.expandAll(recurrings, s -> expandSeries(s, fromZ, toZ, zone), START_ORDER));
+            items.sort(START_ORDER);
         }
+        return new OccurrenceSyncResponse(calendarId, nextToken, false, fromUtc, toUtc, changed, removed, items);
+    }
 
-        // 4-2) 반복: 예외 적용 + 윈도우 전개
-        for (Schedule s : recurrings) {
-            var r = s.getRecurrence(); // LAZY여도 fetch-join으로 미리 로드됨(리포지 쿼리 참조)
-            var occs = recurrenceExpander.expand(s, r, fromZ, toZ, zone);
-            for (var occ : occs) {
-                out.add(toItemRecurring(s, occ.startUtc(), occ.endUtc()));
+    /** "calendarId:seq" → seq (다른 캘린더 토큰이거나 현재 순번보다 앞서면 무효) */
+    private static long parseSyncToken(String token, Long calendarId, long current) {
+        int sep = token.indexOf(':');
+        try {
+            if (sep > 0 && Long.parseLong(token.substring(0, sep)) == calendarId) {
+                long seq = Long.parseLong(token.substring(sep + 1));
+                if (seq >= 0 && seq <= current) return seq;
             }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 무효 처리
         }
+        throw new BusinessException(ErrorCode.SYNC_TOKEN_INVALID);
+    }
 
-        // 5) 날짜별 그룹핑 (현지날짜 기준)
-        Map<LocalDate, List<OccurrenceItem>> days = out.stream()
-                .sorted(Comparator.comparing(OccurrenceItem::startAtUtc)) // 표시 안정성
-                .collect(Collectors.groupingBy(
-                        it -> it.startAtUtc().atZone(zone).toLocalDate(),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
+    /** 시리즈의 n번째(0부터) occurrence로 바로 이동 */
+    public OccurrenceItem getNthOccurrence(Long viewerId, Long scheduleId, long n, ZoneId zone) {
+        Schedule s = loadViewableSchedule(viewerId, scheduleId);
+        var occ = recurrenceNavigator.nthOccurrence(s, n, zone)
+                .orElseThrow(() -> new BusinessException(ErrorCode.OCCURRENCE_NOT_FOUND));
+        return s.getRecurrence() == null
+                ? toItemSingle(s, occ.startUtc(), occ.endUtc())
+                : toItemRecurring(s, occ.startUtc(), occ.endUtc());
+    }
 
-        // calendarId는 단건/다건 모두 대응 위해 null이면 -1 같은 표식도 가능하지만
-        // 그대로 null 허용 대신 days만 신뢰해도 됨. 여긴 기존 레코드 유지.
-        return new OccurrenceBucketResponse(
-                calendarIdOrNull, fromUtc, toUtc, days
-        );
+    /** at 이전에 시작한 occurrence 수 (= at 시점 occurrence의 순번) */
+    public OccurrenceIndexResponse getOccurrenceIndex(Long viewerId, Long scheduleId, Instant at, ZoneId zone) {
+        Schedule s = loadViewableSchedule(viewerId, scheduleId);
+        return new OccurrenceIndexResponse(scheduleId, at, recurrenceNavigator.occurrenceIndexAt(s, at, zone));
+    }
+
+    private Schedule loadViewableSchedule(Long viewerId, Long scheduleId) {
+        Schedule s = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        if(!s.getCreatedBy().getId().equals(viewerId)
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, viewerId)
+                && !accessDecisionCache.isCalendarMember(s.getCalendar().getId(), viewerId))
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        return s;
+    }
+
+    /**
+     * 캘린더들의 윈도우 내 occurrence (START_ORDER 순, 권한 검사 없음 - 호출부에서 확인).
+     * 기준 타임존이면 물리화 인덱스, 아니면 즉석 전개.
+     * 행 순서(start_at) item, 멀티데이 뒷조각, 반복 전개 결과가 각각 정렬된 run이라 병합만 함
+     */
+    public List<OccurrenceItem> loadWindow(List<Long> calendarIds, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        return OccurrenceIndexService.INDEX_ZONE.equals(zone)
+                ? loadFromIndex(calendarIds, fromZ, toZ, zone)
+                : expandInline(calendarIds, fromZ, toZ, zone);
+    }
+
+    /**
+     * 물리화 인덱스(schedule_occurrence) 범위 조회.
+     * horizon 밖이거나 아직 전개 전인 시리즈만 즉석 전개로 보충한다.
+     */
+    private List<OccurrenceItem> loadFromIndex(List<Long> calendarIds, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+
+        Set<Long> lagging = new HashSet<>(
+                scheduleOccurrenceRepository.findLaggingRecurringScheduleIds(calendarIds, fromUtc, toUtc));
+
+        List<OccurrenceItem> rows = new ArrayList<>();
+        List<OccurrenceItem> tails = new ArrayList<>();
+        for (var row : scheduleOccurrenceRepository.findOverlapping(calendarIds, fromUtc, toUtc)) {
+            if (row.recurring()) {
+                if (lagging.contains(row.scheduleId())) continue;
+                rows.add(toItem(row.scheduleId(), row.calendarId(), row.title(), row.theme(), row.startAt(), row.endAt(), true));
+            } else {
+                addSingle(rows, tails, row, zone);
+            }
+        }
+        tails.sort(START_ORDER);
+
+        List<OccurrenceItem> expanded = List.of();
+        if (!lagging.isEmpty()) {
+            List<Schedule> recurrings = recurringSeriesLoader.byIds(lagging);
+            expanded = parallelRecurrenceExpander.expandAll(recurrings, s -> expandSeries(s, fromZ, toZ, zone), START_ORDER);
+        }
+        return OccurrenceAssembler.merge(List.of(rows, tails, expanded), START_ORDER);
+    }
+
+    /** 인덱스 기준 타임존이 아닐 때: 기존처럼 전부 로드해서 전개 */
+    private List<OccurrenceItem> expandInline(List<Long> calendarIds, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+
+        // 단발은 엔티티 없이 필요한 컬럼만 (반복 시리즈는 전개기가 엔티티를 받으므로 그대로 로드)
+        var singles = scheduleOccurrenceRepository.findSingles(calendarIds, fromUtc, toUtc);
+        List<Schedule> recurrings = recurringSeriesLoader.byCalendarIds(calendarIds, fromUtc, toUtc, zone);
+
+        List<OccurrenceItem> heads = new ArrayList<>();
+        List<OccurrenceItem> tails = new ArrayList<>();
+
+        // 단발: 멀티데이 split(표시 안정성) 후 item화 - 첫 조각은 행 순서 그대로, 뒷조각만 따로 정렬
+        for (var row : singles) {
+            addSingle(heads, tails, row, zone);
+        }
+        tails.sort(START_ORDER);
+
+        // 반복: 예외 적용 + 윈도우 전개 (시리즈가 많으면 병렬, 결과는 시작순으로 병합되어 옴)
+        List<OccurrenceItem> expanded =
+                parallelRecurrenceExpander.expandAll(recurrings, s -> expandSeries(s, fromZ, toZ, zone), START_ORDER);
+        return OccurrenceAssembler.merge(List.of(heads, tails, expanded), START_ORDER);
+    }
+
+    private List<OccurrenceItem> expandSeries(Schedule s, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+        var r = s.getRecurrence(); // LAZY여도 fetch-join으로 미리 로드됨(리포지 쿼리 참조)
+        List<OccurrenceItem> items = new ArrayList<>();
+        for (var occ : recurrenceExpander.expand(s, r, fromZ, toZ, zone)) {
+            items.add(toItemRecurring(s, occ.startUtc(), occ.endUtc()));
+        }
+        return items;
     }
 
     private List<Long> resolveTargetCalendarIds(Long viewerId, Long calendarIdOrNull) {
         if (calendarIdOrNull != null) {
-            if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendarIdOrNull, viewerId, CalendarMemberStatus.ACCEPTED)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+            if(!accessDecisionCache.isCalendarMember(calendarIdOrNull, viewerId)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
             return List.of(calendarIdOrNull);
         }
-        return calendarMemberRepository.findCalendarIdsByMemberIdAndStatuses(viewerId,List.of(CalendarMemberStatus.ACCEPTED));
+        return accessDecisionCache.acceptedCalendarIds(viewerId);
+    }
+
+    /** 첫 조각(행의 시작 시각)은 heads, 다음 날부터의 조각은 tails (뒤 행보다 늦게 시작할 수 있음) */
+    private void addSingle(List<OccurrenceItem> heads, List<OccurrenceItem> tails, OccurrenceRow row, ZoneId zone) {
+        List<OccurrenceItem> out = heads;
+        for (var split : occurrenceSplitter.splitIfMultiDay(row.startAt(), row.endAt(), zone)) {
+            out.add(toItem(row.scheduleId(), row.calendarId(), row.title(), row.theme(), split.startUtc(), split.endUtc(), false));
+            out = tails;
+        }
+    }
+
+    private OccurrenceItem toItem(Long scheduleId, Long calendarId, String title, String theme,
+                                  Instant st, Instant et, boolean recurring) {
+        return OccurrenceAssembler.item(scheduleId, calendarId, title, theme, st, et, recurring);
     }
 
     private OccurrenceItem toItemSingle(Schedule s, Instant st, Instant et) {
-        return new OccurrenceItem(
-                s.getId() + "@" + st.toString(),
-                s.getId(),
-                s.getCalendar().getId(),
-                s.getTitle(),
-                s.getTheme().name(),
-                st, et,
-                false
-        );
+        return OccurrenceAssembler.item(s.getId(), s.getCalendar().getId(), s.getTitle(), s.getTheme().name(), st, et, false);
     }
 
     private OccurrenceItem toItemRecurring(Schedule s, Instant st, Instant et) {
-        return new OccurrenceItem(
-                s.getId() + "@" + st.toString(),
-                s.getId(),
-                s.getCalendar().getId(),
-                s.getTitle(),
-                s.getTheme().name(),
-                st, et,
-                true
-        );
+        return OccurrenceAssembler.item(s.getId(), s.getCalendar().getId(), s.getTitle(), s.getTheme().name(), st, et, true);
     }
 }
@@ -0,0 +1,195 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceDayResponse;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository.OccurrenceRow;
+import com.calendarbox.backend.occurrence.support.OccurrenceAssembler;
+import com.calendarbox.backend.occurrence.support.OccurrenceMergeIterator;
+import com.calendarbox.backend.occurrence.support.OccurrenceSplitter;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import com.calendarbox.backend.occurrence.support.RecurringSeriesLoader;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 연간 뷰/내보내기용 occurrence 스트리밍 (NDJSON, 날짜당 한 줄).
+ * - 단발 일정은 DB 커서(start_at 순), 반복 시리즈는 한 달씩 전개 → 둘 다 이미 정렬된 스트림
+ * - k-way merge로 합치므로 전체 정렬/그룹핑 없이 메모리는 시리즈 수에만 비례
+ * - 시리즈당 개수 상한(MAX_OCCURRENCES)은 한 달 단위 전개에서는 닿지 않음
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class OccurrenceStreamService {
+
+    // 반복 시리즈를 한 번에 전개하는 구간 (이만큼만 버퍼링)
+    private static final int CHUNK_MONTHS = 1;
+
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
+
+    private final RecurringSeriesLoader recurringSeriesLoader;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final OccurrenceSplitter occurrenceSplitter;
+    private final RecurrenceExpander recurrenceExpander;
+    private final ObjectMapper objectMapper;
+
+    /** calendarIds는 호출 전에 권한 확인을 마친 목록 (OccurrenceQueryService.resolveViewableCalendarIds) */
+    public void write(List<Long> calendarIds, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone,
+                      OutputStream out) throws IOException {
+        if (calendarIds.isEmpty()) return;
+
+        Instant fromUtc = fromZ.toInstant();
+        Instant toUtc   = toZ.toInstant();
+
+        try (Stream<OccurrenceRow> singles = scheduleOccurrenceRepository.streamSingles(calendarIds, fromUtc, toUtc)) {
+            List<Iterator<OccurrenceItem>> sources = new ArrayList<>();
+            sources.add(new SingleSource(singles.iterator(), fromUtc, toUtc, zone));
+            for (Schedule s : recurringSeriesLoader.byCalendarIds(calendarIds, fromUtc, toUtc, zone)) {
+                sources.add(new RecurringSource(s, fromZ, toZ, zone));
+            }
+            writeByDay(new OccurrenceMergeIterator<>(sources, START_ORDER), zone, out);
+        }
+    }
+
+    private void writeByDay(Iterator<OccurrenceItem> items, ZoneId zone, OutputStream out) throws IOException {
+        LocalDate day = null;
+        List<OccurrenceItem> buf = new ArrayList<>();
+        while (items.hasNext()) {
+            OccurrenceItem item = items.next();
+            LocalDate d = item.startAtUtc().atZone(zone).toLocalDate();
+            if (!d.equals(day)) {
+                writeDay(day, buf, out);
+                day = d;
+            }
+            buf.add(item);
+        }
+        writeDay(day, buf, out);
+    }
+
+    private void writeDay(LocalDate day, List<OccurrenceItem> buf, OutputStream out) throws IOException {
+        if (buf.isEmpty()) return;
+        out.write(objectMapper.writeValueAsBytes(new OccurrenceDayResponse(day, buf)));
+        out.write('\n');
+        out.flush();
+        buf.clear();
+    }
+
+    /**
+     * 단발 일정: start_at 순 행을 일 단위로 잘라서 내보냄.
+     * 잘린 조각은 뒤 행보다 늦게 시작할 수 있으므로 작은 대기열에서 순서를 맞춤
+     * (대기열 크기 = 동시에 걸쳐 있는 멀티데이 일정 수).
+     */
+    private final class SingleSource implements Iterator<OccurrenceItem> {
+        private final Iterator<OccurrenceRow> rows;
+        private final Instant fromUtc;
+        private final Instant toUtc;
+        private final ZoneId zone;
+        private final PriorityQueue<OccurrenceItem> pending = new PriorityQueue<>(START_ORDER);
+        private OccurrenceRow nextRow;
+
+        SingleSource(Iterator<OccurrenceRow> rows, Instant fromUtc, Instant toUtc, ZoneId zone) {
+            this.rows = rows;
+            this.fromUtc = fromUtc;
+            this.toUtc = toUtc;
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public OccurrenceItem next() {
+            fill();
+            OccurrenceItem item = pending.poll();
+            if (item == null) throw new NoSuchElementException();
+            return item;
+        }
+
+        // 대기열 head보다 먼저(같게) 시작하는 행이 남아 있으면 계속 당겨온다
+        private void fill() {
+            while (true) {
+                if (nextRow == null && rows.hasNext()) nextRow = rows.next();
+                if (nextRow == null) return;
+                if (!pending.isEmpty() && nextRow.startAt().isAfter(pending.peek().startAtUtc())) return;
+
+                for (var split : occurrenceSplitter.splitIfMultiDay(nextRow.startAt(), nextRow.endAt(), zone)) {
+                    if (split.startUtc().isBefore(toUtc) && split.endUtc().isAfter(fromUtc)) {
+                        pending.add(OccurrenceAssembler.item(nextRow.scheduleId(), nextRow.calendarId(), nextRow.title(), nextRow.theme(),
+                                split.startUtc(), split.endUtc(), false));
+                    }
+                }
+                nextRow = null;
+            }
+        }
+    }
+
+    /** 반복 시리즈: CHUNK_MONTHS씩 전개해서 시작 시각순으로 내보냄 */
+    private final class RecurringSource implements Iterator<OccurrenceItem> {
+        private final Schedule schedule;
+        private final ZonedDateTime fromZ;
+        private final ZonedDateTime toZ;
+        private final ZoneId zone;
+        private final ArrayDeque<OccurrenceItem> buf = new ArrayDeque<>();
+        private int chunk;
+
+        RecurringSource(Schedule schedule, ZonedDateTime fromZ, ZonedDateTime toZ, ZoneId zone) {
+            this.schedule = schedule;
+            this.fromZ = fromZ;
+            this.toZ = toZ;
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (buf.isEmpty()) {
+                ZonedDateTime chunkFrom = fromZ.plusMonths((long) chunk * CHUNK_MONTHS);
+                if (!chunkFrom.isBefore(toZ)) return false;
+                loadChunk(chunkFrom);
+            }
+            return true;
+        }
+
+        @Override
+        public OccurrenceItem next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return buf.poll();
+        }
+
+        private void loadChunk(ZonedDateTime chunkFrom) {
+            ZonedDateTime chunkTo = fromZ.plusMonths((long) (chunk + 1) * CHUNK_MONTHS);
+            if (chunkTo.isAfter(toZ)) chunkTo = toZ;
+
+            // 첫 구간은 윈도우 앞에서 시작해 걸쳐 있는 것까지, 이후 구간은 구간 안에서 시작하는 것만
+            // (앞 구간과 겹치는 건 이미 내보냄)
+            Instant chunkStart = chunkFrom.toInstant();
+            boolean first = chunk == 0;
+            List<RecurrenceExpander.Slice> slices = new ArrayList<>();
+            for (var occ : recurrenceExpander.expand(schedule, schedule.getRecurrence(), chunkFrom, chunkTo, zone)) {
+                if (first || !occ.startUtc().isBefore(chunkStart)) slices.add(occ);
+            }
+            slices.sort(Comparator.comparing(RecurrenceExpander.Slice::startUtc));
+            for (var occ : slices) {
+                buf.add(OccurrenceAssembler.item(schedule.getId(), schedule.getCalendar().getId(), schedule.getTitle(),
+                        schedule.getTheme().name(), occ.startUtc(), occ.endUtc(), true));
+            }
+            chunk++;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.occurrence.repository.ScheduleChangeRepository;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 델타 동기화용 변경 기록.
+ * - 일정/반복/예외/참가자/장소 변경 서비스에서 같은 트랜잭션 안에서 호출
+ * - 캘린더 순번은 조건부 GET의 ETag 계산에도 쓰임 (CalendarVersionService)
+ * - 호출할 때마다 캘린더 순번이 1 증가하고 그 일정의 마지막 변경 순번이 갱신됨
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ScheduleChangeService {
+
+    private final ScheduleChangeRepository scheduleChangeRepository;
+
+    public void changed(Schedule s) {
+        record(s.getCalendar().getId(), s.getId(), false);
+    }
+
+    public void removed(Schedule s) {
+        record(s.getCalendar().getId(), s.getId(), true);
+    }
+
+    /** 일정과 무관한 캘린더 변경(이름/공개 범위/멤버) - 순번만 올려 ETag를 무효화 */
+    public void calendarChanged(Long calendarId) {
+        scheduleChangeRepository.nextSeq(calendarId);
+    }
+
+    private void record(Long calendarId, Long scheduleId, boolean removed) {
+        long seq = scheduleChangeRepository.nextSeq(calendarId);
+        scheduleChangeRepository.upsert(calendarId, scheduleId, seq, removed);
+    }
+}
@@ -0,0 +1,133 @@
+package com.calendarbox.backend.occurrence.service;
+
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.occurrence.dto.response.ScheduleConflictItem;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository.ConflictRow;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander;
+import com.calendarbox.backend.occurrence.support.RecurringSeriesLoader;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static com.calendarbox.backend.occurrence.service.OccurrenceIndexService.INDEX_ZONE;
+
+/**
+ * 일정 생성/수정 시 겹치는 일정(같은 캘린더, 또는 같은 참가자) 찾기.
+ * - 전체 전개 대신 물리화된 occurrence(schedule_occurrence)를 GiST(time_range)로 구간 조회
+ * - 내 일정은 반복이면 오늘부터 window-months 안의 occurrence만 검사 (max-own개까지)
+ * - 물리화가 덮지 못하는 시리즈(INLINE 등)는 즉석 전개로 보충 (같은 캘린더 + 참가자가 들어간 다른 캘린더)
+ * - 다른 캘린더 일정은 요청자가 그 캘린더 멤버일 때만 제목/캘린더를 보여주고, 아니면 바쁜 시간만
+ * OccurrenceIndexService.rebuild 이후, 같은 트랜잭션 안에서 호출
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ScheduleConflictService {
+
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final RecurringSeriesLoader recurringSeriesLoader;
+    private final RecurrenceExpander recurrenceExpander;
+    private final AccessDecisionCache accessDecisionCache;
+
+    @Value("${occurrence.conflict.enabled:true}")
+    private boolean enabled;
+
+    @Value("${occurrence.conflict.window-months:3}")
+    private int windowMonths;
+
+    @Value("${occurrence.conflict.max-own:200}")
+    private int maxOwn;
+
+    @Value("${occurrence.conflict.max-results:20}")
+    private int maxResults;
+
+    public List<ScheduleConflictItem> findConflicts(Long userId, Schedule s) {
+        if (!enabled) return List.of();
+
+        List<RecurrenceExpander.Slice> mine = ownSlices(s);
+        if (mine.isEmpty()) return List.of();
+
+        Long calendarId = s.getCalendar().getId();
+        List<Long> memberIds = s.getParticipants().stream()
+                .filter(p -> p.getMember() != null && p.getStatus() != ScheduleParticipantStatus.REJECTED)
+                .map(p -> p.getMember().getId())
+                .distinct()
+                .toList();
+
+        Map<String, ConflictRow> out = new LinkedHashMap<>();
+        for (var row : scheduleOccurrenceRepository.findConflicting(s.getId(), calendarId, memberIds, mine, maxResults)) {
+            out.putIfAbsent(row.scheduleId() + "@" + row.startAt(), row);
+        }
+        addLagging(s, calendarId, memberIds, mine, out);
+
+        return out.values().stream()
+                .sorted(Comparator.comparing(ConflictRow::startAt).thenComparing(ConflictRow::scheduleId))
+                .limit(maxResults)
+                .map(row -> toItem(userId, row))
+                .toList();
+    }
+
+    /** 같은 캘린더이거나 요청자가 멤버인 캘린더 일정만 제목/캘린더 공개, 나머지는 바쁜 시간만 */
+    private ScheduleConflictItem toItem(Long userId, ConflictRow row) {
+        if (row.sameCalendar() || accessDecisionCache.isCalendarMember(row.calendarId(), userId)) {
+            return new ScheduleConflictItem(
+                    row.scheduleId(), row.calendarId(), row.title(), row.startAt(), row.endAt(),
+                    row.recurring(), row.sameCalendar());
+        }
+        return ScheduleConflictItem.busy(row.startAt(), row.endAt(), row.recurring());
+    }
+
+    /** 검사할 내 occurrence: 단발은 그대로, 반복은 [오늘(또는 시드), +window-months) 전개 */
+    private List<RecurrenceExpander.Slice> ownSlices(Schedule s) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return List.of(new RecurrenceExpander.Slice(s.getStartAt(), s.getEndAt()));
+
+        ZonedDateTime today = ZonedDateTime.now(INDEX_ZONE).toLocalDate().atStartOfDay(INDEX_ZONE);
+        ZonedDateTime seed = s.getStartAt().atZone(INDEX_ZONE);
+        ZonedDateTime from = seed.isAfter(today) ? seed : today;
+        List<RecurrenceExpander.Slice> slices = recurrenceExpander.expand(s, r, from, from.plusMonths(windowMonths), INDEX_ZONE);
+        return slices.size() > maxOwn ? slices.subList(0, maxOwn) : slices;
+    }
+
+    private void addLagging(Schedule s, Long calendarId, List<Long> memberIds, List<RecurrenceExpander.Slice> mine,
+                            Map<String, ConflictRow> out) {
+        Instant fromUtc = mine.get(0).startUtc();
+        Instant toUtc = mine.stream().map(RecurrenceExpander.Slice::endUtc).max(Comparator.naturalOrder()).orElseThrow();
+        Set<Long> lagging = new HashSet<>(
+                scheduleOccurrenceRepository.findLaggingRecurringScheduleIds(List.of(calendarId), fromUtc, toUtc));
+        lagging.addAll(scheduleOccurrenceRepository.findLaggingRecurringScheduleIdsOfParticipants(
+                memberIds, calendarId, fromUtc, toUtc));
+        lagging.remove(s.getId());
+        if (lagging.isEmpty()) return;
+
+        ZonedDateTime fromZ = fromUtc.atZone(INDEX_ZONE);
+        ZonedDateTime toZ = toUtc.atZone(INDEX_ZONE);
+        for (Schedule other : recurringSeriesLoader.byIds(lagging)) {
+            Long otherCalendarId = other.getCalendar().getId();
+            boolean sameCalendar = calendarId.equals(otherCalendarId);
+            for (var occ : recurrenceExpander.expand(other, other.getRecurrence(), fromZ, toZ, INDEX_ZONE)) {
+                if (!overlapsAny(occ, mine)) continue;
+                out.putIfAbsent(other.getId() + "@" + occ.startUtc(), new ConflictRow(
+                        other.getId(), otherCalendarId, other.getTitle(), occ.startUtc(), occ.endUtc(), true, sameCalendar));
+            }
+        }
+    }
+
+    /** mine은 시작순 정렬 → 시작이 occ 끝 이전인 구간까지만 확인 */
+    private static boolean overlapsAny(RecurrenceExpander.Slice occ, List<RecurrenceExpander.Slice> mine) {
+        for (var m : mine) {
+            if (!m.startUtc().isBefore(occ.endUtc())) return false;
+            if (m.endUtc().isAfter(occ.startUtc())) return true;
+        }
+        return false;
+    }
+}
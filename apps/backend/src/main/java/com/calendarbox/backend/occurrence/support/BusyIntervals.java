@@ -0,0 +1,63 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander.Slice;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * free/busy용 구간 계산 (제목 등은 다루지 않고 [start, end) 구간만).
+ */
+public final class BusyIntervals {
+
+    private BusyIntervals() {}
+
+    /** 시작 시각순으로 훑으며 겹치거나 맞닿은 구간을 합침 */
+    public static List<Slice> merge(List<Slice> intervals) {
+        if (intervals.isEmpty()) return List.of();
+        List<Slice> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(Slice::startUtc));
+
+        List<Slice> out = new ArrayList<>();
+        Instant curStart = sorted.get(0).startUtc();
+        Instant curEnd = sorted.get(0).endUtc();
+        for (int i = 1; i < sorted.size(); i++) {
+            Slice s = sorted.get(i);
+            if (!s.startUtc().isAfter(curEnd)) {
+                if (s.endUtc().isAfter(curEnd)) curEnd = s.endUtc();
+            } else {
+                out.add(new Slice(curStart, curEnd));
+                curStart = s.startUtc();
+                curEnd = s.endUtc();
+            }
+        }
+        out.add(new Slice(curStart, curEnd));
+        return out;
+    }
+
+    /** [from, to)로 잘라냄 (merge 결과처럼 정렬된 입력) */
+    public static List<Slice> clip(List<Slice> merged, Instant from, Instant to) {
+        List<Slice> out = new ArrayList<>();
+        for (Slice s : merged) {
+            if (!s.startUtc().isBefore(to)) break;
+            if (!s.endUtc().isAfter(from)) continue;
+            Instant st = s.startUtc().isBefore(from) ? from : s.startUtc();
+            Instant et = s.endUtc().isAfter(to) ? to : s.endUtc();
+            out.add(new Slice(st, et));
+        }
+        return out;
+    }
+
+    /** 정렬·병합된 구간을 로컬 날짜 [firstDay, lastDay] 버킷으로 나눔 (빈 날짜도 빈 리스트로 포함) */
+    public static Map<LocalDate, List<Slice>> splitByDay(List<Slice> merged, LocalDate firstDay, LocalDate lastDay, ZoneId zone) {
+        Map<LocalDate, List<Slice>> out = new LinkedHashMap<>();
+        for (LocalDate d = firstDay; !d.isAfter(lastDay); d = d.plusDays(1)) {
+            Instant dayStart = d.atStartOfDay(zone).toInstant();
+            Instant dayEnd = d.plusDays(1).atStartOfDay(zone).toInstant();
+            out.put(d, List.copyOf(clip(merged, dayStart, dayEnd)));
+        }
+        return out;
+    }
+}
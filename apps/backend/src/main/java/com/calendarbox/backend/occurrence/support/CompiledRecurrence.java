@@ -0,0 +1,106 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전개용으로 미리 파싱해 둔 반복 규칙.
+ * - byDay 문자열/정규식 파싱, 월 집합 정렬 등을 규칙 버전당 한 번만 수행
+ * - 전개 루프에서는 배열만 읽는다
+ */
+public record CompiledRecurrence(
+        RecurrenceFreq freq,
+        int interval,
+        int weeklyMask,            // WEEKLY: 요일 비트마스크 (bit0=MO ... bit6=SU)
+        DayOfWeek[] weeklyDays,    // WEEKLY: 월→일 순서
+        int[] ordinals,            // MONTHLY/YEARLY: 서수 byDay (1..5, -1..-5)
+        DayOfWeek[] ordinalDays,   // ordinals와 같은 인덱스
+        int[] monthdays,           // byMonthday (음수 포함, null 제거)
+        int[] months               // YEARLY: 1..12 오름차순, 중복 제거
+) {
+
+    private static final Pattern BYDAY_TOKEN =
+            Pattern.compile("^([+-]?[1-5])?(MO|TU|WE|TH|FR|SA|SU)$");
+
+    public boolean hasWeeklyDays() { return weeklyMask != 0; }
+
+    public static CompiledRecurrence compile(ScheduleRecurrence r) {
+        int weeklyMask = weeklyMask(r.getByDay());
+
+        List<Integer> ords = new ArrayList<>();
+        List<DayOfWeek> ordDows = new ArrayList<>();
+        parseOrdinalDaysStrict(r.getByDay(), ords, ordDows);
+
+        return new CompiledRecurrence(
+                r.getFreq(),
+                Math.max(1, r.getIntervalCount()),
+                weeklyMask,
+                daysOf(weeklyMask),
+                ords.stream().mapToInt(Integer::intValue).toArray(),
+                ordDows.toArray(DayOfWeek[]::new),
+                toIntArray(r.getByMonthday()),
+                toSortedDistinct(r.getByMonth())
+        );
+    }
+
+    // 서수(예: 3WE, -1SU)는 WEEKLY에서는 무시하고 요일만 취함
+    private static int weeklyMask(String[] byDay) {
+        if (byDay == null || byDay.length == 0) return 0;
+        int mask = 0;
+        for (String token : byDay) {
+            if (token == null || token.isBlank()) continue;
+            String t = token.trim().toUpperCase(Locale.ROOT);
+            DayOfWeek dow = dayOf(t.substring(Math.max(0, t.length() - 2)));
+            if (dow != null) mask |= 1 << (dow.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static DayOfWeek[] daysOf(int mask) {
+        DayOfWeek[] out = new DayOfWeek[Integer.bitCount(mask)];
+        int i = 0;
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            if ((mask & (1 << (dow.getValue() - 1))) != 0) out[i++] = dow;
+        }
+        return out;
+    }
+
+    private static void parseOrdinalDaysStrict(String[] byDay, List<Integer> ords, List<DayOfWeek> dows) {
+        if (byDay == null) return;
+        for (String raw : byDay) {
+            if (raw == null) continue;
+            Matcher m = BYDAY_TOKEN.matcher(raw.trim().toUpperCase(Locale.ROOT));
+            if (!m.matches() || m.group(1) == null) continue; // 방어적
+            ords.add(Integer.parseInt(m.group(1)));             // 1..5 or -1..-5
+            dows.add(dayOf(m.group(2)));
+        }
+    }
+
+    private static DayOfWeek dayOf(String two) {
+        return switch (two) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> null;
+        };
+    }
+
+    private static int[] toIntArray(Integer[] arr) {
+        if (arr == null) return new int[0];
+        return Arrays.stream(arr).filter(Objects::nonNull).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] toSortedDistinct(Integer[] arr) {
+        if (arr == null) return new int[0];
+        return Arrays.stream(arr).filter(Objects::nonNull).mapToInt(Integer::intValue).distinct().sorted().toArray();
+    }
+}
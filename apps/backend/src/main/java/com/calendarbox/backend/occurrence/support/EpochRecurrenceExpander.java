@@ -0,0 +1,439 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.calendarbox.backend.occurrence.support.ZoneTransitionTable.*;
+
+/**
+ * epoch-second 기반 반복 전개 엔진 (occurrence.expander.engine=epoch).
+ * - RecurrenceExpanderImpl과 결과(순서 포함)가 같도록 ZonedDateTime 연산을 그대로 흉내냄
+ *   (plusX/withX 마다 로컬 시각을 직전 오프셋 기준으로 다시 해석)
+ * - 시각은 (local epoch-second, offset)을 묶은 long 하나로 다루고,
+ *   zone 전환 시점은 윈도우당 한 번 ZoneTransitionTable로 펼쳐둠
+ * - 후보/예외/중복 체크/결과는 스레드별 primitive 버퍼를 재사용
+ */
+@Component
+@ConditionalOnProperty(name = "occurrence.expander.engine", havingValue = "epoch")
+@RequiredArgsConstructor
+public class EpochRecurrenceExpander implements RecurrenceExpander {
+
+    // 안전장치: 한번 호출에서 전개할 최대 occurrence 수 (RecurrenceExpanderImpl과 동일)
+    private static final int MAX_OCCURRENCES = 5000;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    // 전환표 여유 범위(일)
+    private static final long TABLE_MARGIN_DAYS = 800L;
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private final RecurrencePlanCache recurrencePlanCache;
+
+    @Override
+    public List<Slice> expand(Schedule s, ScheduleRecurrence r,
+                              ZonedDateTime winFrom, ZonedDateTime winTo, ZoneId zone) {
+        OccurrenceBuffer buf = WORKSPACE.get().result;
+        expandInto(s, r, winFrom, winTo, zone, buf);
+        return buf.toSlices();
+    }
+
+    /**
+     * expand와 같은 결과를 out 버퍼에 기록 (Slice/Instant 생성 없음).
+     * out은 호출 시 초기화된다.
+     */
+    public void expandInto(Schedule s, ScheduleRecurrence r,
+                           ZonedDateTime winFrom, ZonedDateTime winTo, ZoneId zone,
+                           OccurrenceBuffer out) {
+        Workspace w = WORKSPACE.get();
+
+        Instant seedStartAt = s.getStartAt();
+        Instant seedEndAt = s.getEndAt();
+        long seedSec = seedStartAt.getEpochSecond();
+        int nano = seedStartAt.getNano();   // 모든 후보의 시작 nano는 시드와 같음
+
+        // 종료 = 시작 + (seedEnd - seedStart)
+        long durSec = seedEndAt.getEpochSecond() - seedSec;
+        int endNano = seedEndAt.getNano() - nano;
+        if (endNano < 0) { endNano += 1_000_000_000; durSec--; }
+        endNano += nano;
+        long endCarry = 0;
+        if (endNano >= 1_000_000_000) { endNano -= 1_000_000_000; endCarry = 1; }
+        durSec += endCarry;     // start + durSec, endNano
+
+        out.reset(nano, endNano);
+        if (!seedStartAt.isBefore(seedEndAt)) return;
+
+        long fromSec = winFrom.toEpochSecond();
+        int fromNano = winFrom.getNano();
+        long toSec = winTo.toEpochSecond();
+        int toNano = winTo.getNano();
+
+        // 윈도우 상한: until(있으면 min 적용)
+        long upperSec = toSec;
+        int upperNano = toNano;
+        Instant until = r.getUntil();
+        if (until != null && isBefore(until.getEpochSecond(), until.getNano(), upperSec, upperNano)) {
+            upperSec = until.getEpochSecond();
+            upperNano = until.getNano();
+        }
+
+        CompiledRecurrence plan = recurrencePlanCache.get(r);
+        RecurrenceFreq freq = plan.freq();
+        int interval = plan.interval();
+
+        // 전환표: 커서가 움직일 수 있는 구간 + 여유
+        long stepSec = stepDays(freq) * interval * SECONDS_PER_DAY;
+        long margin = TABLE_MARGIN_DAYS * SECONDS_PER_DAY;
+        w.zoneTable.ensure(zone,
+                Math.max(seedSec, fromSec - stepSec) - margin,
+                Math.max(upperSec, fromSec) + stepSec + margin);
+        ZoneTransitionTable zt = w.zoneTable;
+
+        w.exceptions.reset(r.exceptionEpochDays());
+        w.seen.clear();
+
+        int seedOffset = zt.offsetAt(seedSec);
+        long seed = pack(seedSec + seedOffset, seedOffset);
+        long seedTime = Math.floorMod(local(seed), SECONDS_PER_DAY);
+
+        long seedEndSec = seedSec + durSec;
+        if (isBefore(seedSec, nano, toSec, toNano) && isAfter(seedEndSec, endNano, fromSec, fromNano)) {
+            if (isAfter(seedSec, nano, upperSec, upperNano)) {
+            } else if (!w.exceptions.isException(Math.floorDiv(local(seed), SECONDS_PER_DAY))) {
+                if (w.seen.add(seedSec)) out.add(seedSec, seedEndSec);
+            }
+        }
+
+        // 윈도우와 겹칠 수 있는 첫 주기로 바로 이동 (RecurrenceExpanderImpl과 같은 닫힌 식)
+        RecurrenceCalendar calendar = new RecurrenceCalendar(plan, LocalDate.ofEpochDay(Math.floorDiv(local(seed), SECONDS_PER_DAY)));
+        long period = calendar.firstPeriodReaching(RecurrenceCalendar.seekDay(
+                winFrom.toInstant(), Duration.between(seedStartAt, seedEndAt), zone));
+        long lastDay = RecurrenceCalendar.seekEndDay(winTo.toInstant(), zone);
+
+        while (out.size() < MAX_OCCURRENCES) {
+            long cursor = periodCursor(zt, seed, freq, period * interval);
+
+            // 시리즈 끝(until) / 윈도우 끝
+            if (until != null && !isBefore(epochSecond(cursor), nano, until.getEpochSecond(), until.getNano())) break;
+            if (calendar.firstPossibleDay(period) > lastDay) break;
+
+            w.candSize = 0;
+            switch (freq) {
+                case DAILY -> w.addCandidate(cursor);
+                case WEEKLY -> projectWeekly(w, zt, plan, cursor);
+                case MONTHLY -> projectMonth(w, zt, plan, cursor, seedTime);
+                case YEARLY -> projectYear(w, zt, plan, cursor, seedTime);
+            }
+            w.sortCandidates();
+
+            for (int i = 0; i < w.candSize; i++) {
+                long c = w.cand[i];
+                long cs = epochSecond(c);
+                long ce = cs + durSec;
+
+                // 윈도우 교차 여부
+                if (isBefore(cs, nano, toSec, toNano) && isAfter(ce, endNano, fromSec, fromNano)) {
+                    if (w.exceptions.isException(Math.floorDiv(local(c), SECONDS_PER_DAY))) continue;
+                    if (!w.seen.add(cs)) continue;
+
+                    out.add(cs, ce);
+                    if (out.size() >= MAX_OCCURRENCES) break;
+                }
+            }
+
+            period++;
+        }
+    }
+
+    /** 주기 커서 = 시드 + amount (freq 단위) */
+    private static long periodCursor(ZoneTransitionTable zt, long seed, RecurrenceFreq freq, long amount) {
+        return switch (freq) {
+            case DAILY   -> plusDays(zt, seed, amount);
+            case WEEKLY  -> plusDays(zt, seed, 7L * amount);
+            case MONTHLY -> plusMonths(zt, seed, amount);
+            case YEARLY  -> plusYears(zt, seed, amount);
+        };
+    }
+
+    /** WEEKLY: cursor가 속한 주(월요일 시작)에서 byDay 요일들, byDay가 없으면 cursor 그대로 */
+    private void projectWeekly(Workspace w, ZoneTransitionTable zt, CompiledRecurrence plan, long cursor) {
+        if (!plan.hasWeeklyDays()) {
+            w.addCandidate(cursor);
+            return;
+        }
+        long time = Math.floorMod(local(cursor), SECONDS_PER_DAY);
+        long monday = previousOrSame(zt, cursor, DayOfWeek.MONDAY.getValue());
+        for (DayOfWeek dow : plan.weeklyDays()) {
+            long d = nextOrSame(zt, monday, dow.getValue());
+            w.addCandidate(withTime(zt, d, time));
+        }
+    }
+
+    private void projectYear(Workspace w, ZoneTransitionTable zt, CompiledRecurrence plan,
+                             long cursor, long seedTime) {
+        long year = year(civil(Math.floorDiv(local(cursor), SECONDS_PER_DAY)));
+        for (int m : plan.months()) {
+            // 그 해의 해당 월 1일 + seed 시각 (선호 오프셋 없음)
+            checkMonth(m);
+            long anchor = zt.resolve(epochDay(year, m, 1) * SECONDS_PER_DAY + seedTime, NO_OFFSET);
+            projectMonth(w, zt, plan, anchor, seedTime);
+        }
+    }
+
+    /** 한 달 안의 후보: byMonthday 먼저, 그 다음 서수 byDay */
+    private void projectMonth(Workspace w, ZoneTransitionTable zt, CompiledRecurrence plan,
+                              long anchor, long seedTime) {
+        long ymd = civil(Math.floorDiv(local(anchor), SECONDS_PER_DAY));
+        int len = lengthOfMonth(year(ymd), month(ymd));
+
+        // 1) byMonthday (예: 15일, 31일, -1=말일)
+        for (int spec : plan.monthdays()) {
+            int day = spec > 0 ? Math.min(spec, len) : Math.max(1, len + spec + 1);
+            checkDayOfMonth(day, len);
+            w.addCandidate(withTime(zt, withDayOfMonth(zt, anchor, day), seedTime));
+        }
+
+        // 2) ordinal byDay
+        int[] ordinals = plan.ordinals();
+        if (ordinals.length == 0) return;
+
+        long first = withTime(zt, withDayOfMonth(zt, anchor, 1), seedTime);
+        DayOfWeek[] dows = plan.ordinalDays();
+        for (int i = 0; i < ordinals.length; i++) {
+            int target = dows[i].getValue();
+            long cand;
+            if (ordinals[i] > 0) {
+                // TemporalAdjusters.dayOfWeekInMonth: 1일로 맞춘 뒤 요일 차 + (n-1)주
+                long temp = withDayOfMonth(zt, first, 1);
+                int diff = (target - dayOfWeek(temp) + 7) % 7;
+                cand = plusDays(zt, temp, diff + (ordinals[i] - 1L) * 7L);
+            } else {
+                // TemporalAdjusters.lastInMonth: 말일로 맞춘 뒤 뒤로
+                long firstYmd = civil(Math.floorDiv(local(first), SECONDS_PER_DAY));
+                long temp = withDayOfMonth(zt, first, lengthOfMonth(year(firstYmd), month(firstYmd)));
+                int diff = dayOfWeek(temp) - target;
+                if (diff < 0) diff += 7;
+                cand = plusDays(zt, temp, -diff);
+                int k = Math.abs(ordinals[i]);
+                if (k > 1) cand = plusDays(zt, cand, -7L * (k - 1)); // -2, -3 등 뒤에서 n번째
+            }
+            w.addCandidate(cand);
+        }
+    }
+
+    // ---- ZonedDateTime 연산 대응 (모두 직전 오프셋을 선호 오프셋으로 재해석) ----
+
+    private static long plusDays(ZoneTransitionTable zt, long z, long days) {
+        return zt.resolve(local(z) + days * SECONDS_PER_DAY, offset(z));
+    }
+
+    private static long plusMonths(ZoneTransitionTable zt, long z, long months) {
+        long day = Math.floorDiv(local(z), SECONDS_PER_DAY);
+        long time = Math.floorMod(local(z), SECONDS_PER_DAY);
+        long ymd = civil(day);
+        long calc = year(ymd) * 12 + (month(ymd) - 1) + months;
+        long y = Math.floorDiv(calc, 12);
+        int m = (int) Math.floorMod(calc, 12) + 1;
+        int d = Math.min(day(ymd), lengthOfMonth(y, m));
+        return zt.resolve(epochDay(y, m, d) * SECONDS_PER_DAY + time, offset(z));
+    }
+
+    private static long plusYears(ZoneTransitionTable zt, long z, long years) {
+        long day = Math.floorDiv(local(z), SECONDS_PER_DAY);
+        long time = Math.floorMod(local(z), SECONDS_PER_DAY);
+        long ymd = civil(day);
+        long y = year(ymd) + years;
+        int m = month(ymd);
+        int d = Math.min(day(ymd), lengthOfMonth(y, m));
+        return zt.resolve(epochDay(y, m, d) * SECONDS_PER_DAY + time, offset(z));
+    }
+
+    private static long withDayOfMonth(ZoneTransitionTable zt, long z, int dayOfMonth) {
+        long day = Math.floorDiv(local(z), SECONDS_PER_DAY);
+        long time = Math.floorMod(local(z), SECONDS_PER_DAY);
+        long ymd = civil(day);
+        return zt.resolve(epochDay(year(ymd), month(ymd), dayOfMonth) * SECONDS_PER_DAY + time, offset(z));
+    }
+
+    private static long withTime(ZoneTransitionTable zt, long z, long secondOfDay) {
+        long day = Math.floorDiv(local(z), SECONDS_PER_DAY);
+        return zt.resolve(day * SECONDS_PER_DAY + secondOfDay, offset(z));
+    }
+
+    private static long previousOrSame(ZoneTransitionTable zt, long z, int dow) {
+        int cur = dayOfWeek(z);
+        if (cur == dow) return z;
+        int diff = cur - dow;
+        return plusDays(zt, z, -(diff >= 0 ? diff : diff + 7));
+    }
+
+    private static long nextOrSame(ZoneTransitionTable zt, long z, int dow) {
+        int cur = dayOfWeek(z);
+        if (cur == dow) return z;
+        int diff = cur - dow;
+        return plusDays(zt, z, diff >= 0 ? 7 - diff : -diff);
+    }
+
+    // ---- 달력 계산 (epoch-day <-> 연/월/일, 객체 생성 없음) ----
+
+    private static int dayOfWeek(long z) {
+        // 1970-01-01 = 목요일(4), ISO 1=월 ... 7=일
+        return (int) Math.floorMod(Math.floorDiv(local(z), SECONDS_PER_DAY) + 3, 7) + 1;
+    }
+
+    /** epoch-day → (year << 9 | month << 5 | day) */
+    private static long civil(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long d = doy - (153 * mp + 2) / 5 + 1;
+        long m = mp < 10 ? mp + 3 : mp - 9;
+        long y = yoe + era * 400 + (m <= 2 ? 1 : 0);
+        return (y << 9) | (m << 5) | d;
+    }
+
+    private static long year(long ymd) { return ymd >> 9; }
+
+    private static int month(long ymd) { return (int) ((ymd >> 5) & 15); }
+
+    private static int day(long ymd) { return (int) (ymd & 31); }
+
+    private static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int stepDays(RecurrenceFreq freq) {
+        return switch (freq) {
+            case DAILY -> 1;
+            case WEEKLY -> 7;
+            case MONTHLY -> 31;
+            case YEARLY -> 366;
+        };
+    }
+
+    private static boolean isBefore(long aSec, int aNano, long bSec, int bNano) {
+        return aSec < bSec || (aSec == bSec && aNano < bNano);
+    }
+
+    private static boolean isAfter(long aSec, int aNano, long bSec, int bNano) {
+        return aSec > bSec || (aSec == bSec && aNano > bNano);
+    }
+
+    // 원본 구현의 LocalDate.of/withDayOfMonth가 던지는 예외를 동일하게 유지
+    private static void checkMonth(int m) {
+        if (m < 1 || m > 12) throw new DateTimeException("Invalid value for MonthOfYear: " + m);
+    }
+
+    private static void checkDayOfMonth(int d, int len) {
+        if (d < 1 || d > len) throw new DateTimeException("Invalid value for DayOfMonth: " + d);
+    }
+
+    /** 스레드별 재사용 버퍼 */
+    private static final class Workspace {
+        final OccurrenceBuffer result = new OccurrenceBuffer();
+        final ZoneTransitionTable zoneTable = new ZoneTransitionTable();
+        final LongHashSet seen = new LongHashSet();
+
+        long[] cand = new long[64];
+        int candSize;
+
+        final ExceptionDayCursor exceptions = new ExceptionDayCursor();
+
+        void addCandidate(long z) {
+            if (candSize == cand.length) cand = Arrays.copyOf(cand, candSize << 1);
+            cand[candSize++] = z;
+        }
+
+        /** instant 기준 삽입 정렬 (후보 수가 작음) */
+        void sortCandidates() {
+            for (int i = 1; i < candSize; i++) {
+                long v = cand[i];
+                long key = epochSecond(v);
+                int j = i - 1;
+                while (j >= 0 && epochSecond(cand[j]) > key) {
+                    cand[j + 1] = cand[j];
+                    j--;
+                }
+                cand[j + 1] = v;
+            }
+        }
+
+    }
+
+    /** 시작 epoch-second 중복 체크용 open addressing 집합 (세대 번호로 O(1) 초기화) */
+    private static final class LongHashSet {
+        private long[] keys = new long[256];
+        private int[] marks = new int[256];
+        private int gen = 1;
+        private int size;
+
+        void clear() {
+            size = 0;
+            if (++gen == 0) {
+                Arrays.fill(marks, 0);
+                gen = 1;
+            }
+        }
+
+        boolean add(long key) {
+            if ((size + 1) * 2 > keys.length) grow();
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (marks[i] == gen) {
+                if (keys[i] == key) return false;
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            marks[i] = gen;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldMarks = marks;
+            int oldGen = gen;
+            keys = new long[oldKeys.length << 1];
+            marks = new int[oldKeys.length << 1];
+            gen = 1;
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldMarks[j] != oldGen) continue;
+                int i = mix(oldKeys[j]) & mask;
+                while (marks[i] == gen) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                marks[i] = gen;
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
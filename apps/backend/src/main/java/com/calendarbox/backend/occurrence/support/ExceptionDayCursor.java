@@ -0,0 +1,40 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 epoch-day 예외 배열을 전개 순서대로 훑는 커서.
+ * - 후보는 날짜순으로 나오므로 보통은 포인터만 앞으로 (해시/LocalDate 생성 없음)
+ * - 멀리 건너뛰면 남은 구간 이분 탐색, 앞 날짜로 되돌아온 조회는 전체 이분 탐색
+ * 전개 한 번 동안만 쓰고 reset으로 재사용
+ */
+public final class ExceptionDayCursor {
+
+    private static final int[] NONE = new int[0];
+
+    private int[] days = NONE;
+    private int pos;
+    private long last;
+
+    public ExceptionDayCursor reset(int[] sortedDays) {
+        this.days = sortedDays == null ? NONE : sortedDays;
+        this.pos = 0;
+        this.last = Long.MIN_VALUE;
+        return this;
+    }
+
+    public boolean isException(long epochDay) {
+        if (days.length == 0) return false;
+        if (epochDay < last) return Arrays.binarySearch(days, (int) epochDay) >= 0;
+        last = epochDay;
+
+        if (pos < days.length && days[pos] < epochDay) {
+            pos++;
+            if (pos < days.length && days[pos] < epochDay) {
+                int i = Arrays.binarySearch(days, pos, days.length, (int) epochDay);
+                pos = i >= 0 ? i : -i - 1;
+            }
+        }
+        return pos < days.length && days[pos] == epochDay;
+    }
+}
@@ -0,0 +1,169 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.global.infra.cache.CacheInvalidator;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache.Span;
+import com.calendarbox.backend.occurrence.support.RecurrenceExpander.Slice;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleParticipant;
+import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * (회원, 로컬 날짜) 단위 busy 구간 로컬 캐시.
+ * - 하루치 병합 결과를 저장 → 윈도우가 달라도 겹치는 날짜는 재사용
+ * - 일정/예외/참가자/캘린더 멤버를 바꾸는 서비스가 커밋 후 영향받는 회원의 날짜만 무효화
+ *   → 로컬에서 지우고 Redis pub/sub으로 다른 노드에도 전파
+ * - 전파가 유실돼도 TTL 안에는 맞춰짐
+ */
+@Slf4j
+@Component
+public class FreeBusyCache {
+
+    static final String CHANNEL = "freebusy:invalidate";
+
+    // 예외 날짜/조회 타임존이 달라도 놓치지 않도록 앞뒤 하루 여유
+    private static final Duration DAY_SLACK = Duration.ofDays(1);
+
+    private record Key(Long memberId, LocalDate day, ZoneId zone) {}
+
+    private final CalendarMemberRepository calendarMemberRepository;
+    private final Cache<Key, List<Slice>> cache;
+    private final CacheInvalidator invalidator;
+
+    public FreeBusyCache(CalendarMemberRepository calendarMemberRepository,
+                         StringRedisTemplate redis,
+                         RedisMessageListenerContainer listenerContainer,
+                         @Value("${occurrence.freebusy.cache-ttl-seconds:60}") long ttlSeconds,
+                         @Value("${occurrence.freebusy.cache-max-size:50000}") long maxSize) {
+        this.calendarMemberRepository = calendarMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.invalidator = new CacheInvalidator(CHANNEL, redis, listenerContainer, this::evictLocal);
+    }
+
+    /**
+     * [firstDay, lastDay]의 날짜별 busy 구간.
+     * 캐시에 없는 날짜는 loader로 한 번에 계산 (loader는 요청 범위 밖 날짜를 더 돌려줘도 됨)
+     */
+    public Map<LocalDate, List<Slice>> getDays(Long memberId, LocalDate firstDay, LocalDate lastDay, ZoneId zone,
+                                               Function<SortedSet<LocalDate>, Map<LocalDate, List<Slice>>> loader) {
+        List<Key> keys = new ArrayList<>();
+        for (LocalDate d = firstDay; !d.isAfter(lastDay); d = d.plusDays(1)) keys.add(new Key(memberId, d, zone));
+
+        Map<Key, List<Slice>> found = cache.getAll(keys, missing -> {
+            SortedSet<LocalDate> days = new TreeSet<>();
+            for (Key k : missing) days.add(k.day());
+            Map<Key, List<Slice>> loaded = new HashMap<>();
+            loader.apply(days).forEach((d, v) -> loaded.put(new Key(memberId, d, zone), v));
+            return loaded;
+        });
+
+        Map<LocalDate, List<Slice>> out = new LinkedHashMap<>();
+        for (Key k : keys) out.put(k.day(), found.getOrDefault(k, List.of()));
+        return out;
+    }
+
+    /**
+     * 일정 생성/수정/삭제: 캘린더 ACCEPTED 멤버 + ACCEPTED 참가자의, 일정이 (변경 전/후) 걸친 날짜.
+     * 삭제는 엔티티를 지우기 전에 호출 (멤버/참가자 조회)
+     */
+    public void evictAfterCommit(Schedule s, Span... before) {
+        List<Span> spans = new ArrayList<>(Arrays.asList(before));
+        spans.add(OccurrenceMonthCache.spanOf(s));
+        invalidateAfterCommit(affectedMembers(s), spans);
+    }
+
+    /** 예외 날짜 추가/삭제: 그 날 시작하는 occurrence가 걸친 날짜만 */
+    public void evictDayAfterCommit(Schedule s, LocalDate date, ZoneId dateZone) {
+        Instant from = date.atStartOfDay(dateZone).toInstant();
+        Instant to = date.plusDays(1).atStartOfDay(dateZone).toInstant()
+                .plus(Duration.between(s.getStartAt(), s.getEndAt()));
+        invalidateAfterCommit(affectedMembers(s), List.of(new Span(from, to)));
+    }
+
+    /** 일정 참가자 상태 변경 (수락/삭제): 그 회원의, 일정이 걸친 날짜만 */
+    public void evictMemberAfterCommit(Long memberId, Schedule s) {
+        invalidateAfterCommit(Set.of(memberId), List.of(OccurrenceMonthCache.spanOf(s)));
+    }
+
+    /** 캘린더 멤버 변경 (수락/삭제/캘린더 생성·삭제): 그 회원들의 모든 날짜 */
+    public void evictMembersAfterCommit(Collection<Long> memberIds) {
+        invalidateAfterCommit(new LinkedHashSet<>(memberIds), null);
+    }
+
+    private Set<Long> affectedMembers(Schedule s) {
+        Set<Long> members = new LinkedHashSet<>(calendarMemberRepository.findAcceptedMemberIds(s.getCalendar().getId()));
+        for (ScheduleParticipant p : s.getParticipants()) {
+            if (p.getMember() != null && p.getStatus() == ScheduleParticipantStatus.ACCEPTED) {
+                members.add(p.getMember().getId());
+            }
+        }
+        return members;
+    }
+
+    /** spans가 null이면 회원의 모든 날짜 */
+    private void invalidateAfterCommit(Set<Long> memberIds, List<Span> spans) {
+        if (memberIds.isEmpty()) return;
+        invalidator.invalidateAfterCommit(message(memberIds, spans));
+    }
+
+    /** "12,34|*" (모든 날짜) / "12,34|from|to|from|to" (epoch 초, to가 *면 끝없는 시리즈) */
+    private static String message(Set<Long> memberIds, List<Span> spans) {
+        StringBuilder sb = new StringBuilder(memberIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        if (spans == null) return sb.append("|*").toString();
+        for (Span sp : spans) {
+            sb.append('|').append(sp.from().getEpochSecond())
+              .append('|').append(sp.to() == null ? "*" : String.valueOf(sp.to().getEpochSecond() + 1));
+        }
+        return sb.toString();
+    }
+
+    private void evictLocal(String message) {
+        String[] parts = message.split("\\|");
+        try {
+            Set<Long> members = new HashSet<>();
+            for (String id : parts[0].split(",")) members.add(Long.valueOf(id));
+            if (parts.length == 2 && "*".equals(parts[1])) {
+                cache.asMap().keySet().removeIf(k -> members.contains(k.memberId()));
+                return;
+            }
+            if (parts.length % 2 != 1) throw new IllegalArgumentException(message);
+            List<Span> spans = new ArrayList<>();
+            for (int i = 1; i < parts.length; i += 2) {
+                Instant to = "*".equals(parts[i + 1]) ? null : Instant.ofEpochSecond(Long.parseLong(parts[i + 1]));
+                spans.add(new Span(Instant.ofEpochSecond(Long.parseLong(parts[i])), to));
+            }
+            cache.asMap().keySet().removeIf(k -> members.contains(k.memberId()) && touches(spans, k.day(), k.zone()));
+        } catch (IllegalArgumentException e) {
+            log.warn("[FREEBUSY CACHE] unknown message={}", message);
+        }
+    }
+
+    private static boolean touches(List<Span> spans, LocalDate day, ZoneId zone) {
+        Instant dayStart = day.atStartOfDay(zone).toInstant();
+        Instant dayEnd = day.plusDays(1).atStartOfDay(zone).toInstant();
+        for (Span sp : spans) {
+            boolean startsBeforeEnd = sp.from().minus(DAY_SLACK).isBefore(dayEnd);
+            boolean endsAfterStart = sp.to() == null || sp.to().plus(DAY_SLACK).isAfter(dayStart);
+            if (startsBeforeEnd && endsAfterStart) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * occurrence 응답 조립의 메모리 구간 (item 생성, 정렬된 run 병합, 현지 날짜별 그룹핑).
+ * 조회 서비스와 벤치마크(src/jmh)가 같은 코드를 쓰도록 분리
+ */
+public final class OccurrenceAssembler {
+
+    private OccurrenceAssembler() {}
+
+    public static OccurrenceItem item(Long scheduleId, Long calendarId, String title, String theme,
+                                      Instant st, Instant et, boolean recurring) {
+        return new OccurrenceItem(
+                scheduleId + "@" + st.toString(),
+                scheduleId,
+                calendarId,
+                title,
+                theme,
+                st, et,
+                recurring
+        );
+    }
+
+    /**
+     * 각각 order로 정렬된 run들을 병합 (전체 재정렬 없음, 같은 순서 값이면 앞 run이 먼저).
+     * run은 몇 개 안 되므로(행 순서 item, 멀티데이 뒷조각, 반복 전개 결과 / 월 버킷) 사실상 선형
+     */
+    public static List<OccurrenceItem> merge(List<? extends List<OccurrenceItem>> sortedRuns,
+                                             Comparator<OccurrenceItem> order) {
+        int size = 0;
+        List<Iterator<OccurrenceItem>> sources = new ArrayList<>(sortedRuns.size());
+        for (List<OccurrenceItem> run : sortedRuns) {
+            if (run.isEmpty()) continue;
+            sources.add(run.iterator());
+            size += run.size();
+        }
+        List<OccurrenceItem> out = new ArrayList<>(size);
+        new OccurrenceMergeIterator<>(sources, order).forEachRemaining(out::add);
+        return out;
+    }
+
+    /**
+     * 시작 시각순으로 정렬된 item을 한 번 훑으면서 현지 날짜별로 묶음 (날짜 순서 = 첫 등장 순서).
+     * 자정을 넘겨 시계가 되돌아가는 전환(America/St_Johns 2010년까지 00:01 → 23:01)에서는 날짜가 잠깐 거꾸로 가므로 기존 날짜에 이어 붙임
+     */
+    public static Map<LocalDate, List<OccurrenceItem>> groupByDay(List<OccurrenceItem> sorted, ZoneId zone) {
+        Map<LocalDate, List<OccurrenceItem>> days = new LinkedHashMap<>();
+        LocalDate day = null;
+        List<OccurrenceItem> bucket = null;
+        for (OccurrenceItem it : sorted) {
+            LocalDate d = it.startAtUtc().atZone(zone).toLocalDate();
+            if (!d.equals(day)) {
+                day = d;
+                bucket = days.computeIfAbsent(d, k -> new ArrayList<>());
+            }
+            bucket.add(it);
+        }
+        return days;
+    }
+}
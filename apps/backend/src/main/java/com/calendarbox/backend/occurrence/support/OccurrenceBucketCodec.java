@@ -0,0 +1,135 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 월 버킷(한 캘린더의 한 달치 occurrence) 바이너리 인코딩.
+ * - 일정별 제목/테마/반복 여부는 앞쪽 테이블에 한 번만 (반복 일정은 한 달에 여러 번 나옴)
+ * - occurrence는 (시작, 일정) 순 정렬 후 (일정 번호, 이전 시작과의 초 차이, 길이 초, 나노) varint로
+ * - calendarId는 키에 있으므로 저장하지 않고, occurrenceId는 디코딩 때 다시 만듦
+ */
+public final class OccurrenceBucketCodec {
+
+    private static final byte VERSION = 1;
+
+    private OccurrenceBucketCodec() {}
+
+    public static byte[] encode(List<OccurrenceItem> items) {
+        List<OccurrenceItem> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId));
+
+        Map<Long, Integer> scheduleIndex = new LinkedHashMap<>();
+        List<OccurrenceItem> firstOfSchedule = new ArrayList<>();
+        for (OccurrenceItem it : sorted) {
+            if (scheduleIndex.putIfAbsent(it.scheduleId(), scheduleIndex.size()) == null) firstOfSchedule.add(it);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 8);
+        out.write(VERSION);
+        writeVarLong(out, firstOfSchedule.size());
+        for (OccurrenceItem it : firstOfSchedule) {
+            writeVarLong(out, it.scheduleId());
+            writeString(out, it.title());
+            writeString(out, it.theme());
+            out.write(it.recurring() ? 1 : 0);
+        }
+
+        writeVarLong(out, sorted.size());
+        long prevStart = sorted.isEmpty() ? 0 : sorted.get(0).startAtUtc().getEpochSecond();
+        writeZigZag(out, prevStart);
+        for (OccurrenceItem it : sorted) {
+            Instant st = it.startAtUtc();
+            Instant et = it.endAtUtc();
+            writeVarLong(out, scheduleIndex.get(it.scheduleId()));
+            writeVarLong(out, st.getEpochSecond() - prevStart);
+            writeVarLong(out, et.getEpochSecond() - st.getEpochSecond());
+            writeVarLong(out, st.getNano());
+            writeVarLong(out, et.getNano());
+            prevStart = st.getEpochSecond();
+        }
+        return out.toByteArray();
+    }
+
+    /** 알 수 없는 버전이면 null (캐시 미스로 처리) */
+    public static List<OccurrenceItem> decode(Long calendarId, byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.get() != VERSION) return null;
+
+        int scheduleCount = (int) readVarLong(in);
+        long[] ids = new long[scheduleCount];
+        String[] titles = new String[scheduleCount];
+        String[] themes = new String[scheduleCount];
+        boolean[] recurring = new boolean[scheduleCount];
+        for (int i = 0; i < scheduleCount; i++) {
+            ids[i] = readVarLong(in);
+            titles[i] = readString(in);
+            themes[i] = readString(in);
+            recurring[i] = in.get() != 0;
+        }
+
+        int count = (int) readVarLong(in);
+        List<OccurrenceItem> items = new ArrayList<>(count);
+        long start = readZigZag(in);
+        for (int n = 0; n < count; n++) {
+            int i = (int) readVarLong(in);
+            start += readVarLong(in);
+            long end = start + readVarLong(in);
+            Instant st = Instant.ofEpochSecond(start, readVarLong(in));
+            Instant et = Instant.ofEpochSecond(end, readVarLong(in));
+            items.add(new OccurrenceItem(ids[i] + "@" + st, ids[i], calendarId,
+                    titles[i], themes[i], st, et, recurring[i]));
+        }
+        return items;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+    }
+
+    private static void writeZigZag(ByteArrayOutputStream out, long v) {
+        writeVarLong(out, (v << 1) ^ (v >> 63));
+    }
+
+    private static long readZigZag(ByteBuffer in) {
+        long v = readVarLong(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // 길이 + 1 (0 = null)
+    private static void writeString(ByteArrayOutputStream out, String s) {
+        if (s == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, b.length + 1L);
+        out.write(b, 0, b.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int len = (int) readVarLong(in);
+        if (len == 0) return null;
+        String s = new String(in.array(), in.position(), len - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + len - 1);
+        return s;
+    }
+}
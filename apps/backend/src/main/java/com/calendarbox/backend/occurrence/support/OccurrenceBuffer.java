@@ -0,0 +1,53 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 시리즈의 전개 결과를 담는 재사용 버퍼.
+ * - [start0, end0, start1, end1, ...] 형태의 epoch-second 쌍
+ * - 한 시리즈 안에서는 시작/종료 nano가 항상 같으므로 버퍼 단위로 한 번만 보관
+ */
+public final class OccurrenceBuffer {
+
+    private long[] data = new long[256];
+    private int size;
+    private int startNano;
+    private int endNano;
+
+    public void reset(int startNano, int endNano) {
+        this.size = 0;
+        this.startNano = startNano;
+        this.endNano = endNano;
+    }
+
+    public void add(long startSecond, long endSecond) {
+        int i = size << 1;
+        if (i + 2 > data.length) data = Arrays.copyOf(data, data.length << 1);
+        data[i] = startSecond;
+        data[i + 1] = endSecond;
+        size++;
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public long startSecond(int i) { return data[i << 1]; }
+
+    public long endSecond(int i) { return data[(i << 1) + 1]; }
+
+    public Instant startAt(int i) { return Instant.ofEpochSecond(startSecond(i), startNano); }
+
+    public Instant endAt(int i) { return Instant.ofEpochSecond(endSecond(i), endNano); }
+
+    public List<RecurrenceExpander.Slice> toSlices() {
+        List<RecurrenceExpander.Slice> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(new RecurrenceExpander.Slice(startAt(i), endAt(i)));
+        }
+        return out;
+    }
+}
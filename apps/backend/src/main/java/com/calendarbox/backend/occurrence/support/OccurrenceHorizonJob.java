@@ -0,0 +1,67 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.service.OccurrenceIndexService;
+import com.calendarbox.backend.occurrence.support.OccurrenceHorizonTxService.BatchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * 반복 시리즈 물리화/범위 컬럼 채우기.
+ * - 한 번 실행에서 대상이 없어지거나 시간 예산이 다 될 때까지 배치를 반복 (배치마다 커밋)
+ * - 남은 건 다음 실행에서 이어서 (그 전까지는 INLINE 전개 경로로 응답)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccurrenceHorizonJob {
+
+    private final OccurrenceIndexService occurrenceIndexService;
+    private final OccurrenceHorizonTxService occurrenceHorizonTxService;
+
+    @Value("${occurrence.index.batch-size:200}")
+    private int batchSize;
+
+    @Value("${occurrence.index.job-budget-seconds:600}")
+    private long budgetSeconds;
+
+    // 매시 10분: 새로 생긴 시리즈(materialized_until NULL) 채우기 + horizon 연장
+    @Scheduled(cron = "0 10 * * * *", zone = "Asia/Seoul")
+    public void extendHorizon() {
+        Instant horizon = occurrenceIndexService.currentHorizon();
+        int extended = drain(() -> occurrenceHorizonTxService.extendBatch(horizon, batchSize));
+        if (extended > 0) log.info("[OCCURRENCE HORIZON] extended={} horizon={}", extended, horizon);
+    }
+
+    // 매시 20분: 범위 컬럼(first/last_occurrence_at)이 비어 있는 기존 시리즈 채우기
+    @Scheduled(cron = "0 20 * * * *", zone = "Asia/Seoul")
+    public void backfillOccurrenceBounds() {
+        int backfilled = drain(() -> occurrenceHorizonTxService.backfillBoundsBatch(batchSize));
+        if (backfilled > 0) log.info("[OCCURRENCE BOUNDS] backfilled={}", backfilled);
+    }
+
+    /**
+     * 마지막 배치(batchSize 미만)가 나오거나 예산이 다 될 때까지 반복, 처리한 개수 반환.
+     * 한 건도 처리하지 못한 배치가 나오면 같은 행을 다시 읽게 되므로 멈춤
+     */
+    private int drain(Supplier<BatchResult> batch) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(budgetSeconds));
+        int total = 0;
+        while (true) {
+            BatchResult r = batch.get();
+            total += r.processed();
+            if (r.found() < batchSize || r.processed() == 0) break;
+            if (!Instant.now().isBefore(deadline)) {
+                log.info("[OCCURRENCE HORIZON] budget {}s used up, processed={} (continues next run)", budgetSeconds, total);
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,65 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.repository.ScheduleOccurrenceRepository;
+import com.calendarbox.backend.occurrence.service.OccurrenceIndexService;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * OccurrenceHorizonJob의 배치 한 번 = 트랜잭션 한 번 (배치마다 커밋 → 다음 조회에서 빠짐, 잠금도 짧게)
+ */
+@Service
+@RequiredArgsConstructor
+public class OccurrenceHorizonTxService {
+
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final OccurrenceIndexService occurrenceIndexService;
+    private final RecurringSeriesLoader recurringSeriesLoader;
+
+    public record BatchResult(int found, int processed) {}
+
+    /** horizon에 못 미친 시리즈 최대 batchSize개를 채움 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult extendBatch(Instant horizon, int batchSize) {
+        List<ScheduleOccurrenceRepository.HorizonTarget> targets =
+                scheduleOccurrenceRepository.findBehindHorizon(horizon, batchSize);
+        if (targets.isEmpty()) return new BatchResult(0, 0);
+
+        Map<Long, Schedule> schedules = recurringSeriesLoader
+                .byIds(targets.stream().map(ScheduleOccurrenceRepository.HorizonTarget::scheduleId).toList())
+                .stream()
+                .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+
+        int processed = 0;
+        for (var t : targets) {
+            Schedule s = schedules.get(t.scheduleId());
+            if (s == null) continue;
+            occurrenceIndexService.extend(s, t.materializedUntil(), horizon);
+            processed++;
+        }
+        return new BatchResult(targets.size(), processed);
+    }
+
+    /** 범위 컬럼이 비어 있는 시리즈 최대 batchSize개를 채움 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult backfillBoundsBatch(int batchSize) {
+        List<Long> ids = scheduleOccurrenceRepository.findMissingOccurrenceBounds(batchSize);
+        if (ids.isEmpty()) return new BatchResult(0, 0);
+
+        int processed = 0;
+        for (Schedule s : recurringSeriesLoader.byIds(ids)) {
+            occurrenceIndexService.refreshBounds(s);
+            processed++;
+        }
+        return new BatchResult(ids.size(), processed);
+    }
+}
@@ -0,0 +1,40 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.util.*;
+
+/**
+ * 이미 정렬된 여러 스트림을 하나로 합치는 k-way merge.
+ * - 힙에는 소스마다 head 하나만 들어가므로 메모리는 소스 수에 비례
+ * - 같은 순서 값이면 먼저 등록된 소스가 먼저 나옴
+ */
+public final class OccurrenceMergeIterator<T> implements Iterator<T> {
+
+    private record Head<T>(T value, int source, Iterator<? extends T> rest) {}
+
+    private final PriorityQueue<Head<T>> heap;
+
+    public OccurrenceMergeIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order) {
+        this.heap = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+            int c = order.compare(a.value(), b.value());
+            return c != 0 ? c : Integer.compare(a.source(), b.source());
+        });
+        for (int i = 0; i < sources.size(); i++) {
+            Iterator<? extends T> it = sources.get(i);
+            if (it.hasNext()) heap.add(new Head<>(it.next(), i, it));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heap.poll();
+        if (head == null) throw new NoSuchElementException();
+        Iterator<? extends T> rest = head.rest();
+        if (rest.hasNext()) heap.add(new Head<>(rest.next(), head.source(), rest));
+        return head.value();
+    }
+}
@@ -0,0 +1,220 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.global.infra.cache.CacheInvalidator;
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * (캘린더, 타임존, 연월) 단위로 전개된 occurrence를 Redis에 바이너리로 보관.
+ * - 키: occ:month:{calendarId}:{zone}:{yyyy-MM}, 값: OccurrenceBucketCodec
+ * - 캘린더별 인덱스 SET(occ:month:idx:{calendarId})에 "zone|yyyy-MM"을 모아 두고
+ *   일정이 바뀌면 그 일정이 걸친 달의 버킷만 지움 (전체 비우기 X)
+ * - 캘린더별 세대 번호(occ:month:gen:{calendarId})를 지우기 전에 올림.
+ *   계산 전에 읽은 세대와 같을 때만 저장 (Lua로 비교+저장을 한 번에) → 삭제 전에 계산한 버킷이 삭제 뒤에 다시 써지지 않음
+ * - Redis 오류는 경고만 남기고 미스로 취급 (DB 경로로 계속 응답)
+ */
+@Slf4j
+@Component
+public class OccurrenceMonthCache {
+
+    /** 일정이 차지하는 시간 범위. to가 null이면 끝없는 반복 시리즈 */
+    public record Span(Instant from, Instant to) {}
+
+    public record BucketKey(Long calendarId, YearMonth month) {}
+
+    private static final String KEY_PREFIX = "occ:month:";
+    private static final String INDEX_PREFIX = "occ:month:idx:";
+    private static final String GENERATION_PREFIX = "occ:month:gen:";
+
+    // KEYS = [세대, 버킷, 인덱스], ARGV = [읽어 둔 세대, ttl 초, 버킷 값, 인덱스 멤버]
+    private static final byte[] PUT_IF_GENERATION = bytes("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then return 0 end
+            redis.call('SETEX', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[2])
+            return 1
+            """);
+
+    // 예외 날짜/기준 타임존이 달라도 걸치는 달을 놓치지 않도록
+    private static final Duration DAY_SLACK = Duration.ofDays(1);
+
+    private final RedisTemplate<String, byte[]> redis;
+    private final Duration ttl;
+
+    public OccurrenceMonthCache(RedisConnectionFactory connectionFactory,
+                                @Value("${occurrence.month-cache.ttl-hours:24}") long ttlHours) {
+        RedisTemplate<String, byte[]> t = new RedisTemplate<>();
+        t.setConnectionFactory(connectionFactory);
+        t.setKeySerializer(RedisSerializer.string());
+        t.setValueSerializer(RedisSerializer.byteArray());
+        t.afterPropertiesSet();
+        this.redis = t;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /** 키 순서대로 디코딩된 버킷, 없거나 읽지 못하면 결과에서 빠짐 */
+    public Map<BucketKey, List<OccurrenceItem>> getAll(List<BucketKey> keys, ZoneId zone) {
+        Map<BucketKey, List<OccurrenceItem>> out = new HashMap<>();
+        if (keys.isEmpty()) return out;
+        try {
+            List<byte[]> values = redis.opsForValue().multiGet(keys.stream().map(k -> key(k, zone)).toList());
+            if (values == null) return out;
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] v = values.get(i);
+                if (v == null) continue;
+                List<OccurrenceItem> items = OccurrenceBucketCodec.decode(keys.get(i).calendarId(), v);
+                if (items != null) out.put(keys.get(i), items);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[OCC MONTH CACHE] get failed keys={}", keys.size(), e);
+        }
+        return out;
+    }
+
+    /** 버킷 계산 전에 읽어 두는 캘린더별 세대 번호 (없으면 0). 읽지 못하면 빈 맵 → 저장하지 않음 */
+    public Map<Long, Long> generations(Collection<Long> calendarIds) {
+        Map<Long, Long> out = new HashMap<>();
+        if (calendarIds.isEmpty()) return out;
+        List<Long> ids = new ArrayList<>(calendarIds);
+        try {
+            List<byte[]> values = redis.opsForValue().multiGet(ids.stream().map(id -> GENERATION_PREFIX + id).toList());
+            if (values == null) return out;
+            for (int i = 0; i < ids.size(); i++) {
+                byte[] v = values.get(i);
+                out.put(ids.get(i), v == null ? 0L : Long.parseLong(new String(v, StandardCharsets.UTF_8)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[OCC MONTH CACHE] generation read failed calendars={}", ids.size(), e);
+            out.clear();
+        }
+        return out;
+    }
+
+    /** 캘린더 세대가 generations와 그대로인 버킷만 저장 (그 사이 evict가 돌았으면 버림) */
+    public void putAll(Map<BucketKey, List<OccurrenceItem>> buckets, Map<Long, Long> generations, ZoneId zone) {
+        if (buckets.isEmpty()) return;
+        byte[] ttlSeconds = bytes(String.valueOf(ttl.toSeconds()));
+        try {
+            redis.executePipelined((RedisCallback<Object>) conn -> {
+                buckets.forEach((k, items) -> {
+                    Long generation = generations.get(k.calendarId());
+                    if (generation == null) return;
+                    conn.scriptingCommands().eval(PUT_IF_GENERATION, ReturnType.INTEGER, 3,
+                            bytes(GENERATION_PREFIX + k.calendarId()),
+                            bytes(key(k, zone)),
+                            bytes(INDEX_PREFIX + k.calendarId()),
+                            bytes(String.valueOf(generation)),
+                            ttlSeconds,
+                            OccurrenceBucketCodec.encode(items),
+                            bytes(indexMember(zone, k.month())));
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[OCC MONTH CACHE] put failed buckets={}", buckets.size(), e);
+        }
+    }
+
+    /** 일정이 (변경 전/후) 걸친 달의 버킷을 커밋 후 삭제 */
+    public void evictAfterCommit(Schedule s, Span... before) {
+        List<Span> spans = new ArrayList<>(Arrays.asList(before));
+        spans.add(spanOf(s));
+        evictAfterCommit(s.getCalendar().getId(), spans);
+    }
+
+    /** 예외 날짜 추가/삭제: 그 날 시작하는 occurrence가 걸친 달만 */
+    public void evictDayAfterCommit(Schedule s, LocalDate date, ZoneId dateZone) {
+        Instant from = date.atStartOfDay(dateZone).toInstant();
+        Instant to = date.plusDays(1).atStartOfDay(dateZone).toInstant()
+                .plus(Duration.between(s.getStartAt(), s.getEndAt()));
+        evictAfterCommit(s.getCalendar().getId(), List.of(new Span(from, to)));
+    }
+
+    /** 변경 전 범위 캡처용 (수정 메서드에서 값 바꾸기 전에 호출) */
+    public static Span spanOf(Schedule s) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return new Span(s.getStartAt(), s.getEndAt());
+        Instant first = r.getFirstOccurrenceAt() != null ? r.getFirstOccurrenceAt() : s.getStartAt();
+        Instant last = r.getLastOccurrenceAt();
+        // 범위가 아직 채워지지 않은 유한 시리즈는 until + 길이로 넉넉하게
+        if (last == null && r.getUntil() != null) {
+            last = r.getUntil().plus(Duration.between(s.getStartAt(), s.getEndAt()));
+        }
+        return new Span(first, last);
+    }
+
+    private void evictAfterCommit(Long calendarId, List<Span> spans) {
+        CacheInvalidator.afterCommit(() -> evict(calendarId, spans));
+    }
+
+    private void evict(Long calendarId, List<Span> spans) {
+        String indexKey = INDEX_PREFIX + calendarId;
+        String generationKey = GENERATION_PREFIX + calendarId;
+        try {
+            // 세대를 먼저 올려야 진행 중인 계산이 이후에 저장하지 못함 (이미 저장된 건 아래에서 지움)
+            redis.opsForValue().increment(generationKey);
+            redis.expire(generationKey, ttl);
+            Set<byte[]> members = redis.opsForSet().members(indexKey);
+            if (members == null || members.isEmpty()) return;
+
+            List<String> keys = new ArrayList<>();
+            List<byte[]> removed = new ArrayList<>();
+            for (byte[] m : members) {
+                String member = new String(m, StandardCharsets.UTF_8);
+                int sep = member.lastIndexOf('|');
+                ZoneId zone = ZoneId.of(member.substring(0, sep));
+                YearMonth month = YearMonth.parse(member.substring(sep + 1));
+                if (touches(spans, month, zone)) {
+                    keys.add(key(new BucketKey(calendarId, month), zone));
+                    removed.add(m);
+                }
+            }
+            if (keys.isEmpty()) return;
+            redis.delete(keys);
+            redis.opsForSet().remove(indexKey, removed.toArray());
+        } catch (RuntimeException e) {
+            // 못 지운 버킷은 TTL로 만료
+            log.warn("[OCC MONTH CACHE] evict failed calendarId={}", calendarId, e);
+        }
+    }
+
+    private static boolean touches(List<Span> spans, YearMonth month, ZoneId zone) {
+        Instant monthStart = month.atDay(1).atStartOfDay(zone).toInstant();
+        Instant monthEnd = month.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant();
+        for (Span sp : spans) {
+            boolean startsBeforeEnd = sp.from().minus(DAY_SLACK).isBefore(monthEnd);
+            boolean endsAfterStart = sp.to() == null || sp.to().plus(DAY_SLACK).isAfter(monthStart);
+            if (startsBeforeEnd && endsAfterStart) return true;
+        }
+        return false;
+    }
+
+    private static String key(BucketKey k, ZoneId zone) {
+        return KEY_PREFIX + k.calendarId() + ":" + zone.getId() + ":" + k.month();
+    }
+
+    private static String indexMember(ZoneId zone, YearMonth month) {
+        return zone.getId() + "|" + month;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * 반복 시리즈 여러 개를 fork/join으로 나눠 전개.
+ * - 시리즈 수가 threshold 미만이면 호출 스레드에서 순차 처리
+ * - 잎 작업 결과만 정렬하고, 합칠 때는 정렬된 두 리스트를 선형 병합 → 전체 재정렬 없음
+ * - commonPool 대신 크기가 정해진 전용 풀 (다른 parallel stream과 경쟁하지 않음)
+ * 시리즈 엔티티는 fetch join으로 다 읽어 둔 상태여야 함 (작업 스레드에서 lazy 로딩 불가)
+ */
+@Component
+public class ParallelRecurrenceExpander implements DisposableBean {
+
+    // 잎 작업 하나가 맡는 시리즈 수
+    private static final int LEAF_SIZE = 8;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelRecurrenceExpander(
+            @Value("${occurrence.parallel.parallelism:0}") int parallelism,
+            @Value("${occurrence.parallel.threshold:64}") int threshold) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.threshold = threshold;
+    }
+
+    /** 시리즈별 전개 결과를 order 순으로 합쳐서 반환 */
+    public <T> List<T> expandAll(List<Schedule> series, Function<Schedule, List<T>> expandOne,
+                                 Comparator<? super T> order) {
+        if (series.size() < threshold) {
+            return new ExpandTask<>(series, 0, series.size(), expandOne, order).leaf();
+        }
+        return pool.invoke(new ExpandTask<>(series, 0, series.size(), expandOne, order));
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private static final class ExpandTask<T> extends RecursiveTask<List<T>> {
+        private final List<Schedule> series;
+        private final int from;
+        private final int to;
+        private final Function<Schedule, List<T>> expandOne;
+        private final Comparator<? super T> order;
+
+        ExpandTask(List<Schedule> series, int from, int to,
+                   Function<Schedule, List<T>> expandOne, Comparator<? super T> order) {
+            this.series = series;
+            this.from = from;
+            this.to = to;
+            this.expandOne = expandOne;
+            this.order = order;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= LEAF_SIZE) return leaf();
+            int mid = (from + to) >>> 1;
+            ExpandTask<T> left = new ExpandTask<>(series, from, mid, expandOne, order);
+            left.fork();
+            List<T> right = new ExpandTask<>(series, mid, to, expandOne, order).compute();
+            return merge(left.join(), right);
+        }
+
+        List<T> leaf() {
+            List<T> out = new ArrayList<>();
+            for (int i = from; i < to; i++) out.addAll(expandOne.apply(series.get(i)));
+            out.sort(order);
+            return out;
+        }
+
+        private List<T> merge(List<T> a, List<T> b) {
+            if (a.isEmpty()) return b;
+            if (b.isEmpty()) return a;
+            List<T> out = new ArrayList<>(a.size() + b.size());
+            int i = 0, j = 0;
+            while (i < a.size() && j < b.size()) {
+                // 같으면 왼쪽(앞 시리즈) 먼저 → 순차 처리와 같은 순서
+                if (order.compare(b.get(j), a.get(i)) < 0) out.add(b.get(j++));
+                else out.add(a.get(i++));
+            }
+            while (i < a.size()) out.add(a.get(i++));
+            while (j < b.size()) out.add(b.get(j++));
+            return out;
+        }
+    }
+}
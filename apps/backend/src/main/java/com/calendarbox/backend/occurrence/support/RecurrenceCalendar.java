@@ -0,0 +1,237 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 반복 규칙의 주기(period) 단위 로컬 날짜 계산. 시각/타임존은 보지 않고 epoch-day만 다룸.
+ * - 주기 k의 커서 = 시드 + k*interval (DAILY=일, WEEKLY=주, MONTHLY=월, YEARLY=년)
+ * - 주기 k의 후보 날짜 = 전개 엔진이 그 커서에서 만드는 후보의 로컬 날짜와 같음
+ *   (MONTHLY/YEARLY 서수 byDay는 달 경계를 최대 1주 넘을 수 있음: 5MO, -5MO 등)
+ * - 전개 엔진의 윈도우 seek, RecurrenceNavigator의 n번째/순번 계산이 함께 사용
+ */
+public final class RecurrenceCalendar {
+
+    // seek 여유(일): gap 보정으로 밀린 시각, overlap에서의 로컬↔UTC 순서 차이를 흡수
+    private static final int SEEK_SLACK_DAYS = 2;
+
+    private final CompiledRecurrence plan;
+    private final long seedDay;
+    private final long seedMonday;
+    private final long seedMonthIndex;   // year*12 + (month-1)
+    private final long seedYear;
+    private final int maxOrdinal;        // 양수 서수 최댓값 (없으면 0)
+    private final boolean hasNegativeOrdinal;
+
+    public RecurrenceCalendar(CompiledRecurrence plan, LocalDate seedDate) {
+        this.plan = plan;
+        this.seedDay = seedDate.toEpochDay();
+        this.seedMonday = seedDay - (seedDate.getDayOfWeek().getValue() - 1);
+        this.seedMonthIndex = monthIndex(seedDate);
+        this.seedYear = seedDate.getYear();
+        this.maxOrdinal = Arrays.stream(plan.ordinals()).filter(o -> o > 0).max().orElse(0);
+        this.hasNegativeOrdinal = Arrays.stream(plan.ordinals()).anyMatch(o -> o < 0);
+    }
+
+    public CompiledRecurrence plan() { return plan; }
+
+    /**
+     * 윈도우 시작과 겹칠 수 있는 occurrence의 가장 이른 로컬 날짜(여유 포함).
+     * occurrence는 시작 > windowStart - length 이어야 윈도우와 겹친다.
+     */
+    public static long seekDay(Instant windowStart, Duration length, ZoneId zone) {
+        return windowStart.minus(length).atZone(zone).toLocalDate().toEpochDay() - SEEK_SLACK_DAYS;
+    }
+
+    /** 윈도우 끝과 겹칠 수 있는 occurrence의 가장 늦은 로컬 날짜(여유 포함) */
+    public static long seekEndDay(Instant windowEnd, ZoneId zone) {
+        return windowEnd.atZone(zone).toLocalDate().toEpochDay() + SEEK_SLACK_DAYS;
+    }
+
+    /**
+     * 후보 날짜가 epochDay 이상일 수 있는 첫 주기 번호(>= 0).
+     * 이보다 앞선 주기는 후보가 모두 epochDay 이전이므로 건너뛰어도 됨.
+     */
+    public long firstPeriodReaching(long epochDay) {
+        int interval = plan.interval();
+        long need = switch (plan.freq()) {
+            case DAILY -> ceilDiv(epochDay - seedDay, interval);
+            case WEEKLY -> plan.hasWeeklyDays()
+                    ? ceilDiv(epochDay - 6 - seedMonday, 7L * interval)
+                    : ceilDiv(epochDay - seedDay, 7L * interval);
+            case MONTHLY -> {
+                long mt = monthIndex(LocalDate.ofEpochDay(epochDay));
+                long req = lastPossibleDayOfMonth(mt - 1) >= epochDay ? mt - 1 : mt;
+                yield ceilDiv(req - seedMonthIndex, interval);
+            }
+            case YEARLY -> {
+                long yt = LocalDate.ofEpochDay(epochDay).getYear();
+                long req = yt;
+                if (lastPossibleDayOfYear(yt - 1) >= epochDay) req = yt - 1;
+                else if (lastPossibleDayOfYear(yt) < epochDay) req = yt + 1;
+                yield ceilDiv(req - seedYear, interval);
+            }
+        };
+        return Math.max(0, need);
+    }
+
+    /** 주기 k가 만들 수 있는 가장 이른 후보 날짜 (후보가 없으면 Long.MAX_VALUE) */
+    public long firstPossibleDay(long k) {
+        int interval = plan.interval();
+        return switch (plan.freq()) {
+            case DAILY -> seedDay + k * interval;
+            case WEEKLY -> plan.hasWeeklyDays() ? seedMonday + 7L * k * interval : seedDay + 7L * k * interval;
+            case MONTHLY -> firstPossibleDayOfMonth(seedMonthIndex + k * interval);
+            case YEARLY -> {
+                int[] months = plan.months();
+                if (months.length == 0) yield Long.MAX_VALUE;
+                yield firstPossibleDayOfMonth((seedYear + k * interval) * 12 + (months[0] - 1));
+            }
+        };
+    }
+
+    /** 주기 k가 만들 수 있는 가장 늦은 후보 날짜 (후보가 없으면 Long.MIN_VALUE) */
+    public long lastPossibleDay(long k) {
+        int interval = plan.interval();
+        return switch (plan.freq()) {
+            case DAILY -> seedDay + k * interval;
+            case WEEKLY -> plan.hasWeeklyDays() ? seedMonday + 7L * k * interval + 6 : seedDay + 7L * k * interval;
+            case MONTHLY -> lastPossibleDayOfMonth(seedMonthIndex + k * interval);
+            case YEARLY -> lastPossibleDayOfYear(seedYear + k * interval);
+        };
+    }
+
+    /** epochDay가 속한 주기 번호 (주기 0 이전이면 음수) */
+    public long periodOf(long epochDay) {
+        int interval = plan.interval();
+        return switch (plan.freq()) {
+            case DAILY -> Math.floorDiv(epochDay - seedDay, interval);
+            case WEEKLY -> plan.hasWeeklyDays()
+                    ? Math.floorDiv(epochDay - seedMonday, 7L * interval)
+                    : Math.floorDiv(epochDay - seedDay, 7L * interval);
+            case MONTHLY -> Math.floorDiv(monthIndex(LocalDate.ofEpochDay(epochDay)) - seedMonthIndex, interval);
+            case YEARLY -> Math.floorDiv(LocalDate.ofEpochDay(epochDay).getYear() - seedYear, interval);
+        };
+    }
+
+    /** 주기 하나가 만들 수 있는 후보 날짜 수의 상한 (버퍼 크기용) */
+    public int maxDatesPerPeriod() {
+        int perMonth = plan.monthdays().length + plan.ordinals().length;
+        return switch (plan.freq()) {
+            case DAILY -> 1;
+            case WEEKLY -> Math.max(1, plan.weeklyDays().length);
+            case MONTHLY -> perMonth;
+            case YEARLY -> perMonth * plan.months().length;
+        };
+    }
+
+    /** 주기 k의 후보 날짜를 오름차순/중복 제거해서 out에 기록하고 개수를 반환 */
+    public int datesOf(long k, long[] out) {
+        int interval = plan.interval();
+        int n = 0;
+        switch (plan.freq()) {
+            case DAILY -> out[n++] = seedDay + k * interval;
+            case WEEKLY -> {
+                if (!plan.hasWeeklyDays()) {
+                    out[n++] = seedDay + 7L * k * interval;
+                } else {
+                    long monday = seedMonday + 7L * k * interval;
+                    for (DayOfWeek dow : plan.weeklyDays()) out[n++] = monday + (dow.getValue() - 1);
+                }
+            }
+            case MONTHLY -> n = monthDates(seedMonthIndex + k * interval, out, 0);
+            case YEARLY -> {
+                long year = seedYear + k * interval;
+                for (int m : plan.months()) n = monthDates(year * 12 + (m - 1), out, n);
+            }
+        }
+        return sortDistinct(out, n);
+    }
+
+    private int monthDates(long monthIndex, long[] out, int n) {
+        LocalDate first = LocalDate.of((int) Math.floorDiv(monthIndex, 12), (int) Math.floorMod(monthIndex, 12) + 1, 1);
+        long firstDay = first.toEpochDay();
+        int len = first.lengthOfMonth();
+
+        for (int spec : plan.monthdays()) {
+            int day = spec > 0 ? Math.min(spec, len) : Math.max(1, len + spec + 1);
+            out[n++] = firstDay + day - 1;
+        }
+
+        int[] ordinals = plan.ordinals();
+        DayOfWeek[] dows = plan.ordinalDays();
+        if (ordinals.length == 0) return n;
+        int firstDow = first.getDayOfWeek().getValue();
+        long lastDay = firstDay + len - 1;
+        int lastDow = (firstDow - 1 + len - 1) % 7 + 1;
+        for (int i = 0; i < ordinals.length; i++) {
+            int target = dows[i].getValue();
+            if (ordinals[i] > 0) {
+                out[n++] = firstDay + (target - firstDow + 7) % 7 + (ordinals[i] - 1L) * 7;
+            } else {
+                out[n++] = lastDay - (lastDow - target + 7) % 7 - (-ordinals[i] - 1L) * 7;
+            }
+        }
+        return n;
+    }
+
+    private long lastPossibleDayOfMonth(long monthIndex) {
+        LocalDate first = LocalDate.of((int) Math.floorDiv(monthIndex, 12), (int) Math.floorMod(monthIndex, 12) + 1, 1);
+        long last = first.toEpochDay() + first.lengthOfMonth() - 1;
+        // 5번째 요일은 다음 달로 넘어갈 수 있음 (1일 + 7*n - 1)
+        return Math.max(last, first.toEpochDay() + 7L * maxOrdinal - 1);
+    }
+
+    private long firstPossibleDayOfMonth(long monthIndex) {
+        long first = LocalDate.of((int) Math.floorDiv(monthIndex, 12), (int) Math.floorMod(monthIndex, 12) + 1, 1).toEpochDay();
+        // 음수 서수(-5MO 등)는 이전 달로 넘어갈 수 있음
+        return hasNegativeOrdinal ? first - 7 : first;
+    }
+
+    private long lastPossibleDayOfYear(long year) {
+        int[] months = plan.months();
+        if (months.length == 0) return Long.MIN_VALUE;
+        return lastPossibleDayOfMonth(year * 12 + (months[months.length - 1] - 1));
+    }
+
+    /**
+     * 주기별 후보 개수가 반복되는 간격(주기 수).
+     * 그레고리력은 400년(4800개월)마다 요일까지 같아지므로 MONTHLY/YEARLY는 그 안에서 반복,
+     * DAILY/WEEKLY는 주기마다 개수가 같으므로 1.
+     */
+    public long cycleLength() {
+        int interval = plan.interval();
+        return switch (plan.freq()) {
+            case MONTHLY -> 4800 / gcd(4800, interval);
+            case YEARLY -> 400 / gcd(400, interval);
+            default -> 1;
+        };
+    }
+
+    static long monthIndex(LocalDate d) {
+        return d.getYear() * 12L + (d.getMonthValue() - 1);
+    }
+
+    private static int sortDistinct(long[] a, int n) {
+        if (n <= 1) return n;
+        Arrays.sort(a, 0, n);
+        int w = 1;
+        for (int i = 1; i < n; i++) {
+            if (a[i] != a[w - 1]) a[w++] = a[i];
+        }
+        return w;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) { int t = a % b; a = b; b = t; }
+        return a;
+    }
+}
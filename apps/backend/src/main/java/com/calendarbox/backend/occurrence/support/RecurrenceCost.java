@@ -0,0 +1,70 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 반복 규칙만으로 구한 전개 비용 추정치 (전개하지 않고 규칙 배열 크기로 계산).
+ * - occurrencesPerYear : 연간 occurrence 수 상한 (최대 366)
+ * - windowCost         : 31일(월 뷰) 윈도우 한 번 전개 시 만드는 후보 수 상한 (예외/중복 제거 전)
+ * 검증기(요청 값)와 ScheduleRecurrenceService(컴파일된 규칙)가 같은 식을 쓰도록 static으로 둠
+ */
+public record RecurrenceCost(double occurrencesPerYear, int windowCost) {
+
+    private static final double DAYS_PER_YEAR = 365.2425;
+    private static final int WINDOW_DAYS = 31;
+
+    public static RecurrenceCost of(CompiledRecurrence plan) {
+        return of(plan.freq(), plan.interval(), plan.weeklyDays().length,
+                plan.ordinals().length, plan.monthdays().length, plan.months().length);
+    }
+
+    /**
+     * @param weeklyDays WEEKLY 요일 수 (0 = 시드 요일 하나)
+     * @param ordinals   MONTHLY/YEARLY 서수 byDay 수
+     * @param monthdays  byMonthday 수
+     * @param months     YEARLY byMonth 수
+     */
+    public static RecurrenceCost of(RecurrenceFreq freq, int interval,
+                                    int weeklyDays, int ordinals, int monthdays, int months) {
+        int step = Math.max(1, interval);
+        int dayCandidates = Math.max(1, ordinals + monthdays);
+
+        // 주기 하나에서 만드는 후보 수 / 그중 서로 다른 날짜가 될 수 있는 최대 수
+        int candidates = switch (freq) {
+            case DAILY   -> 1;
+            case WEEKLY  -> Math.max(1, weeklyDays);
+            case MONTHLY -> dayCandidates;
+            case YEARLY  -> Math.max(1, months) * dayCandidates;
+        };
+        int distinct = switch (freq) {
+            case DAILY   -> 1;
+            case WEEKLY  -> Math.min(7, candidates);
+            case MONTHLY -> Math.min(31, dayCandidates);
+            case YEARLY  -> Math.max(1, months) * Math.min(31, dayCandidates);
+        };
+
+        double periodDays = periodDays(freq) * step;
+        double perYear = Math.min(366, distinct * DAYS_PER_YEAR / periodDays);
+        int periodsPerWindow = 1 + (int) Math.ceil(WINDOW_DAYS / periodDays);
+        return new RecurrenceCost(perYear, periodsPerWindow * candidates);
+    }
+
+    /** [from, to) 사이 예상 occurrence 수 (올림) */
+    public long occurrencesBetween(Instant from, Instant to) {
+        if (!from.isBefore(to)) return 0;
+        double years = Duration.between(from, to).toSeconds() / (DAYS_PER_YEAR * 86_400);
+        return (long) Math.ceil(occurrencesPerYear * years);
+    }
+
+    private static double periodDays(RecurrenceFreq freq) {
+        return switch (freq) {
+            case DAILY   -> 1;
+            case WEEKLY  -> 7;
+            case MONTHLY -> DAYS_PER_YEAR / 12;
+            case YEARLY  -> DAYS_PER_YEAR;
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.ExpansionStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 반복 규칙 생성/수정 시 전개 비용을 추정하고 시리즈별 전개 전략을 고름.
+ * - INLINE       : 연간 occurrence가 적은 시리즈 → 물리화하지 않고 조회 때 바로 전개 (행/배치 비용 절약)
+ * - STREAMING    : 시드가 오래되어 물리화할 행이 너무 많은 시리즈 → 최근 구간만 물리화
+ * - MATERIALIZED : 나머지 (기존 방식)
+ * 시리즈 전체 occurrence 수가 상한을 넘으면 거절 대상 (tooExpensive)
+ */
+@Component
+public class RecurrenceCostEstimator {
+
+    private final double inlineMaxPerYear;
+    private final long maxMaterializedRows;
+    private final long maxOccurrences;
+
+    public record Estimate(RecurrenceCost cost, long totalOccurrences, long materializedRows,
+                           ExpansionStrategy strategy) {}
+
+    public RecurrenceCostEstimator(
+            @Value("${occurrence.strategy.inline-max-per-year:12}") double inlineMaxPerYear,
+            @Value("${occurrence.strategy.max-materialized-rows:2000}") long maxMaterializedRows,
+            @Value("${occurrence.strategy.max-occurrences:50000}") long maxOccurrences) {
+        this.inlineMaxPerYear = inlineMaxPerYear;
+        this.maxMaterializedRows = maxMaterializedRows;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    /**
+     * @param horizon 현재 물리화 horizon (OccurrenceIndexService.currentHorizon)
+     * @param zone    물리화 기준 타임존
+     */
+    public Estimate estimate(Schedule s, ScheduleRecurrence r, Instant horizon, ZoneId zone) {
+        RecurrenceCost cost = RecurrenceCost.of(CompiledRecurrence.compile(r));
+
+        Instant seed = s.getStartAt();
+        Instant end = (r.getUntil() == null) ? horizon : r.getUntil();
+        long total = cost.occurrencesBetween(seed, end);
+
+        // 물리화는 시드 연도 1월 1일부터 min(until, horizon)까지 (OccurrenceIndexService.rebuild)
+        Instant seedYear = seed.atZone(zone).toLocalDate().withDayOfYear(1).atStartOfDay(zone).toInstant();
+        Instant materializedEnd = end.isBefore(horizon) ? end : horizon;
+        long rows = cost.occurrencesBetween(seedYear, materializedEnd);
+
+        ExpansionStrategy strategy;
+        if (cost.occurrencesPerYear() <= inlineMaxPerYear) strategy = ExpansionStrategy.INLINE;
+        else if (rows > maxMaterializedRows) strategy = ExpansionStrategy.STREAMING;
+        else strategy = ExpansionStrategy.MATERIALIZED;
+
+        return new Estimate(cost, total, rows, strategy);
+    }
+
+    public boolean tooExpensive(Estimate e) {
+        return e.totalOccurrences() > maxOccurrences;
+    }
+}
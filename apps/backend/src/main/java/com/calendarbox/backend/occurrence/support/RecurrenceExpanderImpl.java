@@ -2,21 +2,25 @@ package com.calendarbox.backend.occurrence.support;
 
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
-import com.calendarbox.backend.schedule.domain.ScheduleRecurrenceException;
 import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "occurrence.expander.engine", havingValue = "zoned", matchIfMissing = true)
+@RequiredArgsConstructor
 public class RecurrenceExpanderImpl implements RecurrenceExpander {
 
     // 안전장치: 한번 호출에서 전개할 최대 occurrence 수
     private static final int MAX_OCCURRENCES = 5000;
-    private static final java.util.regex.Pattern BYDAY_TOKEN =
-            java.util.regex.Pattern.compile("^([+-]?[1-5])?(MO|TU|WE|TH|FR|SA|SU)$");
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private final RecurrencePlanCache recurrencePlanCache;
 
     @Override
     public List<Slice> expand(Schedule s, ScheduleRecurrence r,
@@ -36,292 +40,184 @@ public class RecurrenceExpanderImpl implements RecurrenceExpander {
             if (untilZ.isBefore(upper)) upper = untilZ;
         }
 
-        // 예외 날짜 집합(로컬 날짜 기준)
-        Set<LocalDate> exceptionDays = Optional.ofNullable(r.getExceptions())
-                .orElseGet(List::of)
-                .stream()
-                .map(ScheduleRecurrenceException::getExceptionDate)
-                .collect(Collectors.toCollection(HashSet::new));
+        // 예외 날짜(로컬 날짜 epoch day, 오름차순) - 후보가 날짜순으로 나오므로 커서로 훑음 (스레드별 재사용)
+        Workspace w = WORKSPACE.get();
+        ExceptionDayCursor exceptionDays = w.exceptions.reset(r.exceptionEpochDays());
 
         Duration dur = Duration.between(seedStart, seedEnd);
 
         List<Slice> out = new ArrayList<>(256);
 
-        Set<Instant> seenStarts = new HashSet<>();
+        // 중복 시작 시각 제거 (해시 대신 위치로):
+        // 한 주기의 후보는 정렬되어 있어 중복이면 바로 앞에 내보낸 것과 같고,
+        // 주기 사이 중복은 달/해 경계 넘침(최대 1주)이라 바로 앞 주기(첫 주기는 시드)가 내보낸 것과만 겹침
+        int prevFrom = 0;
+        int prevTo = 0;
+        Instant prevMax = null;
 
         if (seedStart.isBefore(winTo) && seedEnd.isAfter(winFrom)) {
             if (seedStart.isAfter(upper)) {
-            } else if (!exceptionDays.contains(seedStart.toLocalDate())) {
+            } else if (!exceptionDays.isException(seedStart.toLocalDate().toEpochDay())) {
                 Instant st = seedStart.toInstant();
-                if (seenStarts.add(st)) {
-                    out.add(new Slice(st, seedEnd.toInstant()));
-                }
+                out.add(new Slice(st, seedEnd.toInstant()));
+                prevTo = 1;
+                prevMax = st;
             }
         }
 
-        RecurrenceFreq freq = r.getFreq();
-        int interval = Math.max(1, r.getIntervalCount());
+        // byDay 파싱/월 집합 등은 규칙 버전당 한 번만 (캐시)
+        CompiledRecurrence plan = recurrencePlanCache.get(r);
+        RecurrenceFreq freq = plan.freq();
+        int interval = plan.interval();
+
+        // 윈도우와 겹칠 수 있는 첫 주기로 바로 이동 (닫힌 식, 시리즈 길이와 무관)
+        RecurrenceCalendar calendar = new RecurrenceCalendar(plan, seedStart.toLocalDate());
+        long period = calendar.firstPeriodReaching(RecurrenceCalendar.seekDay(winFrom.toInstant(), dur, zone));
+        long lastDay = RecurrenceCalendar.seekEndDay(winTo.toInstant(), zone);
 
-        // WEEKLY에서 사용할 byDay(예: ["MO","WE"])
-        Set<DayOfWeek> byDays = normalizeByDays(r.getByDay());
+        List<ZonedDateTime> candidates = w.candidates;
 
-        // 최초 커서를 윈도우 시작에 최대한 가깝게 정렬
-        ZonedDateTime cursor = alignToFirst(seedStart, winFrom, freq, interval, byDays);
+        while (out.size() < MAX_OCCURRENCES) {
+            // 주기 커서는 항상 시드에서 바로 계산 (월말 보정/DST 밀림이 누적되지 않음)
+            ZonedDateTime cursor = periodCursor(seedStart, freq, period * interval);
 
-        while (cursor.isBefore(upper) && out.size() < MAX_OCCURRENCES) {
+            // 시리즈 끝: 주기 커서가 until 이후
+            if (untilInstant != null && !cursor.toInstant().isBefore(untilInstant)) break;
+            // 윈도우 끝: 이 주기의 가장 이른 후보가 윈도우 뒤 (커서보다 앞선 후보도 놓치지 않도록 날짜로 판단)
+            if (calendar.firstPossibleDay(period) > lastDay) break;
 
             // 규칙별 candidate 시작 시각(들)을 계산
-            List<ZonedDateTime> candidates = switch (freq) {
-                case DAILY -> List.of(cursor);
-                case WEEKLY -> projectWeeklyCandidates(cursor, byDays);
-                case MONTHLY -> {
-                    var ordDays = parseOrdinalDaysStrict(r.getByDay());
-                    yield projectMonthlyCandidates(cursor, seedStart, r.getByMonthday(), ordDays);
-                }
-                case YEARLY -> {
-                    var ordDays = parseOrdinalDaysStrict(r.getByDay()); // ordinal 필수 파서
-                    var months  = toIntSet(r.getByMonth());             // 1..12 (validator에서 보장)
-                    yield projectYearlyCandidates(cursor, seedStart, months, r.getByMonthday(), ordDays, zone);
-                }
-            };
+            candidates.clear();
+            switch (freq) {
+                case DAILY -> candidates.add(cursor);
+                case WEEKLY -> projectWeeklyCandidates(cursor, plan, candidates);
+                case MONTHLY -> projectMonthlyCandidates(cursor, seedStart, plan, candidates);
+                case YEARLY -> projectYearlyCandidates(cursor, seedStart, plan, zone, candidates);
+            }
 
+            int periodFrom = out.size();
             for (ZonedDateTime cStart : candidates) {
-                ZonedDateTime cEnd = cStart.plus(Duration.between(seedStart, seedEnd));
+                ZonedDateTime cEnd = cStart.plus(dur);
 
                 // 윈도우 교차 여부
                 if (cStart.isBefore(winTo) && cEnd.isAfter(winFrom)) {
-                    // 예외(LocalDate)면 스킵
-                    if (exceptionDays.contains(cStart.toLocalDate())) continue;
+                    // 예외 날짜면 스킵
+                    if (exceptionDays.isException(cStart.toLocalDate().toEpochDay())) continue;
 
                     Instant st = cStart.toInstant();
-                    if (!seenStarts.add(st)) continue;
+                    if (out.size() > periodFrom && out.get(out.size() - 1).startUtc().equals(st)) continue;
+                    if (prevMax != null && !st.isAfter(prevMax) && startsIn(out, prevFrom, prevTo, st)) continue;
 
                     out.add(new Slice(st, cEnd.toInstant()));
                     if (out.size() >= MAX_OCCURRENCES) break;
                 }
             }
+            if (out.size() > periodFrom) {
+                prevFrom = periodFrom;
+                prevTo = out.size();
+                prevMax = out.get(prevTo - 1).startUtc();
+            }
 
-            // 다음 커서로 이동
-            cursor = switch (freq) {
-                case DAILY   -> cursor.plusDays(interval);
-                case WEEKLY  -> cursor.plusWeeks(interval);
-                case MONTHLY -> cursor.plusMonths(interval);
-                case YEARLY  -> cursor.plusYears(interval);
-            };
+            period++;
         }
 
         return out;
     }
 
+    private static boolean startsIn(List<Slice> out, int from, int to, Instant st) {
+        for (int i = from; i < to; i++) {
+            if (out.get(i).startUtc().equals(st)) return true;
+        }
+        return false;
+    }
+
     /**
      * WEEKLY 전개에서 사용할 요일 후보 생성.
      * byDay가 비어있다면 cursor의 요일 그대로 1개만 반환.
      */
-    private List<ZonedDateTime> projectWeeklyCandidates(ZonedDateTime cursor, Set<DayOfWeek> byDays) {
-        if (byDays.isEmpty()) return List.of(cursor);
+    private void projectWeeklyCandidates(ZonedDateTime cursor, CompiledRecurrence plan, List<ZonedDateTime> out) {
+        if (!plan.hasWeeklyDays()) {
+            out.add(cursor);
+            return;
+        }
         // cursor가 속한 주의 월요일(ISO)로 정렬
         ZonedDateTime monday = cursor.with(java.time.temporal.TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        List<ZonedDateTime> list = new ArrayList<>();
-        for (DayOfWeek dow : DayOfWeek.values()) {
-            if (byDays.contains(dow)) {
-                list.add(monday.with(java.time.temporal.TemporalAdjusters.nextOrSame(dow))
-                        .withHour(cursor.getHour())
-                        .withMinute(cursor.getMinute())
-                        .withSecond(cursor.getSecond())
-                        .withNano(cursor.getNano()));
-            }
+        LocalTime time = cursor.toLocalTime();
+        for (DayOfWeek dow : plan.weeklyDays()) { // 월→일 순서로 컴파일되어 있음
+            out.add(monday.with(java.time.temporal.TemporalAdjusters.nextOrSame(dow)).with(time));
         }
         // 시간순 정렬 후 반환
-        list.sort(Comparator.naturalOrder());
-        return list;
+        out.sort(Comparator.naturalOrder());
     }
 
-    /**
-     * 최초 커서를 윈도우 시작 근처로 빠르게 보정(성능)
-     */
-    private ZonedDateTime alignToFirst(ZonedDateTime seedStart, ZonedDateTime winFrom,
-                                       RecurrenceFreq freq, int interval, Set<DayOfWeek> byDays) {
-        if (!seedStart.isBefore(winFrom)) return seedStart;
-
-        switch (freq) {
-            case DAILY -> {
-                long days = Duration.between(seedStart, winFrom).toDays();
-                long steps = Math.max(0, days / interval);
-                return seedStart.plusDays(steps * interval);
-            }
-            case WEEKLY -> {
-                long weeks = Duration.between(seedStart, winFrom).toDays() / 7;
-                long steps = Math.max(0, weeks / interval);
-                ZonedDateTime base = seedStart.plusWeeks(steps * interval);
-                // WEEKLY + byDay: base 주 안에서 가장 이른 후보로 보정
-                if (!byDays.isEmpty()) {
-                    List<ZonedDateTime> cands = projectWeeklyCandidates(base, byDays);
-                    for (ZonedDateTime c : cands) {
-                        if (!c.isBefore(winFrom)) return c;
-                    }
-                    // 모두 창 이전이면 interval 주 뒤의 첫 후보로
-                    return projectWeeklyCandidates(base.plusWeeks(interval), byDays).get(0);
-                }
-                return base;
-            }
-            case MONTHLY -> {
-                // 대략적 보정(정확 월 수 계산은 필요 시 보강)
-                Period p = Period.between(seedStart.toLocalDate(), winFrom.toLocalDate());
-                int months = p.getYears() * 12 + p.getMonths();
-                int steps = Math.max(0, months / interval);
-                return seedStart.plusMonths((long) steps * interval);
-            }
-            case YEARLY -> {
-                int years = winFrom.getYear() - seedStart.getYear();
-                int steps = Math.max(0, years / interval);
-                return seedStart.plusYears((long) steps * interval);
-            }
-            default -> { return seedStart; }
-        }
+    /** 주기 커서 = 시드 + amount (freq 단위) */
+    private static ZonedDateTime periodCursor(ZonedDateTime seedStart, RecurrenceFreq freq, long amount) {
+        return switch (freq) {
+            case DAILY   -> seedStart.plusDays(amount);
+            case WEEKLY  -> seedStart.plusWeeks(amount);
+            case MONTHLY -> seedStart.plusMonths(amount);
+            case YEARLY  -> seedStart.plusYears(amount);
+        };
     }
 
-    private Set<DayOfWeek> normalizeByDays(String[] byDay) {
-        if (byDay == null || byDay.length == 0) return Collections.emptySet();
-        Set<DayOfWeek> set = new HashSet<>();
-        for (String token : byDay) {
-            if (token == null || token.isBlank()) continue;
-            String t = token.trim().toUpperCase(Locale.ROOT);
-            // 서수(예: 3WE, -1SU)는 WEEKLY에서는 무시하고 요일만 취함
-            String two = t.substring(Math.max(0, t.length() - 2));
-            switch (two) {
-                case "MO" -> set.add(DayOfWeek.MONDAY);
-                case "TU" -> set.add(DayOfWeek.TUESDAY);
-                case "WE" -> set.add(DayOfWeek.WEDNESDAY);
-                case "TH" -> set.add(DayOfWeek.THURSDAY);
-                case "FR" -> set.add(DayOfWeek.FRIDAY);
-                case "SA" -> set.add(DayOfWeek.SATURDAY);
-                case "SU" -> set.add(DayOfWeek.SUNDAY);
-                default -> {}
-            }
-        }
-        return set;
+    private void projectMonthlyCandidates(
+            ZonedDateTime monthAnchor, ZonedDateTime seedStart,
+            CompiledRecurrence plan, List<ZonedDateTime> out) {
+
+        projectMonth(monthAnchor, seedStart, plan, out);
+        out.sort(Comparator.naturalOrder());
     }
 
-    private List<OrdinalDay> parseOrdinalDaysStrict(String[] byDay) {
-        if (byDay == null || byDay.length == 0) return List.of();
-        List<OrdinalDay> out = new java.util.ArrayList<>();
-        for (String raw : byDay) {
-            var m = BYDAY_TOKEN.matcher(raw.trim().toUpperCase(java.util.Locale.ROOT));
-            if (!m.matches() || m.group(1) == null) continue; // 방어적
-            int ordinal = Integer.parseInt(m.group(1)); // 1..5 or -1..-5
-            DayOfWeek dow = switch (m.group(2)) {
-                case "MO" -> DayOfWeek.MONDAY;
-                case "TU" -> DayOfWeek.TUESDAY;
-                case "WE" -> DayOfWeek.WEDNESDAY;
-                case "TH" -> DayOfWeek.THURSDAY;
-                case "FR" -> DayOfWeek.FRIDAY;
-                case "SA" -> DayOfWeek.SATURDAY;
-                case "SU" -> DayOfWeek.SUNDAY;
-                default -> throw new IllegalArgumentException("Invalid dow");
-            };
-            out.add(new OrdinalDay(ordinal, dow));
+    private void projectYearlyCandidates(
+            ZonedDateTime yearAnchor, ZonedDateTime seedStart,
+            CompiledRecurrence plan, ZoneId zone, List<ZonedDateTime> out) {
+
+        int year = yearAnchor.getYear();
+        LocalTime seedTime = seedStart.toLocalTime();
+
+        for (int m : plan.months()) {
+            // 그 해의 해당 월 1일 00:00을 seed 시간대로 입힘
+            ZonedDateTime monthAnchor = ZonedDateTime.of(LocalDate.of(year, m, 1), seedTime, zone);
+            projectMonth(monthAnchor, seedStart, plan, out);
         }
-        return out;
-    }
 
-    private java.util.List<ZonedDateTime> projectMonthlyCandidates(
-            ZonedDateTime monthAnchor, ZonedDateTime seedStart,
-            Integer[] byMonthday, java.util.List<OrdinalDay> ordDays) {
+        out.sort(Comparator.naturalOrder());
+    }
 
-        java.util.List<ZonedDateTime> out = new java.util.ArrayList<>();
+    /** 한 달 안의 후보: byMonthday 먼저, 그 다음 서수 byDay */
+    private void projectMonth(ZonedDateTime monthAnchor, ZonedDateTime seedStart,
+                              CompiledRecurrence plan, List<ZonedDateTime> out) {
+        LocalTime seedTime = seedStart.toLocalTime();
 
-        // 1) byMonthday 우선 처리 (예: 15일, 31일)
-        if (byMonthday != null && byMonthday.length > 0) {
-            for (Integer d : byMonthday) {
-                if (d == null) continue;
-                out.add(applyDayOfMonthWithNegatives(monthAnchor, d, seedStart));
-            }
+        // 1) byMonthday (예: 15일, 31일, -1=말일)
+        for (int d : plan.monthdays()) {
+            out.add(applyDayOfMonthWithNegatives(monthAnchor, d, seedTime));
         }
 
-        // 2) ordinal byDay 처리
-        if (ordDays != null && !ordDays.isEmpty()) {
-            ZonedDateTime first = monthAnchor.withDayOfMonth(1)
-                    .withHour(seedStart.getHour())
-                    .withMinute(seedStart.getMinute())
-                    .withSecond(seedStart.getSecond())
-                    .withNano(seedStart.getNano());
-            for (OrdinalDay od : ordDays) {
+        // 2) ordinal byDay
+        int[] ordinals = plan.ordinals();
+        if (ordinals.length > 0) {
+            ZonedDateTime first = monthAnchor.withDayOfMonth(1).with(seedTime);
+            DayOfWeek[] dows = plan.ordinalDays();
+            for (int i = 0; i < ordinals.length; i++) {
                 ZonedDateTime cand;
-                if (od.ordinal > 0) {
+                if (ordinals[i] > 0) {
                     cand = first.with(java.time.temporal.TemporalAdjusters
-                            .dayOfWeekInMonth(od.ordinal, od.dow));
-                } else {
-                    cand = first.with(java.time.temporal.TemporalAdjusters.lastInMonth(od.dow));
-                    int k = Math.abs(od.ordinal);
+                            .dayOfWeekInMonth(ordinals[i], dows[i]));
+                } else { // -1, -2 ...
+                    cand = first.with(java.time.temporal.TemporalAdjusters.lastInMonth(dows[i]));
+                    int k = Math.abs(ordinals[i]);
                     if (k > 1) cand = cand.minusWeeks(k - 1); // -2, -3 등 뒤에서 n번째
                 }
                 out.add(cand);
             }
         }
-
-        out.sort(java.util.Comparator.naturalOrder());
-        return out;
-    }
-
-    private record OrdinalDay(Integer ordinal, DayOfWeek dow) {}
-
-    private SortedSet<Integer> toIntSet(Integer[] arr) {
-        SortedSet<Integer> set = new TreeSet<>();
-        if (arr != null) for (Integer m : arr) if (m != null) set.add(m);
-        return set;
-    }
-
-    private List<ZonedDateTime> projectYearlyCandidates(
-            ZonedDateTime yearAnchor, ZonedDateTime seedStart,
-            SortedSet<Integer> months, Integer[] byMonthday, List<OrdinalDay> ordDays, ZoneId zone) {
-
-        List<ZonedDateTime> out = new ArrayList<>();
-        int year = yearAnchor.getYear();
-
-        for (int m : months) {
-            // 그 해의 해당 월 1일 00:00을 seed 시간대로 입힘
-            ZonedDateTime monthAnchor = ZonedDateTime.of(LocalDate.of(year, m, 1), seedStart.toLocalTime(), zone);
-
-            // 1) byMonthday
-            if (byMonthday != null && byMonthday.length > 0) {
-                for (Integer d : byMonthday) {
-                    if (d == null) continue;
-                    out.add(applyDayOfMonthWithNegatives(monthAnchor, d, seedStart));
-                }
-            }
-
-            // 2) ordinal byDay
-            if (ordDays != null && !ordDays.isEmpty()) {
-                ZonedDateTime first = monthAnchor.withDayOfMonth(1)
-                        .withHour(seedStart.getHour())
-                        .withMinute(seedStart.getMinute())
-                        .withSecond(seedStart.getSecond())
-                        .withNano(seedStart.getNano());
-
-                for (OrdinalDay od : ordDays) {
-                    ZonedDateTime cand;
-                    if (od.ordinal > 0) {
-                        cand = first.with(java.time.temporal.TemporalAdjusters
-                                .dayOfWeekInMonth(od.ordinal, od.dow));
-                    } else { // -1, -2 ...
-                        cand = first.with(java.time.temporal.TemporalAdjusters.lastInMonth(od.dow));
-                        int k = Math.abs(od.ordinal);
-                        if (k > 1) cand = cand.minusWeeks(k - 1);
-                    }
-                    out.add(cand);
-                }
-            }
-        }
-
-        out.sort(Comparator.naturalOrder());
-        return out;
     }
 
     private ZonedDateTime applyDayOfMonthWithNegatives(
-            ZonedDateTime monthAnchor, int daySpec, ZonedDateTime seedStart) {
+            ZonedDateTime monthAnchor, int daySpec, LocalTime seedTime) {
 
-        LocalDate base = monthAnchor.toLocalDate();
-        int len = base.lengthOfMonth();
+        int len = monthAnchor.toLocalDate().lengthOfMonth();
 
         int day;
         if (daySpec > 0) {
@@ -331,10 +227,12 @@ public class RecurrenceExpanderImpl implements RecurrenceExpander {
             day = Math.max(1, len - k + 1);
         }
 
-        return monthAnchor.withDayOfMonth(day)
-                .withHour(seedStart.getHour())
-                .withMinute(seedStart.getMinute())
-                .withSecond(seedStart.getSecond())
-                .withNano(seedStart.getNano());
+        return monthAnchor.withDayOfMonth(day).with(seedTime);
+    }
+
+    /** 스레드별 재사용 버퍼 (예외 커서, 주기별 후보 목록) */
+    private static final class Workspace {
+        final ExceptionDayCursor exceptions = new ExceptionDayCursor();
+        final List<ZonedDateTime> candidates = new ArrayList<>(16);
     }
 }
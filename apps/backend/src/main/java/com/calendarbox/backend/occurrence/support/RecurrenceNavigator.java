@@ -0,0 +1,272 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * 긴 시리즈에서 시드부터 전개하지 않고 n번째 occurrence / 특정 시각의 순번으로 바로 이동.
+ * - 순번은 0부터, 시작 시각 오름차순 (전개 엔진이 내는 것과 같은 집합: 시드 + 후보 - 예외)
+ * - 로컬 날짜 D 이전 occurrence 수(rank)를 주기 단위 닫힌 식 + 400년 주기 누적합으로 계산
+ * - 날짜가 정해지면 그 하루만 전개해서 정확한 시각을 얻음
+ * - 하루 전체가 사라지는 전환(Pacific/Apia 2011-12-30 등)은 날짜 단위 계산에서 고려하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurrenceNavigator {
+
+    // 탐색 상한 (until 없는 시리즈)
+    private static final long MAX_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    private final RecurrencePlanCache recurrencePlanCache;
+    private final RecurrenceExpander recurrenceExpander;
+
+    /** n번째(0부터) occurrence. 시리즈가 그보다 짧으면 empty */
+    public Optional<RecurrenceExpander.Slice> nthOccurrence(Schedule s, long n, ZoneId zone) {
+        if (n < 0 || !s.getStartAt().isBefore(s.getEndAt())) return Optional.empty();
+
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) {
+            return n == 0 ? Optional.of(new RecurrenceExpander.Slice(s.getStartAt(), s.getEndAt())) : Optional.empty();
+        }
+
+        Series series = series(s, r, zone);
+
+        // rank(lo) <= n < rank(hi) 를 만족하는 구간을 잡고 이분 탐색
+        long lo = series.firstDay();
+        long hi;
+        if (series.isBounded()) {
+            hi = series.endDay();
+            if (series.rank(hi) <= n) return Optional.empty();
+        } else {
+            long step = 1;
+            while (series.rank(lo + step) <= n) {
+                if (lo + step >= MAX_EPOCH_DAY) return Optional.empty();
+                step = Math.min(step << 1, MAX_EPOCH_DAY - lo);
+            }
+            hi = lo + step;
+        }
+        while (hi - lo > 1) {
+            long mid = (lo + hi) >>> 1;
+            if (series.rank(mid) > n) hi = mid; else lo = mid;
+        }
+
+        // lo 날짜에 n번째가 있음: 그 날의 (n - rank(lo))번째
+        List<RecurrenceExpander.Slice> day = startsOn(s, r, lo, zone);
+        int j = (int) (n - series.rank(lo));
+        return j < day.size() ? Optional.of(day.get(j)) : Optional.empty();
+    }
+
+    /** 마지막 occurrence. until 없는 시리즈이거나 occurrence가 하나도 없으면 empty */
+    public Optional<RecurrenceExpander.Slice> lastOccurrence(Schedule s, ZoneId zone) {
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return nthOccurrence(s, 0, zone);
+        if (!s.getStartAt().isBefore(s.getEndAt())) return Optional.empty();
+
+        Series series = series(s, r, zone);
+        if (!series.isBounded()) return Optional.empty();
+        long total = series.rank(series.endDay());
+        return total == 0 ? Optional.empty() : nthOccurrence(s, total - 1, zone);
+    }
+
+    /** at 이전에 시작하는 occurrence 수 (= at에 시작하는 occurrence의 순번) */
+    public long occurrenceIndexAt(Schedule s, Instant at, ZoneId zone) {
+        if (!s.getStartAt().isBefore(s.getEndAt())) return 0;
+
+        ScheduleRecurrence r = s.getRecurrence();
+        if (r == null) return s.getStartAt().isBefore(at) ? 1 : 0;
+
+        Series series = series(s, r, zone);
+        long day = Math.max(series.firstDay(), Math.min(at.atZone(zone).toLocalDate().toEpochDay(), series.endDay()));
+        long count = series.rank(day);
+        for (RecurrenceExpander.Slice slice : startsOn(s, r, day, zone)) {
+            if (slice.startUtc().isBefore(at)) count++;
+        }
+        return count;
+    }
+
+    private Series series(Schedule s, ScheduleRecurrence r, ZoneId zone) {
+        return new Series(s, r, recurrencePlanCache.get(r), zone, seedApartFromCandidate(s, r, zone));
+    }
+
+    /**
+     * 시드가 overlap 구간의 시각이면 같은 날짜의 후보가 다른 오프셋으로 풀려 시드와 별개 occurrence가 될 수 있음
+     * (나중 오프셋 시드 + 이른 오프셋 후보). 날짜 단위 계산으로는 알 수 없으므로 그 하루만 전개해서 확인
+     */
+    private boolean seedApartFromCandidate(Schedule s, ScheduleRecurrence r, ZoneId zone) {
+        ZonedDateTime seed = s.getStartAt().atZone(zone);
+        if (seed.withEarlierOffsetAtOverlap().equals(seed.withLaterOffsetAtOverlap())) return false;
+        return startsOn(s, r, seed.toLocalDate().toEpochDay(), zone).size() > 1;
+    }
+
+    /** 로컬 날짜 epochDay에 시작하는 occurrence (시작 시각순) */
+    private List<RecurrenceExpander.Slice> startsOn(Schedule s, ScheduleRecurrence r, long epochDay, ZoneId zone) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        ZonedDateTime from = date.atStartOfDay(zone);
+        ZonedDateTime to = date.plusDays(1).atStartOfDay(zone);
+
+        List<RecurrenceExpander.Slice> out = new ArrayList<>();
+        for (RecurrenceExpander.Slice slice : recurrenceExpander.expand(s, r, from, to, zone)) {
+            if (slice.startUtc().atZone(zone).toLocalDate().equals(date)) out.add(slice);
+        }
+        out.sort(Comparator.comparing(RecurrenceExpander.Slice::startUtc));
+        return out;
+    }
+
+    /**
+     * 한 번의 호출 동안 쓰는 시리즈 계산 상태.
+     * 결과 = (시드) ∪ 주기 [0, K)의 후보 날짜 - 예외 날짜, 날짜당 하나 (overlap 시각의 시드만 같은 날 후보와 따로 셈).
+     * K = 주기 커서가 처음으로 until 이상이 되는 주기 (전개 엔진의 종료 조건과 동일)
+     */
+    private static final class Series {
+
+        private final RecurrenceCalendar calendar;
+        private final long seedDay;
+        private final long periodLimit;       // K (until 없으면 Long.MAX_VALUE)
+        private final boolean seedCounted;    // 시드가 후보와 겹치지 않고 결과에 따로 들어가는지 (예외 반영)
+        private final long[] exceptionHits;   // 후보 날짜에 걸리는 예외 날짜 (오름차순)
+
+        private final long[] cur;
+        private final long[] prev;
+
+        // f(k) = 주기 k에서 새로 생기는 후보 수 (k >= 1) 의 누적합, 필요한 만큼만 채움
+        private final long cycle;
+        private long[] prefix = new long[16];
+        private int prefixSize = 1;
+
+        Series(Schedule s, ScheduleRecurrence r, CompiledRecurrence plan, ZoneId zone, boolean seedApart) {
+            ZonedDateTime seedStart = s.getStartAt().atZone(zone);
+            this.calendar = new RecurrenceCalendar(plan, seedStart.toLocalDate());
+            this.seedDay = seedStart.toLocalDate().toEpochDay();
+            this.cur = new long[Math.max(1, calendar.maxDatesPerPeriod())];
+            this.prev = new long[cur.length];
+            this.cycle = calendar.cycleLength();
+
+            Instant until = r.getUntil();
+            this.periodLimit = until == null ? Long.MAX_VALUE : periodLimit(seedStart, plan, until);
+
+            boolean seedInSeries = until == null || !seedStart.toInstant().isAfter(until);
+            boolean seedExcluded = Arrays.stream(r.exceptionEpochDays()).anyMatch(d -> d == seedDay);
+            this.seedCounted = seedInSeries && !seedExcluded && (seedApart || !isCandidate(seedDay));
+
+            this.exceptionHits = Arrays.stream(r.exceptionEpochDays())
+                    .asLongStream()
+                    .filter(this::isCandidate)
+                    .sorted()
+                    .toArray();
+        }
+
+        boolean isBounded() {
+            return periodLimit != Long.MAX_VALUE;
+        }
+
+        /** 가장 이른 occurrence 날짜 이하 */
+        long firstDay() {
+            return Math.min(seedDay, calendar.firstPossibleDay(0));
+        }
+
+        /** 가장 늦은 occurrence 날짜 초과 (until 있는 시리즈) */
+        long endDay() {
+            if (!isBounded()) return MAX_EPOCH_DAY;
+            long last = periodLimit > 0 ? calendar.lastPossibleDay(periodLimit - 1) : Long.MIN_VALUE;
+            return Math.max(seedDay, last) + 1;
+        }
+
+        /** 로컬 날짜 epochDay 이전(미포함)에 시작하는 occurrence 수 */
+        long rank(long epochDay) {
+            long kd = calendar.periodOf(epochDay);
+            // kd-2 이하 주기는 후보가 전부 epochDay 이전, kd+2 이상은 전부 이후 (달/해 경계 넘침은 최대 1주)
+            long full = Math.min(kd - 1, periodLimit);
+            long count = full > 0 ? newDatesUpTo(full) : 0;
+            for (long k = Math.max(0, full); k <= kd + 1 && k < periodLimit; k++) {
+                count += newDatesBefore(k, epochDay);
+            }
+            if (seedCounted && seedDay < epochDay) count++;
+            count -= countBefore(exceptionHits, epochDay);
+            return count;
+        }
+
+        /** 주기 [0, n)의 서로 다른 후보 날짜 수 */
+        private long newDatesUpTo(long n) {
+            long total = calendar.datesOf(0, cur);
+            long m = n - 1;   // f(1) .. f(n-1)
+            if (m <= 0) return total;
+            long q = m / cycle;
+            int rem = (int) (m % cycle);
+            if (q > 0) total += q * prefix((int) cycle);
+            return total + prefix(rem);
+        }
+
+        /** f(1) + ... + f(j) */
+        private long prefix(int j) {
+            if (j >= prefix.length) prefix = Arrays.copyOf(prefix, Math.max(j + 1, prefix.length << 1));
+            while (prefixSize <= j) {
+                int k = prefixSize;
+                prefix[k] = prefix[k - 1] + newDatesBefore(k, Long.MAX_VALUE);
+                prefixSize++;
+            }
+            return prefix[j];
+        }
+
+        /** 주기 k의 후보 중 직전 주기와 겹치지 않고 epochDay 이전인 것의 수 */
+        private long newDatesBefore(long k, long epochDay) {
+            int n = calendar.datesOf(k, cur);
+            int p = k > 0 ? calendar.datesOf(k - 1, prev) : 0;
+            long count = 0;
+            for (int i = 0; i < n; i++) {
+                long d = cur[i];
+                if (d >= epochDay) break;
+                if (p == 0 || Arrays.binarySearch(prev, 0, p, d) < 0) count++;
+            }
+            return count;
+        }
+
+        /** 주기 [0, K) 중 어느 주기의 후보 날짜인지 */
+        private boolean isCandidate(long epochDay) {
+            long kd = calendar.periodOf(epochDay);
+            for (long k = Math.max(0, kd - 1); k <= kd + 1 && k < periodLimit; k++) {
+                int n = calendar.datesOf(k, cur);
+                if (Arrays.binarySearch(cur, 0, n, epochDay) >= 0) return true;
+            }
+            return false;
+        }
+
+        private static long countBefore(long[] sorted, long epochDay) {
+            int i = Arrays.binarySearch(sorted, epochDay);
+            return i >= 0 ? i : -i - 1;
+        }
+
+        /** 커서(시드 + k*interval)가 처음으로 until 이상이 되는 k. 커서는 k에 대해 단조 증가 */
+        private static long periodLimit(ZonedDateTime seedStart, CompiledRecurrence plan, Instant until) {
+            if (!seedStart.toInstant().isBefore(until)) return 0;
+            RecurrenceFreq freq = plan.freq();
+            int interval = plan.interval();
+            LocalDate untilDate = until.atZone(seedStart.getZone()).toLocalDate();
+            LocalDate seedDate = seedStart.toLocalDate();
+
+            long k = Math.max(0, switch (freq) {
+                case DAILY -> (untilDate.toEpochDay() - seedDate.toEpochDay()) / interval;
+                case WEEKLY -> (untilDate.toEpochDay() - seedDate.toEpochDay()) / (7L * interval);
+                case MONTHLY -> (RecurrenceCalendar.monthIndex(untilDate) - RecurrenceCalendar.monthIndex(seedDate)) / interval;
+                case YEARLY -> (long) (untilDate.getYear() - seedDate.getYear()) / interval;
+            });
+            while (k > 0 && !cursor(seedStart, freq, (k - 1) * interval).toInstant().isBefore(until)) k--;
+            while (cursor(seedStart, freq, k * interval).toInstant().isBefore(until)) k++;
+            return k;
+        }
+
+        private static ZonedDateTime cursor(ZonedDateTime seedStart, RecurrenceFreq freq, long amount) {
+            return switch (freq) {
+                case DAILY   -> seedStart.plusDays(amount);
+                case WEEKLY  -> seedStart.plusWeeks(amount);
+                case MONTHLY -> seedStart.plusMonths(amount);
+                case YEARLY  -> seedStart.plusYears(amount);
+            };
+        }
+    }
+}
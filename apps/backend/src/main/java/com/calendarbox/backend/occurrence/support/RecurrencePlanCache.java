@@ -0,0 +1,44 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 반복 규칙별 CompiledRecurrence 로컬 캐시.
+ * 키에 rule_version을 포함하므로 규칙이 바뀌면 자연스럽게 새 항목이 생기고 옛 항목은 밀려난다.
+ * (롤백된 수정이 같은 버전 번호를 선점하지 않도록 규칙 내용 해시도 키에 포함)
+ */
+@Component
+public class RecurrencePlanCache {
+
+    private record Key(Long recurrenceId, int ruleVersion, int ruleHash) {}
+
+    private final Cache<Key, CompiledRecurrence> cache;
+
+    public RecurrencePlanCache(@Value("${occurrence.plan-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public CompiledRecurrence get(ScheduleRecurrence r) {
+        // 아직 저장 전(id 없음)인 규칙은 캐시하지 않음
+        if (r.getId() == null) return CompiledRecurrence.compile(r);
+        return cache.get(new Key(r.getId(), r.getRuleVersion(), ruleHash(r)), k -> CompiledRecurrence.compile(r));
+    }
+
+    private static int ruleHash(ScheduleRecurrence r) {
+        int h = Objects.hashCode(r.getFreq());
+        h = 31 * h + r.getIntervalCount();
+        h = 31 * h + Arrays.hashCode(r.getByDay());
+        h = 31 * h + Arrays.hashCode(r.getByMonthday());
+        h = 31 * h + Arrays.hashCode(r.getByMonth());
+        return h;
+    }
+}
@@ -0,0 +1,83 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.repository.RecurrenceExceptionDayRepository;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전개할 반복 시리즈 로드.
+ * - 윈도우 조회는 first/last_occurrence_at 범위로 거르고 (전개 타임존 차이만큼 여유를 둠)
+ * - 예외는 엔티티 컬렉션 대신 날짜 projection으로 따로 읽어 ScheduleRecurrence에 epoch day 배열로 붙임
+ * 윈도우 조회는 윈도우에 걸칠 수 있는 예외만 붙이므로, 같은 엔티티를 다른 윈도우 전개에 재사용하지 말 것
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurringSeriesLoader {
+
+    // 범위는 물리화 타임존 기준이라 다른 타임존으로 전개하면 하루 안팎 어긋날 수 있음
+    private static final Duration BOUNDS_SLACK = Duration.ofDays(2);
+
+    private final ScheduleRepository scheduleRepository;
+    private final RecurrenceExceptionDayRepository recurrenceExceptionDayRepository;
+
+    public List<Schedule> byCalendarIds(List<Long> calendarIds, Instant fromUtc, Instant toUtc, ZoneId zone) {
+        if (calendarIds.isEmpty()) return List.of();
+        List<Schedule> series = scheduleRepository.findRecurringOverlappingByCalendarIds(
+                calendarIds, fromUtc.minus(BOUNDS_SLACK), toUtc.plus(BOUNDS_SLACK));
+        return withExceptionsIn(series, fromUtc, toUtc, zone);
+    }
+
+    public List<Schedule> byAcceptedParticipant(Long memberId, Instant fromUtc, Instant toUtc, ZoneId zone) {
+        List<Schedule> series = scheduleRepository.findRecurringOverlappingByAcceptedParticipant(
+                memberId, fromUtc.minus(BOUNDS_SLACK), toUtc.plus(BOUNDS_SLACK));
+        return withExceptionsIn(series, fromUtc, toUtc, zone);
+    }
+
+    /** 지정한 반복 일정 전체 (예외도 전부) - 물리화/horizon 연장/델타 동기화용 */
+    public List<Schedule> byIds(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return List.of();
+        List<Schedule> series = scheduleRepository.findRecurringByIds(scheduleIds);
+        attachExceptionDays(series, null, null);
+        return series;
+    }
+
+    /**
+     * 윈도우와 겹치는 occurrence는 (from - 최장 길이) 이후, to 이전에 시작하므로
+     * 그 사이(현지 날짜, 앞뒤 하루 여유)의 예외만 있으면 전개 결과가 같음
+     */
+    private List<Schedule> withExceptionsIn(List<Schedule> series, Instant fromUtc, Instant toUtc, ZoneId zone) {
+        if (series.isEmpty()) return series;
+
+        Duration longest = Duration.ZERO;
+        for (Schedule s : series) {
+            Duration d = Duration.between(s.getStartAt(), s.getEndAt());
+            if (d.compareTo(longest) > 0) longest = d;
+        }
+        LocalDate fromDate = fromUtc.minus(longest).atZone(zone).toLocalDate().minusDays(1);
+        LocalDate toDate = toUtc.atZone(zone).toLocalDate().plusDays(1);
+
+        attachExceptionDays(series, fromDate, toDate);
+        return series;
+    }
+
+    private void attachExceptionDays(List<Schedule> series, LocalDate fromDate, LocalDate toDate) {
+        if (series.isEmpty()) return;
+        List<Long> recurrenceIds = series.stream().map(s -> s.getRecurrence().getId()).toList();
+        Map<Long, int[]> days = recurrenceExceptionDayRepository.findEpochDays(recurrenceIds, fromDate, toDate);
+        for (Schedule s : series) {
+            ScheduleRecurrence r = s.getRecurrence();
+            r.assignExceptionEpochDays(days.getOrDefault(r.getId(), new int[0]));
+        }
+    }
+}
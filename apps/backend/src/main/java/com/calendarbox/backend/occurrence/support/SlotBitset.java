@@ -0,0 +1,77 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.time.Instant;
+
+/**
+ * 고정 길이 슬롯(5분/15분 등) 단위 busy 비트셋. 비트 1 = busy.
+ * - 여러 회원의 busy 구간을 같은 셋에 찍으면 곧 OR 결과
+ * - 빈 슬롯 연속 구간은 word 단위(numberOfTrailingZeros)로 찾음
+ */
+public final class SlotBitset {
+
+    private final long originSecond;
+    private final int slotSeconds;
+    private final int size;
+    private final long[] words;
+
+    public SlotBitset(Instant origin, int slotSeconds, int size) {
+        this.originSecond = origin.getEpochSecond();
+        this.slotSeconds = slotSeconds;
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public int size() { return size; }
+
+    public Instant slotStart(int slot) {
+        return Instant.ofEpochSecond(originSecond + (long) slot * slotSeconds);
+    }
+
+    /** [start, end)와 조금이라도 겹치는 슬롯을 busy로 */
+    public void markBusy(Instant start, Instant end) {
+        long s = start.getEpochSecond() - originSecond;
+        long e = end.getEpochSecond() - originSecond + (end.getNano() > 0 ? 1 : 0);
+        long from = Math.floorDiv(s, slotSeconds);
+        long to = -Math.floorDiv(-e, slotSeconds); // ceil
+        set((int) Math.max(0, from), (int) Math.min(size, to));
+    }
+
+    /** 슬롯 [from, to)를 busy로 */
+    public void set(int from, int to) {
+        if (from >= to) return;
+        int w0 = from >>> 6, w1 = (to - 1) >>> 6;
+        long first = -1L << from;
+        long last = -1L >>> -to;
+        if (w0 == w1) {
+            words[w0] |= first & last;
+            return;
+        }
+        words[w0] |= first;
+        for (int w = w0 + 1; w < w1; w++) words[w] = -1L;
+        words[w1] |= last;
+    }
+
+    /** from 이후 첫 빈 슬롯 (없으면 size) */
+    public int nextFree(int from) {
+        if (from >= size) return size;
+        int w = from >>> 6;
+        long word = ~words[w] & (-1L << from);
+        while (word == 0) {
+            if (++w == words.length) return size;
+            word = ~words[w];
+        }
+        return Math.min(size, (w << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    /** from 이후 첫 busy 슬롯 (없으면 size) */
+    public int nextBusy(int from) {
+        if (from >= size) return size;
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (word == 0) {
+            if (++w == words.length) return size;
+            word = words[w];
+        }
+        return Math.min(size, (w << 6) + Long.numberOfTrailingZeros(word));
+    }
+}
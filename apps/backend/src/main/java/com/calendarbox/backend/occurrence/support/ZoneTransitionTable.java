@@ -0,0 +1,159 @@
+package com.calendarbox.backend.occurrence.support;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 특정 구간의 zone 오프셋 전환 시점을 primitive 배열로 펼쳐둔 표.
+ * - 로컬 시각(epoch-second) 해석은 ZonedDateTime.ofLocal과 같은 규칙
+ *   (gap은 전환 길이만큼 뒤로 밀고 offsetAfter, overlap은 선호 오프셋이 유효하면 유지, 아니면 offsetBefore)
+ * - 결과는 (local, offset)을 long 하나에 묶어 반환 → 호출부에서 객체 생성 없음
+ * - 표 범위 밖은 ZoneRules로 직접 계산(드문 경로)
+ */
+final class ZoneTransitionTable {
+
+    static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final int OFFSET_BIAS = 1 << 16;
+    private static final int OFFSET_BITS = 17;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private ZoneId zone;
+    private ZoneRules rules;
+    private boolean fixed;
+    private int baseOffset;
+
+    // 표가 책임지는 instant 구간 [coverFrom, coverTo]
+    private long coverFrom;
+    private long coverTo;
+
+    private int n;
+    private long[] epoch = new long[16];     // 전환 instant
+    private int[] before = new int[16];      // 전환 직전 오프셋
+    private int[] after = new int[16];       // 전환 직후 오프셋
+    private long[] localLo = new long[16];   // gap/overlap 로컬 구간 시작
+    private long[] localHi = new long[16];   // gap/overlap 로컬 구간 끝(미포함)
+
+    /** zone/구간이 이미 덮여 있으면 그대로 쓰고, 아니면 다시 채운다 */
+    void ensure(ZoneId zone, long fromEpochSecond, long toEpochSecond) {
+        if (toEpochSecond < fromEpochSecond) toEpochSecond = fromEpochSecond;
+        if (zone.equals(this.zone) && (fixed || (coverFrom <= fromEpochSecond && toEpochSecond <= coverTo))) return;
+
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset();
+        this.n = 0;
+        if (fixed) {
+            this.baseOffset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            return;
+        }
+
+        this.coverFrom = fromEpochSecond;
+        this.coverTo = toEpochSecond;
+        Instant from = Instant.ofEpochSecond(fromEpochSecond);
+        this.baseOffset = rules.getOffset(from).getTotalSeconds();
+
+        ZoneOffsetTransition t = rules.nextTransition(from);
+        while (t != null && t.toEpochSecond() <= toEpochSecond) {
+            if (n == epoch.length) grow();
+            long at = t.toEpochSecond();
+            int b = t.getOffsetBefore().getTotalSeconds();
+            int a = t.getOffsetAfter().getTotalSeconds();
+            epoch[n] = at;
+            before[n] = b;
+            after[n] = a;
+            localLo[n] = at + Math.min(a, b);
+            localHi[n] = at + Math.max(a, b);
+            n++;
+            t = rules.nextTransition(t.getInstant());
+        }
+    }
+
+    /** instant의 오프셋(초) */
+    int offsetAt(long epochSecond) {
+        if (fixed) return baseOffset;
+        if (epochSecond < coverFrom || epochSecond > coverTo) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int lo = 0, hi = n - 1, found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epoch[mid] <= epochSecond) { found = mid; lo = mid + 1; } else hi = mid - 1;
+        }
+        return found < 0 ? baseOffset : after[found];
+    }
+
+    /**
+     * 로컬 epoch-second를 zone 규칙으로 해석 (ZonedDateTime.ofLocal과 동일).
+     * @param preferredOffset 직전 값의 오프셋, 없으면 NO_OFFSET
+     */
+    long resolve(long local, int preferredOffset) {
+        if (fixed) return pack(local, baseOffset);
+        if (local - MAX_OFFSET_SECONDS < coverFrom || local + MAX_OFFSET_SECONDS > coverTo) {
+            return resolveSlow(local, preferredOffset);
+        }
+
+        int lo = 0, hi = n - 1, i = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (localLo[mid] <= local) { i = mid; lo = mid + 1; } else hi = mid - 1;
+        }
+        if (i < 0) return pack(local, baseOffset);
+        if (local >= localHi[i]) return pack(local, after[i]);
+
+        if (after[i] > before[i]) {
+            // gap: 존재하지 않는 로컬 시각 → 전환 길이만큼 뒤로
+            return pack(local + (after[i] - before[i]), after[i]);
+        }
+        // overlap: 선호 오프셋이 유효하면 유지
+        return pack(local, preferredOffset == after[i] ? after[i] : before[i]);
+    }
+
+    private long resolveSlow(long local, int preferredOffset) {
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC);
+        List<ZoneOffset> valid = rules.getValidOffsets(ldt);
+        if (valid.size() == 1) return pack(local, valid.get(0).getTotalSeconds());
+        if (valid.isEmpty()) {
+            ZoneOffsetTransition t = rules.getTransition(ldt);
+            return pack(local + t.getDuration().getSeconds(), t.getOffsetAfter().getTotalSeconds());
+        }
+        for (ZoneOffset o : valid) {
+            if (o.getTotalSeconds() == preferredOffset) return pack(local, preferredOffset);
+        }
+        return pack(local, valid.get(0).getTotalSeconds());
+    }
+
+    private void grow() {
+        int cap = epoch.length << 1;
+        epoch = Arrays.copyOf(epoch, cap);
+        before = Arrays.copyOf(before, cap);
+        after = Arrays.copyOf(after, cap);
+        localLo = Arrays.copyOf(localLo, cap);
+        localHi = Arrays.copyOf(localHi, cap);
+    }
+
+    // ---- (local, offset) 묶음 ----
+
+    static long pack(long local, int offset) {
+        return (local << OFFSET_BITS) | (offset + OFFSET_BIAS);
+    }
+
+    static long local(long zoned) {
+        return zoned >> OFFSET_BITS;
+    }
+
+    static int offset(long zoned) {
+        return (int) (zoned & OFFSET_MASK) - OFFSET_BIAS;
+    }
+
+    static long epochSecond(long zoned) {
+        return local(zoned) - offset(zoned);
+    }
+}
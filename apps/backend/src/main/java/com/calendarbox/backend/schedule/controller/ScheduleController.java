@@ -2,7 +2,10 @@ package com.calendarbox.backend.schedule.controller;
 
 import com.calendarbox.backend.calendar.dto.response.InvitedCalendarMemberItem;
 import com.calendarbox.backend.global.dto.ApiResponse;
+import com.calendarbox.backend.global.dto.CursorResponse;
 import com.calendarbox.backend.global.dto.PageResponse;
+import com.calendarbox.backend.global.utils.ConditionalGet;
+import com.calendarbox.backend.occurrence.service.CalendarVersionService;
 import com.calendarbox.backend.schedule.dto.request.CreateScheduleRequest;
 import com.calendarbox.backend.schedule.dto.request.EditScheduleRequest;
 import com.calendarbox.backend.schedule.dto.response.*;
@@ -20,6 +23,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -34,6 +38,7 @@ public class ScheduleController {
     private final ScheduleQueryService scheduleQueryService;
     private final ScheduleService scheduleService;
     private final ScheduleParticipantQueryService scheduleParticipantQueryService;
+    private final CalendarVersionService calendarVersionService;
 
     @Operation(
             summary = "스케줄 생성",
@@ -103,11 +108,14 @@ public class ScheduleController {
             @RequestParam(required = false) Long calendarId,
             @RequestParam(required = false) Instant from,
             @RequestParam(required = false) Instant to,
-            @PageableDefault(size = 30, sort = {"startAt","id"}) Pageable pageable
+            @PageableDefault(size = 30, sort = {"startAt","id"}) Pageable pageable,
+            WebRequest webRequest
     ){
+        String etag = calendarVersionService.scheduleListEtag(userId, calendarId, from, to, pageable);
+        if (webRequest.checkNotModified(etag)) return ConditionalGet.notModified(etag);
         var pageResult = scheduleQueryService.getList(userId,calendarId,from,to,pageable);
         var data = PageResponse.of(pageResult);
-        return ResponseEntity.ok(ApiResponse.ok("스케줄 목록 조회 성공", data));
+        return ConditionalGet.ok(etag, ApiResponse.ok("스케줄 목록 조회 성공", data));
     }
 
     @Operation(
@@ -126,6 +134,41 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.ok("스케줄 검색 성공", data));
     }
 
+    @Operation(
+            summary = "스케줄 목록 조회 (커서)",
+            description = "시작 시각순으로 스케줄 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다."
+    )
+    @GetMapping("/schedules/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<ScheduleListItem>>> scroll(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @RequestParam(required = false) Long calendarId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size
+    ){
+        size = Math.min(Math.max(size, 1), 100);
+        var data = scheduleQueryService.scroll(userId, calendarId, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok("스케줄 목록 조회 성공", data));
+    }
+
+    @Operation(
+            summary = "스케줄 검색 (커서)",
+            description = "스케줄을 커서 기반으로 검색합니다."
+    )
+    @GetMapping("/schedules/search/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<ScheduleListItem>>> searchScroll(
+            @AuthenticationPrincipal(expression = "id") Long userId,
+            @RequestParam(required = false) Long calendarId,
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size
+    ){
+        size = Math.min(Math.max(size, 1), 100);
+        var data = scheduleQueryService.searchScroll(userId, calendarId, query, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok("스케줄 검색 성공", data));
+    }
+
     @Operation(
             summary = "받은 스케줄 초대 목록 조회",
             description = "받은 스케줄 초대 목록을 조회합니다."
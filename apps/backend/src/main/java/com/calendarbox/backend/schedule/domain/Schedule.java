@@ -114,6 +114,31 @@ public class Schedule {
     @Column(name = "embedding_status", nullable = false, length = 20)
     private String embeddingStatus = "SYNCED"; // 기본
 
+    // 하위 항목 개수 (V18) - ScheduleCounterService가 SQL로만 갱신하므로 JPA에서는 읽기 전용
+    @Column(name = "participant_count", insertable = false, updatable = false)
+    private int participantCount;
+
+    @Column(name = "recurrence_count", insertable = false, updatable = false)
+    private int recurrenceCount;
+
+    @Column(name = "reminder_count", insertable = false, updatable = false)
+    private int reminderCount;
+
+    @Column(name = "link_count", insertable = false, updatable = false)
+    private int linkCount;
+
+    @Column(name = "todo_count", insertable = false, updatable = false)
+    private int todoCount;
+
+    @Column(name = "place_count", insertable = false, updatable = false)
+    private int placeCount;
+
+    @Column(name = "img_count", insertable = false, updatable = false)
+    private int imgCount;
+
+    @Column(name = "file_count", insertable = false, updatable = false)
+    private int fileCount;
+
     public void markEmbeddingSynced(Instant now) {
         this.embeddingDirty = false;
         this.embeddingStatus = "SYNCED";
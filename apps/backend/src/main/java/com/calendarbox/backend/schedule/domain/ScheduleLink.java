@@ -15,7 +15,8 @@ import java.time.Instant;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class ScheduleLink {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_link_seq")
+    @SequenceGenerator(name = "schedule_link_seq", sequenceName = "schedule_link_schedule_link_id_seq", allocationSize = 50)
     @Column(name = "schedule_link_id")
     private Long id;
 
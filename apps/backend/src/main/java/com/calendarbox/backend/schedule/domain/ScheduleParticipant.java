@@ -19,7 +19,8 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public class ScheduleParticipant {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_participant_seq")
+    @SequenceGenerator(name = "schedule_participant_seq", sequenceName = "schedule_participant_schedule_participant_id_seq", allocationSize = 50)
     @Column(name = "schedule_participant_id")
     private Long id;
 
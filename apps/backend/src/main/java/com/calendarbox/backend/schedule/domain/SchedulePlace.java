@@ -16,7 +16,8 @@ import java.time.Instant;
 @EntityListeners(AuditingEntityListener.class)
 public class SchedulePlace {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_place_seq")
+    @SequenceGenerator(name = "schedule_place_seq", sequenceName = "schedule_place_schedule_place_id_seq", allocationSize = 50)
     @Column(name = "schedule_place_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.calendarbox.backend.schedule.domain;
 
+import com.calendarbox.backend.schedule.enums.ExpansionStrategy;
 import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -51,6 +53,28 @@ public class ScheduleRecurrence {
     @Column
     private Instant until;
 
+    // 규칙이 바뀔 때마다 증가 (전개 플랜 캐시 키)
+    @Column(name = "rule_version", nullable = false)
+    private int ruleVersion = 0;
+
+    // 실제 occurrence 범위 (첫 시작 ~ 마지막 종료, 물리화 기준 타임존). 마지막이 NULL이면 끝없는 시리즈
+    @Column(name = "first_occurrence_at")
+    private Instant firstOccurrenceAt;
+
+    @Column(name = "last_occurrence_at")
+    private Instant lastOccurrenceAt;
+
+    // 규칙 기준 전개 비용 추정치 (RecurrenceCost). 규칙 생성/수정 때 채워지며 V15 이전 시리즈는 NULL
+    @Column(name = "occurrences_per_year")
+    private Float occurrencesPerYear;
+
+    @Column(name = "window_cost")
+    private Integer windowCost;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "expansion_strategy", nullable = false, length = 16)
+    private ExpansionStrategy expansionStrategy = ExpansionStrategy.MATERIALIZED;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -59,6 +83,11 @@ public class ScheduleRecurrence {
     @OrderBy("exceptionDate ASC, id ASC")
     private List<ScheduleRecurrenceException> exceptions = new ArrayList<>();
 
+    // 전개용 예외 날짜 (epoch day 오름차순). 조회 로더가 날짜만 따로 채우거나, 없으면 컬렉션에서 한 번 만듦
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private int[] exceptionEpochDays;
+
 
     private ScheduleRecurrence(RecurrenceFreq freq,
                                int intervalCount,
@@ -92,14 +121,46 @@ public class ScheduleRecurrence {
         this.byMonthday = byMonthday;
         this.byMonth = byMonth;
         this.until = until;
+        this.ruleVersion++;
+    }
+
+    public void updateOccurrenceBounds(Instant firstOccurrenceAt, Instant lastOccurrenceAt) {
+        this.firstOccurrenceAt = firstOccurrenceAt;
+        this.lastOccurrenceAt = lastOccurrenceAt;
+    }
+
+    public void applyCostEstimate(double occurrencesPerYear, int windowCost, ExpansionStrategy expansionStrategy) {
+        this.occurrencesPerYear = (float) occurrencesPerYear;
+        this.windowCost = windowCost;
+        this.expansionStrategy = expansionStrategy;
     }
 
     public void addException(ScheduleRecurrenceException e) {
         exceptions.add(e);
         e.setScheduleRecurrence(this);
+        this.exceptionEpochDays = null;
     }
     public void removeException(ScheduleRecurrenceException e) {
         exceptions.remove(e);
         e.setScheduleRecurrence(null);
+        this.exceptionEpochDays = null;
+    }
+
+    public int[] exceptionEpochDays() {
+        if (exceptionEpochDays == null) {
+            exceptionEpochDays = exceptions.stream()
+                    .map(ScheduleRecurrenceException::getExceptionDate)
+                    .filter(Objects::nonNull)
+                    .mapToInt(d -> (int) d.toEpochDay())
+                    .distinct()
+                    .sorted()
+                    .toArray();
+        }
+        return exceptionEpochDays;
+    }
+
+    /** 예외 엔티티를 올리지 않고 날짜만 읽어 온 경우 (RecurringSeriesLoader). 오름차순이어야 함 */
+    public void assignExceptionEpochDays(int[] sortedEpochDays) {
+        this.exceptionEpochDays = sortedEpochDays;
     }
 }
@@ -11,7 +11,8 @@ import lombok.Setter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ScheduleReminder {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_reminder_seq")
+    @SequenceGenerator(name = "schedule_reminder_seq", sequenceName = "schedule_reminder_schedule_reminder_id_seq", allocationSize = 50)
     @Column(name = "schedule_reminder_id")
     private Long id;
 
@@ -16,7 +16,8 @@ import java.time.Instant;
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 public class ScheduleTodo {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_todo_seq")
+    @SequenceGenerator(name = "schedule_todo_seq", sequenceName = "schedule_todo_schedule_todo_id_seq", allocationSize = 50)
     @Column(name = "schedule_todo_id")
     private Long id;
 
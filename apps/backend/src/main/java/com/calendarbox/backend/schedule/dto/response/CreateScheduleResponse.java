@@ -1,8 +1,11 @@
 package com.calendarbox.backend.schedule.dto.response;
 
+import com.calendarbox.backend.occurrence.dto.response.ScheduleConflictItem;
 import com.calendarbox.backend.schedule.enums.ScheduleTheme;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.Instant;
+import java.util.List;
 
 public record CreateScheduleResponse(
         Long calendarId,
@@ -20,6 +23,10 @@ public record CreateScheduleResponse(
         int reminderCount,
         int participantCount,
         int placeCount,
-        Boolean hasRecurrence
+        Boolean hasRecurrence,
+
+        // 겹치는 일정 (없으면 생략)
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<ScheduleConflictItem> conflicts
         ) {
 }
@@ -1,8 +1,11 @@
 package com.calendarbox.backend.schedule.dto.response;
 
+import com.calendarbox.backend.occurrence.dto.response.ScheduleConflictItem;
 import com.calendarbox.backend.schedule.enums.ScheduleTheme;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.Instant;
+import java.util.List;
 
 public record ScheduleDto(
         Long scheduleId,
@@ -15,6 +18,10 @@ public record ScheduleDto(
         Long createdBy,
         Long updatedBy,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+
+        // 겹치는 일정 (없으면 생략)
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<ScheduleConflictItem> conflicts
 ) {
 }
@@ -0,0 +1,8 @@
+package com.calendarbox.backend.schedule.enums;
+
+/** 반복 시리즈 전개 방식 (RecurrenceCostEstimator가 규칙 생성/수정 시 정함) */
+public enum ExpansionStrategy {
+    MATERIALIZED,   // 시드부터 horizon까지 schedule_occurrence에 물리화
+    INLINE,         // 물리화하지 않고 조회 때 컴파일된 규칙으로 바로 전개 (드문 시리즈)
+    STREAMING       // 최근 구간만 물리화, 그 이전 윈도우는 조회 때 순차 전개 (오래되고 촘촘한 시리즈)
+}
@@ -0,0 +1,94 @@
+package com.calendarbox.backend.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * schedule 행의 하위 항목 개수 컬럼 (V18) 갱신/검증.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleCounterRepository {
+
+    private static final String COUNTS = """
+            (SELECT count(*) FROM schedule_participant x WHERE x.schedule_id = s.schedule_id) AS participant_count,
+            (SELECT count(*) FROM schedule_recurrence x WHERE x.schedule_id = s.schedule_id) AS recurrence_count,
+            (SELECT count(*) FROM schedule_reminder x WHERE x.schedule_id = s.schedule_id) AS reminder_count,
+            (SELECT count(*) FROM schedule_link x WHERE x.schedule_id = s.schedule_id) AS link_count,
+            (SELECT count(*) FROM schedule_todo x WHERE x.schedule_id = s.schedule_id) AS todo_count,
+            (SELECT count(*) FROM schedule_place x WHERE x.schedule_id = s.schedule_id) AS place_count,
+            (SELECT count(*) FROM attachment x WHERE x.schedule_id = s.schedule_id AND x.is_img) AS img_count,
+            (SELECT count(*) FROM attachment x WHERE x.schedule_id = s.schedule_id AND NOT x.is_img) AS file_count
+            """;
+
+    private static final String SET_FROM_C = """
+               SET participant_count = c.participant_count,
+                   recurrence_count  = c.recurrence_count,
+                   reminder_count    = c.reminder_count,
+                   link_count        = c.link_count,
+                   todo_count        = c.todo_count,
+                   place_count       = c.place_count,
+                   img_count         = c.img_count,
+                   file_count        = c.file_count
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 일정 행을 먼저 잠근 뒤 다음 문장에서 다시 셈.
+     * READ COMMITTED에서는 문장마다 스냅샷을 새로 잡으므로, 같은 일정을 동시에 바꾸던 트랜잭션이
+     * 커밋한 하위 행까지 보고 계산하게 됨 (잠금 없이 계산하면 서로의 행을 못 보고 덮어씀)
+     */
+    public int refresh(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return 0;
+        var params = new MapSqlParameterSource("ids", scheduleIds);
+        namedJdbcTemplate.queryForList("""
+                SELECT schedule_id FROM schedule
+                 WHERE schedule_id IN (:ids)
+                 ORDER BY schedule_id
+                   FOR UPDATE
+                """, params, Long.class);
+        return namedJdbcTemplate.update("UPDATE schedule t" + SET_FROM_C + """
+                  FROM (SELECT s.schedule_id,
+                """ + COUNTS + """
+                          FROM schedule s
+                         WHERE s.schedule_id IN (:ids)) c
+                 WHERE t.schedule_id = c.schedule_id
+                """, params);
+    }
+
+    /** schedule_id > afterId 인 일정 limit개 범위의 id (재조정 배치 경계) */
+    public List<Long> findIdsAfter(long afterId, int limit) {
+        return namedJdbcTemplate.queryForList("""
+                SELECT schedule_id FROM schedule
+                 WHERE schedule_id > :afterId
+                 ORDER BY schedule_id
+                 LIMIT :limit
+                """, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /** [fromId, toId] 범위에서 실제 개수와 다른 행만 고침 → 고친 행 수 */
+    public int reconcileRange(long fromId, long toId) {
+        return namedJdbcTemplate.update("UPDATE schedule t" + SET_FROM_C + """
+                  FROM (SELECT s.schedule_id,
+                """ + COUNTS + """
+                          FROM schedule s
+                         WHERE s.schedule_id BETWEEN :fromId AND :toId) c
+                 WHERE t.schedule_id = c.schedule_id
+                   AND (t.participant_count, t.recurrence_count, t.reminder_count, t.link_count,
+                        t.todo_count, t.place_count, t.img_count, t.file_count)
+                       IS DISTINCT FROM
+                       (c.participant_count, c.recurrence_count, c.reminder_count, c.link_count,
+                        c.todo_count, c.place_count, c.img_count, c.file_count)
+                """, new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId));
+    }
+}
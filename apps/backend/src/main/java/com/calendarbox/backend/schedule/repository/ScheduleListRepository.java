@@ -0,0 +1,204 @@
+package com.calendarbox.backend.schedule.repository;
+
+import com.calendarbox.backend.calendar.enums.CalendarType;
+import com.calendarbox.backend.global.dto.Cursor;
+import com.calendarbox.backend.global.error.BusinessException;
+import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.schedule.dto.response.ScheduleListItem;
+import com.calendarbox.backend.schedule.enums.ScheduleTheme;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간 겹침 일정 목록 (GET /schedules?from&to), 키워드 검색, keyset 목록 (.../scroll).
+ * - time_range && 조건이 JPQL로 표현되지 않아 SQL로 직접 조회하고, 엔티티 대신 목록 항목으로 바로 매핑
+ * - 정렬은 엔티티 속성명(startAt 등)으로 받아 컬럼으로 바꿈 (keyset은 (start_at, schedule_id) 고정)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleListRepository {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "s.schedule_id",
+            "startAt", "s.start_at",
+            "endAt", "s.end_at",
+            "title", "s.title",
+            "createdAt", "s.created_at",
+            "updatedAt", "s.updated_at"
+    );
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final RowMapper<ScheduleListItem> listItemMapper = (rs, rowNum) -> new ScheduleListItem(
+            rs.getLong("calendar_id"),
+            CalendarType.valueOf(rs.getString("calendar_type")),
+            rs.getString("calendar_name"),
+            rs.getLong("schedule_id"),
+            rs.getString("title"),
+            rs.getObject("start_at", OffsetDateTime.class).toInstant(),
+            rs.getObject("end_at", OffsetDateTime.class).toInstant(),
+            ScheduleTheme.valueOf(rs.getString("theme"))
+    );
+
+    public Page<ScheduleListItem> findOverlapping(Collection<Long> calendarIds, Instant from, Instant to, Pageable pageable) {
+        var params = new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("fromUtc", from.atOffset(ZoneOffset.UTC))
+                .addValue("toUtc", to.atOffset(ZoneOffset.UTC))
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<ScheduleListItem> content = namedJdbcTemplate.query("""
+                SELECT s.calendar_id, c.type AS calendar_type, c.name AS calendar_name,
+                       s.schedule_id, s.title, s.start_at, s.end_at, s.theme
+                  FROM schedule s
+                  JOIN calendar c ON c.calendar_id = s.calendar_id
+                 WHERE s.calendar_id IN (:calIds)
+                   AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                """ + orderBy(pageable.getSort()) + """
+                 LIMIT :limit OFFSET :offset
+                """, params, listItemMapper);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> namedJdbcTemplate.queryForObject("""
+                SELECT count(*)
+                  FROM schedule s
+                 WHERE s.calendar_id IN (:calIds)
+                   AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')
+                """, params, Long.class));
+    }
+
+    /**
+     * (start_at, schedule_id) 순 keyset 조회 - count 없이 after 다음 행부터 limit개.
+     * from/to는 목록 조회와 같은 의미 (둘 다 있으면 겹침, 하나만 있으면 그 방향 열린 구간)
+     */
+    public List<ScheduleListItem> scroll(Collection<Long> calendarIds, Instant from, Instant to, Cursor after, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("limit", limit);
+        StringBuilder where = new StringBuilder(" WHERE s.calendar_id IN (:calIds)");
+        if (from != null && to != null) {
+            where.append(" AND s.time_range && tstzrange(:fromUtc, :toUtc, '[)')");
+        } else if (from != null) {
+            where.append(" AND s.end_at > :fromUtc");
+        } else if (to != null) {
+            where.append(" AND s.start_at < :toUtc");
+        }
+        if (from != null) params.addValue("fromUtc", from.atOffset(ZoneOffset.UTC));
+        if (to != null) params.addValue("toUtc", to.atOffset(ZoneOffset.UTC));
+        if (after != null) {
+            where.append(" AND (s.start_at, s.schedule_id) > (:afterAt, :afterId)");
+            params.addValue("afterAt", after.at().atOffset(ZoneOffset.UTC))
+                    .addValue("afterId", after.id());
+        }
+
+        return namedJdbcTemplate.query("""
+                SELECT s.calendar_id, c.type AS calendar_type, c.name AS calendar_name,
+                       s.schedule_id, s.title, s.start_at, s.end_at, s.theme
+                  FROM schedule s
+                  JOIN calendar c ON c.calendar_id = s.calendar_id
+                """ + where + """
+
+                 ORDER BY s.start_at, s.schedule_id
+                 LIMIT :limit
+                """, params, listItemMapper);
+    }
+
+    /**
+     * 키워드 검색 (schedule_search_doc만 조회 - V17).
+     * 부분 문자열(ILIKE, trigram 인덱스) 또는 단어(tsvector) 매칭, 단어 유사도 높은 순.
+     * 전체 개수는 count(*) OVER ()로 같은 쿼리에서 (빈 페이지일 때만 따로 셈)
+     */
+    public Page<ScheduleListItem> search(Collection<Long> calendarIds, String q, Pageable pageable) {
+        var params = searchParams(calendarIds, q)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        long[] total = {0};
+        List<ScheduleListItem> content = namedJdbcTemplate.query("""
+                SELECT s.calendar_id, c.type AS calendar_type, c.name AS calendar_name,
+                       s.schedule_id, s.title, s.start_at, s.end_at, s.theme,
+                       count(*) OVER () AS total
+                  FROM schedule_search_doc d
+                  JOIN schedule s ON s.schedule_id = d.schedule_id
+                  JOIN calendar c ON c.calendar_id = s.calendar_id
+                 WHERE d.calendar_id IN (:calIds)
+                   AND (d.doc ILIKE :pattern ESCAPE '\\' OR d.tsv @@ plainto_tsquery('simple', :q))
+                 ORDER BY word_similarity(:q, d.doc) DESC,
+                          ts_rank(d.tsv, plainto_tsquery('simple', :q)) DESC,
+                          s.start_at, s.schedule_id
+                 LIMIT :limit OFFSET :offset
+                """, params, (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return listItemMapper.mapRow(rs, rowNum);
+        });
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> content.isEmpty()
+                ? namedJdbcTemplate.queryForObject("""
+                        SELECT count(*)
+                          FROM schedule_search_doc d
+                         WHERE d.calendar_id IN (:calIds)
+                           AND (d.doc ILIKE :pattern ESCAPE '\\' OR d.tsv @@ plainto_tsquery('simple', :q))
+                        """, params, Long.class)
+                : total[0]);
+    }
+
+    /** 검색의 keyset 버전 - 커서가 (start_at, schedule_id)라 유사도 대신 시작 시각순 */
+    public List<ScheduleListItem> searchScroll(Collection<Long> calendarIds, String q, Cursor after, int limit) {
+        var params = searchParams(calendarIds, q).addValue("limit", limit);
+        String keyset = "";
+        if (after != null) {
+            keyset = " AND (s.start_at, s.schedule_id) > (:afterAt, :afterId)";
+            params.addValue("afterAt", after.at().atOffset(ZoneOffset.UTC))
+                    .addValue("afterId", after.id());
+        }
+
+        return namedJdbcTemplate.query("""
+                SELECT s.calendar_id, c.type AS calendar_type, c.name AS calendar_name,
+                       s.schedule_id, s.title, s.start_at, s.end_at, s.theme
+                  FROM schedule_search_doc d
+                  JOIN schedule s ON s.schedule_id = d.schedule_id
+                  JOIN calendar c ON c.calendar_id = s.calendar_id
+                 WHERE d.calendar_id IN (:calIds)
+                   AND (d.doc ILIKE :pattern ESCAPE '\\' OR d.tsv @@ plainto_tsquery('simple', :q))
+                """ + keyset + """
+
+                 ORDER BY s.start_at, s.schedule_id
+                 LIMIT :limit
+                """, params, listItemMapper);
+    }
+
+    private static MapSqlParameterSource searchParams(Collection<Long> calendarIds, String q) {
+        String escaped = q.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return new MapSqlParameterSource()
+                .addValue("calIds", calendarIds)
+                .addValue("q", q)
+                .addValue("pattern", "%" + escaped + "%");
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            String column = SORT_COLUMNS.get(o.getProperty());
+            if (column == null) throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+            orders.add(column + (o.isAscending() ? " ASC" : " DESC"));
+        }
+        // 같은 시각 일정이 페이지 사이에서 흔들리지 않게 항상 id로 마무리
+        orders.add("s.schedule_id ASC");
+        return " ORDER BY " + String.join(", ", orders) + "\n";
+    }
+}
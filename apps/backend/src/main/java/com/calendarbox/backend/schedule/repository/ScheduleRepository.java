@@ -1,9 +1,9 @@
 package com.calendarbox.backend.schedule.repository;
 
 import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.dto.response.ScheduleListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,34 +13,21 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    @Query(
-            value = """
-      SELECT s
-      FROM Schedule s
-      WHERE s.calendar.id IN :calendarIds
-        AND s.startAt < :to
-        AND s.endAt   > :from
-      """,
-            countQuery = """
-      SELECT count(s)
-      FROM Schedule s
-      WHERE s.calendar.id IN :calendarIds
-        AND s.startAt < :to
-        AND s.endAt   > :from
-      """
-    )
-    Page<Schedule> findAllOverlapping(@Param("calendarIds") Collection<Long> calendarIds,
-                                      @Param("from") Instant from,
-                                      @Param("to") Instant to,
-                                      Pageable pageable);
+    // 상세 조회 - 권한 검사에 필요한 캘린더(소유자 id)까지 한 번에, 요약 개수는 schedule 행의 컬럼 (V18)
+    @Query("select s from Schedule s join fetch s.calendar where s.id = :id")
+    Optional<Schedule> findDetailById(@Param("id") Long id);
 
+    // 목록은 엔티티 대신 ScheduleListItem으로 바로 (기간 겹침 목록/키워드 검색은 ScheduleListRepository)
     @Query(
             value = """
-      SELECT s
+      SELECT new com.calendarbox.backend.schedule.dto.response.ScheduleListItem(
+               c.id, c.type, c.name, s.id, s.title, s.startAt, s.endAt, s.theme)
       FROM Schedule s
-      WHERE s.calendar.id IN :calendarIds
+      JOIN s.calendar c
+      WHERE c.id IN :calendarIds
         AND s.endAt > :from
       """,
             countQuery = """
@@ -50,15 +37,17 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
         AND s.endAt > :from
       """
     )
-    Page<Schedule> findAllFrom(@Param("calendarIds") Collection<Long> calendarIds,
-                               @Param("from") Instant from,
-                               Pageable pageable);
+    Page<ScheduleListItem> findAllFrom(@Param("calendarIds") Collection<Long> calendarIds,
+                                       @Param("from") Instant from,
+                                       Pageable pageable);
 
     @Query(
             value = """
-      SELECT s
+      SELECT new com.calendarbox.backend.schedule.dto.response.ScheduleListItem(
+               c.id, c.type, c.name, s.id, s.title, s.startAt, s.endAt, s.theme)
       FROM Schedule s
-      WHERE s.calendar.id IN :calendarIds
+      JOIN s.calendar c
+      WHERE c.id IN :calendarIds
         AND s.startAt < :to
       """,
             countQuery = """
@@ -68,72 +57,54 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
         AND s.startAt < :to
       """
     )
-    Page<Schedule> findAllUntil(@Param("calendarIds") Collection<Long> calendarIds,
-                                @Param("to") Instant to,
-                                Pageable pageable);
-
-    @EntityGraph(attributePaths = "calendar")
-    @Query(
-            value = """
-    select s
-    from Schedule s
-    where s.calendar.id in :calendarIds
-      and (
-        lower(s.title) like lower(concat('%', :q, '%'))
-        or lower(s.memo)  like lower(concat('%', :q, '%'))
-        or exists (select 1 from ScheduleParticipant p where p.schedule = s and lower(p.name) like lower(concat('%', :q, '%')))
-        or exists (select 1 from ScheduleTodo t        where t.schedule = s and lower(t.content) like lower(concat('%', :q, '%')))
-        or exists (select 1 from SchedulePlace sp      where sp.schedule = s and lower(sp.name) like lower(concat('%', :q, '%')))
-        or exists (select 1 from ScheduleLink l        where l.schedule = s and lower(l.label) like lower(concat('%', :q, '%')))
-        or exists (select 1 from Attachment a          where a.schedule = s and lower(a.originalName) like lower(concat('%', :q, '%')))
-      )
-  """,
-            countQuery = """
-    select count(s)
-    from Schedule s
-    where s.calendar.id in :calendarIds
-      and (
-        lower(s.title) like lower(concat('%', :q, '%'))
-        or lower(s.memo)  like lower(concat('%', :q, '%'))
-        or exists (select 1 from ScheduleParticipant p where p.schedule = s and lower(p.name) like lower(concat('%', :q, '%')))
-        or exists (select 1 from ScheduleTodo t        where t.schedule = s and lower(t.content) like lower(concat('%', :q, '%')))
-        or exists (select 1 from SchedulePlace sp      where sp.schedule = s and lower(sp.name) like lower(concat('%', :q, '%')))
-        or exists (select 1 from ScheduleLink l        where l.schedule = s and lower(l.label) like lower(concat('%', :q, '%')))
-        or exists (select 1 from Attachment a          where a.schedule = s and lower(a.originalName) like lower(concat('%', :q, '%')))
-      )
-  """
-    )
-    Page<Schedule> searchByKeyword(@Param("calendarIds") Collection<Long> calendarIds,
-                                         @Param("q") String q,
-                                         Pageable pageable);
+    Page<ScheduleListItem> findAllUntil(@Param("calendarIds") Collection<Long> calendarIds,
+                                        @Param("to") Instant to,
+                                        Pageable pageable);
 
-    // (A) 단발 일정(기간 겹침)
+    // 반복 일정(실제 occurrence 범위가 윈도우와 겹치는 것만). 예외는 RecurringSeriesLoader가 윈도우 안만 따로 로드
+    // 범위가 아직 계산되지 않은 시리즈(first_occurrence_at NULL)는 until 기준으로 포함
     @Query("""
         select s
         from Schedule s
-        where s.recurrence is null
-          and s.calendar.id in :calIds
-          and s.startAt < :toUtc
-          and s.endAt   > :fromUtc
+        join fetch s.recurrence r
+        where s.calendar.id in :calIds
+          and (r.firstOccurrenceAt is null or r.firstOccurrenceAt < :toUtc)
+          and (r.lastOccurrenceAt > :fromUtc
+               or (r.lastOccurrenceAt is null and (r.until is null or r.until >= :fromUtc)))
     """)
-    List<Schedule> findNoRecurByCalendarIds(
+    List<Schedule> findRecurringOverlappingByCalendarIds(
             @Param("calIds") List<Long> calIds,
             @Param("fromUtc") Instant fromUtc,
             @Param("toUtc")   Instant toUtc
     );
 
     @Query("""
-        select distinct s
+        select s
         from Schedule s
         join fetch s.recurrence r
-        left join fetch r.exceptions e
-        where s.calendar.id in :calIds
-          and s.recurrence is not null
-          and (r.until is null or r.until >= :fromUtc)
+        where (r.firstOccurrenceAt is null or r.firstOccurrenceAt < :toUtc)
+          and (r.lastOccurrenceAt > :fromUtc
+               or (r.lastOccurrenceAt is null and (r.until is null or r.until >= :fromUtc)))
+          and exists (select 1 from ScheduleParticipant sp
+                       where sp.schedule = s
+                         and sp.member.id = :memberId
+                         and sp.status = com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus.ACCEPTED)
     """)
-    List<Schedule> findRecurringWithExceptionsByCalendarIds(
-            @Param("calIds") List<Long> calIds,
-            @Param("fromUtc") Instant fromUtc
+    List<Schedule> findRecurringOverlappingByAcceptedParticipant(
+            @Param("memberId") Long memberId,
+            @Param("fromUtc") Instant fromUtc,
+            @Param("toUtc")   Instant toUtc
+    );
+
+    // occurrence 물리화가 따라오지 못한 시리즈만 골라서 로드 (예외 날짜는 RecurringSeriesLoader가 따로)
+    @Query("""
+        select s
+        from Schedule s
+        join fetch s.recurrence r
+        where s.id in :scheduleIds
+    """)
+    List<Schedule> findRecurringByIds(
+            @Param("scheduleIds") Collection<Long> scheduleIds
     );
 
     @Modifying
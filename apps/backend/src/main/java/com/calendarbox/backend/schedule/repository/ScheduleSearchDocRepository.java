@@ -0,0 +1,41 @@
+package com.calendarbox.backend.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 검색 문서(schedule_search_doc) 갱신 (V17).
+ * 일정과 하위 항목(참가자/할일/장소/링크/첨부)의 현재 값으로 문서를 다시 만들어 upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSearchDocRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /** 없어진 일정은 자연히 빠짐 (문서는 FK CASCADE로 이미 삭제) */
+    public int refresh(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) return 0;
+        return namedJdbcTemplate.update("""
+                INSERT INTO schedule_search_doc (schedule_id, calendar_id, doc, updated_at)
+                SELECT s.schedule_id, s.calendar_id,
+                       concat_ws(E'\\n', s.title, s.memo,
+                           (SELECT string_agg(p.name, E'\\n') FROM schedule_participant p WHERE p.schedule_id = s.schedule_id),
+                           (SELECT string_agg(t.content, E'\\n') FROM schedule_todo t WHERE t.schedule_id = s.schedule_id),
+                           (SELECT string_agg(sp.name, E'\\n') FROM schedule_place sp WHERE sp.schedule_id = s.schedule_id),
+                           (SELECT string_agg(l.label, E'\\n') FROM schedule_link l WHERE l.schedule_id = s.schedule_id),
+                           (SELECT string_agg(a.original_name, E'\\n') FROM attachment a WHERE a.schedule_id = s.schedule_id)),
+                       now()
+                  FROM schedule s
+                 WHERE s.schedule_id IN (:ids)
+                ON CONFLICT (schedule_id) DO UPDATE
+                   SET calendar_id = EXCLUDED.calendar_id,
+                       doc = EXCLUDED.doc,
+                       updated_at = EXCLUDED.updated_at
+                """, new MapSqlParameterSource("ids", scheduleIds));
+    }
+}
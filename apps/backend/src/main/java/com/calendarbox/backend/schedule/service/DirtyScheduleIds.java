@@ -0,0 +1,48 @@
+package com.calendarbox.backend.schedule.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 동안 바뀐 일정 id를 모았다가 커밋 직전에 한 번에 넘김 (ScheduleSearchDocService, ScheduleCounterService).
+ * - 트랜잭션마다 Set 하나를 리소스로 바인딩, 완료되면 해제
+ * - 트랜잭션 밖에서 호출되면 바로 그 id 하나로 실행
+ */
+final class DirtyScheduleIds {
+
+    private final Object key;
+    private final Consumer<Set<Long>> beforeCommit;
+
+    DirtyScheduleIds(Class<?> owner, Consumer<Set<Long>> beforeCommit) {
+        this.key = owner.getName() + ".dirty";
+        this.beforeCommit = beforeCommit;
+    }
+
+    void add(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            beforeCommit.accept(Set.of(scheduleId));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> dirty = (Set<Long>) TransactionSynchronizationManager.getResource(key);
+        if (dirty == null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(key, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void beforeCommit(boolean readOnly) {
+                    DirtyScheduleIds.this.beforeCommit.accept(ids);
+                }
+
+                @Override public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+            dirty = ids;
+        }
+        dirty.add(scheduleId);
+    }
+}
@@ -1,16 +1,18 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
+import com.calendarbox.backend.occurrence.service.OccurrenceIndexService;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrenceException;
 import com.calendarbox.backend.schedule.dto.request.RecurrenceExceptionRequest;
 import com.calendarbox.backend.schedule.dto.response.RecurrenceExceptionResponse;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRecurrenceExceptionRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRecurrenceRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,15 +24,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RecurrenceExceptionService {
     private final ScheduleRecurrenceExceptionRepository scheduleRecurrenceExceptionRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRecurrenceRepository scheduleRecurrenceRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final OccurrenceIndexService occurrenceIndexService;
+    private final ScheduleChangeService scheduleChangeService;
+    private final OccurrenceMonthCache occurrenceMonthCache;
+    private final FreeBusyCache freeBusyCache;
+
     public RecurrenceExceptionResponse add(Long userId, Long recurrenceId, RecurrenceExceptionRequest req) {
         var recurrence = scheduleRecurrenceRepository.findById(recurrenceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECURRENCE_NOT_FOUND));
 
         Schedule s = recurrence.getSchedule();
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         if (scheduleRecurrenceExceptionRepository.existsByScheduleRecurrence_IdAndExceptionDate(recurrence.getId(), req.exceptionDate()))
             throw new BusinessException(ErrorCode.RECURRENCE_EXDATE_DUP);
@@ -39,6 +46,10 @@ public class RecurrenceExceptionService {
         recurrence.addException(ex);
 
         scheduleRecurrenceRepository.save(recurrence);
+        occurrenceIndexService.excludeDate(s, ex.getExceptionDate());
+        scheduleChangeService.changed(s);
+        occurrenceMonthCache.evictDayAfterCommit(s, ex.getExceptionDate(), OccurrenceIndexService.INDEX_ZONE);
+        freeBusyCache.evictDayAfterCommit(s, ex.getExceptionDate(), OccurrenceIndexService.INDEX_ZONE);
 
         return new RecurrenceExceptionResponse(ex.getId(), ex.getExceptionDate());
     }
@@ -49,9 +60,13 @@ public class RecurrenceExceptionService {
         var r = e.getScheduleRecurrence();
         var s = r.getSchedule();
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         r.removeException(e);
+        occurrenceIndexService.restoreDate(s, e.getExceptionDate());
+        scheduleChangeService.changed(s);
+        occurrenceMonthCache.evictDayAfterCommit(s, e.getExceptionDate(), OccurrenceIndexService.INDEX_ZONE);
+        freeBusyCache.evictDayAfterCommit(s, e.getExceptionDate(), OccurrenceIndexService.INDEX_ZONE);
     }
 }
 
@@ -0,0 +1,33 @@
+package com.calendarbox.backend.schedule.service;
+
+import com.calendarbox.backend.schedule.repository.ScheduleCounterRepository;
+import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * 일정 상세 요약 개수 컬럼 갱신 (V18).
+ * - 참가자/반복/알림/링크/할일/장소/첨부를 추가·삭제하는 서비스에서 같은 트랜잭션 안에서 호출
+ * - ScheduleSearchDocService와 같이 바뀐 일정 id만 모았다가 커밋 직전에 flush 후 한 번에 다시 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleCounterService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleCounterRepository scheduleCounterRepository;
+
+    private final DirtyScheduleIds dirty = new DirtyScheduleIds(ScheduleCounterService.class, this::refresh);
+
+    public void changed(Long scheduleId) {
+        dirty.add(scheduleId);
+    }
+
+    // 커밋 직전: JPA 변경을 먼저 flush해야 SQL이 새 값을 봄
+    private void refresh(Set<Long> scheduleIds) {
+        scheduleRepository.flush();
+        scheduleCounterRepository.refresh(scheduleIds);
+    }
+}
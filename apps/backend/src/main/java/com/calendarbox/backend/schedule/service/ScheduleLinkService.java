@@ -3,9 +3,8 @@ package com.calendarbox.backend.schedule.service;
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
@@ -14,9 +13,7 @@ import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleLink;
 import com.calendarbox.backend.schedule.dto.request.CreateScheduleLinkRequest;
 import com.calendarbox.backend.schedule.dto.response.ScheduleLinkDto;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
 import com.calendarbox.backend.schedule.repository.ScheduleLinkRepository;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -31,17 +28,18 @@ import java.util.Map;
 @Transactional
 public class ScheduleLinkService {
     private final MemberRepository memberRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleLinkRepository scheduleLinkRepository;
     private final ScheduleRepository scheduleRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
 
     public ScheduleLinkDto add(Long userId, Long scheduleId, CreateScheduleLinkRequest request) {
         Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         if(!schedule.getCreatedBy().getId().equals(userId)
-        && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if(scheduleLinkRepository.existsBySchedule_IdAndUrl(schedule.getId(),request.url())) throw new BusinessException(ErrorCode.SCHEDULE_LINK_ALREADY_EXISTS);
@@ -52,6 +50,8 @@ public class ScheduleLinkService {
         schedule.addLink(link);
 
         scheduleRepository.flush();
+        scheduleSearchDocService.changed(schedule.getId());
+        scheduleCounterService.changed(schedule.getId());
 
         return new ScheduleLinkDto(
                 link.getId(),
@@ -67,10 +67,12 @@ public class ScheduleLinkService {
         Schedule schedule = link.getSchedule();
 
         if(!schedule.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         schedule.removeLink(link);
+        scheduleSearchDocService.changed(schedule.getId());
+        scheduleCounterService.changed(schedule.getId());
 
     }
 }
@@ -2,8 +2,7 @@ package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.dto.response.InvitedCalendarMemberItem;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.dto.PageResponse;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
@@ -29,7 +28,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ScheduleParticipantQueryService {
     private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final MemberRepository memberRepository;
     private final ScheduleRepository scheduleRepository;
 
@@ -39,7 +38,7 @@ public class ScheduleParticipantQueryService {
         Member viewer = memberRepository.findById(userId).orElseThrow(()->new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(()->new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(), viewer.getId(), CalendarMemberStatus.ACCEPTED) &&
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), viewer.getId()) &&
                 !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatusIn(schedule.getId(), viewer.getId(), List.of(ScheduleParticipantStatus.ACCEPTED, ScheduleParticipantStatus.INVITED)))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
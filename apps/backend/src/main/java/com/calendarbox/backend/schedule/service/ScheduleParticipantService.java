@@ -7,6 +7,7 @@ import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
 import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
 import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
@@ -14,6 +15,8 @@ import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.notification.domain.Notification;
 import com.calendarbox.backend.notification.enums.NotificationType;
 import com.calendarbox.backend.notification.repository.NotificationRepository;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleParticipant;
 import com.calendarbox.backend.schedule.dto.request.AddParticipantRequest;
@@ -52,6 +55,11 @@ public class ScheduleParticipantService {
     private final DefaultScheduleEmbeddingService scheduleEmbeddingService;
     private final ScheduleEmbeddingRepository scheduleEmbeddingRepository;
     private final EmbeddingEnqueueService embeddingEnqueueService;
+    private final ScheduleChangeService scheduleChangeService;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
+    private final AccessDecisionCache accessDecisionCache;
+    private final FreeBusyCache freeBusyCache;
 
     public AddParticipantResponse add(Long userId, Long scheduleId, AddParticipantRequest request) {
 
@@ -99,6 +107,14 @@ public class ScheduleParticipantService {
         Map<String, Object> removedParticipant = new HashMap<>();
         removedParticipant.put("removedParticipantName", sp.getName());
 
+        scheduleChangeService.changed(s);
+        scheduleSearchDocService.changed(s.getId());
+        scheduleCounterService.changed(s.getId());
+        if (sp.getMember() != null) {
+            accessDecisionCache.scheduleParticipantChanged(s.getId(), sp.getMember().getId());
+            freeBusyCache.evictMemberAfterCommit(sp.getMember().getId(), s);
+        }
+
         embeddingEnqueueService.enqueueAfterCommit(s.getId());
 
     }
@@ -112,10 +128,13 @@ public class ScheduleParticipantService {
         switch(request.action()){
             case ACCEPT -> {
                 sp.accept();
+                accessDecisionCache.scheduleParticipantChanged(s.getId(), userId);
+                freeBusyCache.evictMemberAfterCommit(userId, s);
                 embeddingEnqueueService.enqueueAfterCommit(s.getId());
             }
             case REJECT -> sp.decline();
         }
+        scheduleChangeService.changed(s);
         return toResponse(sp);
     }
     private AddParticipantResponse addServiceUser(Long userId, Long scheduleId, Long memberId) {
@@ -129,6 +148,9 @@ public class ScheduleParticipantService {
         s.addParticipant(sp);
         scheduleParticipantRepository.save(sp);
         scheduleParticipantRepository.flush();
+        scheduleChangeService.changed(s);
+        scheduleSearchDocService.changed(s.getId());
+        scheduleCounterService.changed(s.getId());
 
         Notification notification = Notification.builder()
                 .member(addressee)
@@ -159,6 +181,9 @@ public class ScheduleParticipantService {
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         ScheduleParticipant sp = ScheduleParticipant.ofName(s,name, user);
         s.addParticipant(sp);
+        scheduleChangeService.changed(s);
+        scheduleSearchDocService.changed(s.getId());
+        scheduleCounterService.changed(s.getId());
 
         embeddingEnqueueService.enqueueAfterCommit(s.getId());
 
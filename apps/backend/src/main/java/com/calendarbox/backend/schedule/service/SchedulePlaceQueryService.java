@@ -1,8 +1,7 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
@@ -28,7 +27,7 @@ import java.util.List;
 public class SchedulePlaceQueryService {
 
     private final SchedulePlaceRepository schedulePlaceRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleParticipantRepository scheduleParticipantRepository;
     private final MemberRepository memberRepository;
     private final ScheduleRepository scheduleRepository;
@@ -38,7 +37,7 @@ public class SchedulePlaceQueryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_PLACE_NOT_FOUND));
         Schedule schedule = sp.getSchedule();
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
                 && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatusIn(scheduleId,userId, List.of(ScheduleParticipantStatus.ACCEPTED,ScheduleParticipantStatus.INVITED)))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
@@ -49,8 +48,8 @@ public class SchedulePlaceQueryService {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
                 && !schedule.getCreatedBy().getId().equals(userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
@@ -3,13 +3,13 @@ package com.calendarbox.backend.schedule.service;
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
 import com.calendarbox.backend.place.domain.Place;
 import com.calendarbox.backend.place.repository.PlaceRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
@@ -18,8 +18,6 @@ import com.calendarbox.backend.schedule.dto.request.AddSchedulePlaceRequest;
 import com.calendarbox.backend.schedule.dto.request.PlaceReorderRequest;
 import com.calendarbox.backend.schedule.dto.request.SchedulePlaceEditRequest;
 import com.calendarbox.backend.schedule.dto.response.SchedulePlaceDto;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.SchedulePlaceRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
@@ -37,25 +35,31 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SchedulePlaceService {
     private final SchedulePlaceRepository schedulePlaceRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final PlaceRepository placeRepository;
     private final ScheduleRepository scheduleRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
     private final MemberRepository memberRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final ScheduleChangeService scheduleChangeService;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
 
     public SchedulePlaceDto addPlace(Long userId, Long scheduleId, AddSchedulePlaceRequest req){
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(()->new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(), userId, CalendarMemberStatus.ACCEPTED) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         int nextPos = schedulePlaceRepository.findMaxPositionByScheduleId(scheduleId)+1;
-        return switch(req.mode()){
+        SchedulePlaceDto dto = switch(req.mode()){
             case MANUAL -> handleManual(userId,scheduleId,req,nextPos);
             case EXISTING -> handleExisting(userId,scheduleId,req,nextPos);
             case PROVIDER -> handleProvider(userId,scheduleId,req,nextPos);
         };
+        scheduleChangeService.changed(schedule);
+        scheduleSearchDocService.changed(scheduleId);
+        scheduleCounterService.changed(scheduleId);
+        return dto;
     }
 
     public void delete(Long userId, Long scheduleId, Long schedulePlaceId){
@@ -64,10 +68,13 @@ public class SchedulePlaceService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_PLACE_NOT_FOUND));
         Schedule s = sp.getSchedule();
         Calendar c = s.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(), userId, CalendarMemberStatus.ACCEPTED) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId,ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(c.getId(), userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         s.removePlace(sp);
+        scheduleChangeService.changed(s);
+        scheduleSearchDocService.changed(s.getId());
+        scheduleCounterService.changed(s.getId());
     }
 
     public SchedulePlaceDto edit(Long userId, Long scheduleId, Long schedulePlaceId, SchedulePlaceEditRequest req){
@@ -78,10 +85,12 @@ public class SchedulePlaceService {
         SchedulePlace sp = schedulePlaceRepository.findById(schedulePlaceId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_PLACE_NOT_FOUND));
         Schedule s = sp.getSchedule();
         Calendar c = s.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),userId, CalendarMemberStatus.ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(c.getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         sp.changeName(newName);
+        scheduleChangeService.changed(s);
+        scheduleSearchDocService.changed(s.getId());
 
 
         return toDto(sp,sp.getPlace());
@@ -90,7 +99,7 @@ public class SchedulePlaceService {
     public List<SchedulePlaceDto> reorder(Long userId, Long scheduleId, PlaceReorderRequest req){
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(()->new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar calendar = schedule.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(), userId, CalendarMemberStatus.ACCEPTED) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if(req.positions() == null || req.positions().isEmpty()) {
@@ -112,6 +121,7 @@ public class SchedulePlaceService {
 
             if(newPos != null && sp.getPosition() != newPos) sp.changePosition(newPos);
         }
+        scheduleChangeService.changed(schedule);
 
         List<SchedulePlaceDto> list = new ArrayList<>();
         for(var sp:schedulePlaceRepository.findAllByScheduleIdOrderByPositionAsc(scheduleId)){
@@ -1,14 +1,13 @@
 package com.calendarbox.backend.schedule.service;
 
-import com.calendarbox.backend.attachment.repository.AttachmentRepository;
+import com.calendarbox.backend.auth.support.PrincipalResolver;
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
 import com.calendarbox.backend.calendar.repository.CalendarRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
+import com.calendarbox.backend.global.dto.Cursor;
+import com.calendarbox.backend.global.dto.CursorResponse;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
-import com.calendarbox.backend.member.domain.Member;
-import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.dto.response.ScheduleDetailDto;
 import com.calendarbox.backend.schedule.dto.response.ScheduleDetailSummary;
@@ -25,7 +24,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -33,32 +31,27 @@ import java.util.List;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ScheduleQueryService {
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final ScheduleLinkRepository scheduleLinkRepository;
-    private final SchedulePlaceRepository schedulePlaceRepository;
-    private final ScheduleRecurrenceRepository scheduleRecurrenceRepository;
-    private final ScheduleReminderRepository scheduleReminderRepository;
-    private final ScheduleTodoRepository scheduleTodoRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
-    private final MemberRepository memberRepository;
-    private final AttachmentRepository attachmentRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
+    private final PrincipalResolver principalResolver;
     private final CalendarRepository calendarRepository;
+    private final ScheduleListRepository scheduleListRepository;
+
     public ScheduleDetailDto getDetail(Long userId, Long scheduleId) {
-        Member user = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        principalResolver.requireActive(userId);
+        Schedule s = scheduleRepository.findDetailById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         Calendar c = s.getCalendar();
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),user.getId(), CalendarMemberStatus.ACCEPTED) && !c.getOwner().getId().equals(user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(c.getId(), userId) && !c.getOwner().getId().equals(userId)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
-        Long cntParticipants = scheduleParticipantRepository.countBySchedule_Id(s.getId());
-        Long cntRecurrences = scheduleRecurrenceRepository.countBySchedule_Id(s.getId());
-        Long cntReminders = scheduleReminderRepository.countBySchedule_Id(s.getId());
-        Long cntLinks = scheduleLinkRepository.countBySchedule_Id(s.getId());
-        Long cntTodos = scheduleTodoRepository.countBySchedule_Id(s.getId());
-        Long cntPlaces = schedulePlaceRepository.countBySchedule_Id(s.getId());
-        Long cntImgs = attachmentRepository.countBySchedule_IdAndIsImg(s.getId(), true);
-        Long cntFiles = attachmentRepository.countBySchedule_IdAndIsImg(s.getId(), false);
+        long cntParticipants = s.getParticipantCount();
+        long cntRecurrences = s.getRecurrenceCount();
+        long cntReminders = s.getReminderCount();
+        long cntLinks = s.getLinkCount();
+        long cntTodos = s.getTodoCount();
+        long cntPlaces = s.getPlaceCount();
+        long cntImgs = s.getImgCount();
+        long cntFiles = s.getFileCount();
 
         return ScheduleDetailDto.of(s, ScheduleDetailSummary.of(
                 cntParticipants > 0, cntParticipants,
@@ -73,19 +66,9 @@ public class ScheduleQueryService {
     }
 
     public Page<ScheduleListItem> getList(Long userId, Long calendarId, Instant from, Instant to, Pageable pageable){
-        Member viewer = memberRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-
-        List<Long> effectiveIds = new ArrayList<>();
-        if(calendarId != null) effectiveIds.add(calendarId);
-
-        if (effectiveIds.isEmpty()) {
-            effectiveIds = calendarMemberRepository.findCalendarIdsByMemberIdAndStatuses(viewer.getId(), List.of(CalendarMemberStatus.ACCEPTED));
-            if (effectiveIds.isEmpty()) {
-                return Page.empty(pageable);
-            }
-        }
-        Page<Schedule> page;
+        List<Long> effectiveIds = resolveListCalendarIds(userId, calendarId);
+        if (effectiveIds.isEmpty()) return Page.empty(pageable);
+        Page<ScheduleListItem> page;
 
         boolean hasFrom = (from != null);
         boolean hasTo   = (to   != null);
@@ -96,47 +79,56 @@ public class ScheduleQueryService {
             page = scheduleRepository.findAllUntil(effectiveIds, to, pageable);
         } else if (hasFrom && hasTo) {
             if (!from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
-            page = scheduleRepository.findAllOverlapping(effectiveIds, from, to,pageable);
+            page = scheduleListRepository.findOverlapping(effectiveIds, from, to, pageable);
         } else {
             throw new BusinessException(ErrorCode.VALIDATION_ERROR);
         }
 
-        return page.map(s -> new ScheduleListItem(
-                s.getCalendar().getId(),
-                s.getCalendar().getType(),
-                s.getCalendar().getName(),
-                s.getId(),
-                s.getTitle(),
-                s.getStartAt(),
-                s.getEndAt(),
-                s.getTheme()
-        ));
+        return page;
     }
 
     public Page<ScheduleListItem> search(Long userId, Long calendarId, String query, Pageable pageable){
-        Member viewer = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        List<Long> effectiveIds = resolveListCalendarIds(userId, calendarId);
+        if (effectiveIds.isEmpty()) return Page.empty(pageable);
+        return scheduleListRepository.search(effectiveIds, query, pageable);
+    }
+
+    /** getList의 keyset 버전 - (startAt, id) 순 고정, count 없음 */
+    public CursorResponse<ScheduleListItem> scroll(Long userId, Long calendarId, Instant from, Instant to,
+                                                   String cursor, int size) {
+        if (from == null && to == null) throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        if (from != null && to != null && !from.isBefore(to)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
+        Cursor after = Cursor.decode(cursor);
+
+        List<Long> effectiveIds = resolveListCalendarIds(userId, calendarId);
+        if (effectiveIds.isEmpty()) return CursorResponse.of(List.of(), size, this::cursorOf);
 
-        List<Long> effectiveIds = new ArrayList<>();
-        if(calendarId != null) effectiveIds.add(calendarId);
+        return CursorResponse.of(scheduleListRepository.scroll(effectiveIds, from, to, after, size + 1), size, this::cursorOf);
+    }
+
+    /** search의 keyset 버전 */
+    public CursorResponse<ScheduleListItem> searchScroll(Long userId, Long calendarId, String query,
+                                                         String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+
+        List<Long> effectiveIds = resolveListCalendarIds(userId, calendarId);
+        if (effectiveIds.isEmpty()) return CursorResponse.of(List.of(), size, this::cursorOf);
+
+        return CursorResponse.of(scheduleListRepository.searchScroll(effectiveIds, query, after, size + 1), size, this::cursorOf);
+    }
+
+    private Cursor cursorOf(ScheduleListItem it) {
+        return new Cursor(it.startAt(), it.scheduleId());
+    }
 
-        if (effectiveIds.isEmpty()) {
-            effectiveIds = calendarMemberRepository.findCalendarIdsByMemberIdAndStatuses(viewer.getId(), List.of(CalendarMemberStatus.ACCEPTED));
-            if (effectiveIds.isEmpty()) {
-                return Page.empty(pageable);
-            }
+    /** 목록/검색 대상 캘린더 (지정하면 ACCEPTED 멤버만, 지정 없으면 내가 ACCEPTED로 속한 캘린더 전부) */
+    private List<Long> resolveListCalendarIds(Long userId, Long calendarId) {
+        principalResolver.requireActive(userId);
+        if (calendarId != null) {
+            if (!accessDecisionCache.isCalendarMember(calendarId, userId)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+            return List.of(calendarId);
         }
-        Page<Schedule> page =  scheduleRepository.searchByKeyword(effectiveIds, query, pageable);
-
-        return page.map(s -> new ScheduleListItem(
-                s.getCalendar().getId(),
-                s.getCalendar().getType(),
-                s.getCalendar().getName(),
-                s.getId(),
-                s.getTitle(),
-                s.getStartAt(),
-                s.getEndAt(),
-                s.getTheme()
-        ));
+        return accessDecisionCache.acceptedCalendarIds(userId);
     }
 
     private Pageable fixSort(Pageable p) {
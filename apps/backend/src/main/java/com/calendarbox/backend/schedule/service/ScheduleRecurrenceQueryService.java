@@ -1,15 +1,12 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
 import com.calendarbox.backend.schedule.dto.response.RecurrenceResponse;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRecurrenceRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,16 +23,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ScheduleRecurrenceQueryService {
     private final ScheduleRecurrenceRepository scheduleRecurrenceRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
 
     public List<RecurrenceResponse> list(Long userId, Long scheduleId) {
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar c = s.getCalendar();
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),userId, CalendarMemberStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
+                && !accessDecisionCache.isCalendarMember(c.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         return scheduleRecurrenceRepository.findBySchedule_Id(scheduleId).stream()
@@ -48,8 +44,8 @@ public class ScheduleRecurrenceQueryService {
         Schedule s = r.getSchedule();
         Calendar c = s.getCalendar();
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),userId, CalendarMemberStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
+                && !accessDecisionCache.isCalendarMember(c.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if (!r.getSchedule().getId().equals(scheduleId))
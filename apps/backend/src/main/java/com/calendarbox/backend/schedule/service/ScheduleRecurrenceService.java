@@ -1,20 +1,21 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.member.domain.Member;
 import com.calendarbox.backend.member.repository.MemberRepository;
+import com.calendarbox.backend.occurrence.service.OccurrenceIndexService;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
 import com.calendarbox.backend.schedule.domain.ScheduleRecurrenceException;
 import com.calendarbox.backend.schedule.dto.request.RecurrenceUpsertRequest;
 import com.calendarbox.backend.schedule.dto.response.RecurrenceResponse;
 import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRecurrenceRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
@@ -31,15 +32,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScheduleRecurrenceService {
     private final ScheduleRecurrenceRepository scheduleRecurrenceRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
     private final MemberRepository memberRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final OccurrenceIndexService occurrenceIndexService;
+    private final ScheduleChangeService scheduleChangeService;
+    private final OccurrenceMonthCache occurrenceMonthCache;
+    private final FreeBusyCache freeBusyCache;
+    private final ScheduleCounterService scheduleCounterService;
+
     public RecurrenceResponse create(Long userId, Long scheduleId, RecurrenceUpsertRequest req) {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if(!schedule.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if(scheduleRecurrenceRepository.existsBySchedule_Id(schedule.getId())) throw new BusinessException(ErrorCode.RECURRENCE_ALREADY_EXISTS);
@@ -77,8 +83,15 @@ public class ScheduleRecurrenceService {
                 recur.addException(ScheduleRecurrenceException.of(exDate));
             }
         }
+        var before = OccurrenceMonthCache.spanOf(schedule);
         schedule.makeRecurrence(recur);
+        occurrenceIndexService.applyCostEstimate(schedule);
         scheduleRepository.flush();
+        occurrenceIndexService.rebuild(schedule);
+        scheduleChangeService.changed(schedule);
+        scheduleCounterService.changed(schedule.getId());
+        occurrenceMonthCache.evictAfterCommit(schedule, before);
+        freeBusyCache.evictAfterCommit(schedule, before);
         return toResponse(recur);
     }
 
@@ -90,7 +103,7 @@ public class ScheduleRecurrenceService {
             throw new BusinessException(ErrorCode.SCHEDULE_RECUR_EXDATE_MISMATCH);
 
         if(!schedule.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if (!req.until().isAfter(schedule.getEndAt()))
@@ -110,7 +123,13 @@ public class ScheduleRecurrenceService {
         var byMonthdayArr = (req.byMonthday()==null? null: req.byMonthday().stream().distinct().sorted().toArray(Integer[]::new));
         var byMonthArr = (req.byMonth()==null? null: req.byMonth().stream().distinct().sorted().toArray(Integer[]::new));
 
+        var before = OccurrenceMonthCache.spanOf(schedule);
         r.changeRule(req.freq(), req.intervalCount(), byDayArr, byMonthdayArr, byMonthArr, req.until());
+        occurrenceIndexService.applyCostEstimate(schedule);
+        occurrenceIndexService.rebuild(schedule);
+        scheduleChangeService.changed(schedule);
+        occurrenceMonthCache.evictAfterCommit(schedule, before);
+        freeBusyCache.evictAfterCommit(schedule, before);
         return toResponse(r);
     }
 
@@ -119,11 +138,17 @@ public class ScheduleRecurrenceService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECURRENCE_NOT_FOUND));
         Schedule schedule = r.getSchedule();
         if(!schedule.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         if (!schedule.getId().equals(scheduleId))
             throw new BusinessException(ErrorCode.SCHEDULE_RECUR_EXDATE_MISMATCH);
+        var before = OccurrenceMonthCache.spanOf(schedule);
         schedule.removeRecurrence(r);
+        occurrenceIndexService.rebuild(schedule); // 반복 해제 → 단발 1건으로
+        scheduleChangeService.changed(schedule);
+        scheduleCounterService.changed(schedule.getId());
+        occurrenceMonthCache.evictAfterCommit(schedule, before);
+        freeBusyCache.evictAfterCommit(schedule, before);
     }
 
     private RecurrenceResponse toResponse(ScheduleRecurrence r) {
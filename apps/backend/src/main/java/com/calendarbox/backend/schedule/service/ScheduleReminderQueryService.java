@@ -1,14 +1,11 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.calendar.domain.Calendar;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.dto.response.ReminderResponse;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleReminderRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,15 +19,14 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ScheduleReminderQueryService {
     private final ScheduleReminderRepository scheduleReminderRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
     public List<ReminderResponse> list(Long userId, Long scheduleId) {
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         Calendar c = s.getCalendar();
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),userId, CalendarMemberStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(scheduleId, userId)
+                && !accessDecisionCache.isCalendarMember(c.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         return scheduleReminderRepository.findAllBySchedule_Id(scheduleId).stream()
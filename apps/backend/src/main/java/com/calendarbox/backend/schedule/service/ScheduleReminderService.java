@@ -1,13 +1,12 @@
 package com.calendarbox.backend.schedule.service;
 
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.schedule.domain.Schedule;
 import com.calendarbox.backend.schedule.domain.ScheduleReminder;
 import com.calendarbox.backend.schedule.dto.request.ReminderRequest;
 import com.calendarbox.backend.schedule.dto.response.ReminderResponse;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleReminderRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ScheduleReminderService {
     private final ScheduleRepository scheduleRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleReminderRepository scheduleReminderRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final ScheduleCounterService scheduleCounterService;
     public ReminderResponse create(Long userId, Long scheduleId, ReminderRequest req) {
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow
                 (() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
@@ -28,12 +28,13 @@ public class ScheduleReminderService {
             throw new BusinessException(ErrorCode.REMINDER_MINUTES_DUP);
         }
         if(!s.getCreatedBy().getId().equals(userId)
-            && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+            && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         ScheduleReminder r = ScheduleReminder.create(s, req.minutesBefore());
         scheduleReminderRepository.save(r);
         scheduleReminderRepository.flush();
+        scheduleCounterService.changed(scheduleId);
 
         return new ReminderResponse(r.getId(), r.getMinutesBefore());
     }
@@ -42,9 +43,10 @@ public class ScheduleReminderService {
         var r = scheduleReminderRepository.findById(reminderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECURRENCE_NOT_FOUND));
         Schedule s = r.getSchedule();
-        if(!s.getCreatedBy().getId().equals(userId) && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(scheduleId,userId, ScheduleParticipantStatus.ACCEPTED))
+        if(!s.getCreatedBy().getId().equals(userId) && !accessDecisionCache.isScheduleParticipant(scheduleId, userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         s.removeReminder(r);
+        scheduleCounterService.changed(s.getId());
     }
 }
@@ -0,0 +1,33 @@
+package com.calendarbox.backend.schedule.service;
+
+import com.calendarbox.backend.schedule.repository.ScheduleRepository;
+import com.calendarbox.backend.schedule.repository.ScheduleSearchDocRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * 검색 문서 증분 갱신.
+ * - 일정/참가자/할일/장소/링크/첨부 변경 서비스에서 같은 트랜잭션 안에서 호출
+ * - 트랜잭션 동안 바뀐 일정 id만 모아 두었다가 커밋 직전에 한 번에 다시 계산
+ *   (JPA 변경을 먼저 flush해야 SQL이 새 값을 봄)
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleSearchDocService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleSearchDocRepository scheduleSearchDocRepository;
+
+    private final DirtyScheduleIds dirty = new DirtyScheduleIds(ScheduleSearchDocService.class, this::refresh);
+
+    public void changed(Long scheduleId) {
+        dirty.add(scheduleId);
+    }
+
+    private void refresh(Set<Long> scheduleIds) {
+        scheduleRepository.flush();
+        scheduleSearchDocRepository.refresh(scheduleIds);
+    }
+}
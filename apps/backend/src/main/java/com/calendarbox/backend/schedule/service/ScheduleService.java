@@ -1,13 +1,13 @@
 package com.calendarbox.backend.schedule.service;
 
 import com.calendarbox.backend.attachment.repository.AttachmentRepository;
+import com.calendarbox.backend.auth.support.PrincipalResolver;
 import com.calendarbox.backend.calendar.domain.Calendar;
 import com.calendarbox.backend.calendar.domain.CalendarHistory;
 import com.calendarbox.backend.calendar.enums.CalendarHistoryType;
-import com.calendarbox.backend.calendar.enums.CalendarMemberStatus;
 import com.calendarbox.backend.calendar.repository.CalendarHistoryRepository;
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
 import com.calendarbox.backend.calendar.repository.CalendarRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.friendship.repository.FriendshipRepository;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
@@ -16,6 +16,11 @@ import com.calendarbox.backend.member.repository.MemberRepository;
 import com.calendarbox.backend.notification.domain.Notification;
 import com.calendarbox.backend.notification.enums.NotificationType;
 import com.calendarbox.backend.notification.repository.NotificationRepository;
+import com.calendarbox.backend.occurrence.service.OccurrenceIndexService;
+import com.calendarbox.backend.occurrence.service.ScheduleConflictService;
+import com.calendarbox.backend.occurrence.service.ScheduleChangeService;
+import com.calendarbox.backend.occurrence.support.FreeBusyCache;
+import com.calendarbox.backend.occurrence.support.OccurrenceMonthCache;
 import com.calendarbox.backend.place.domain.Place;
 import com.calendarbox.backend.place.repository.PlaceRepository;
 import com.calendarbox.backend.schedule.domain.*;
@@ -25,8 +30,8 @@ import com.calendarbox.backend.schedule.dto.request.EditScheduleRequest;
 import com.calendarbox.backend.schedule.dto.response.CloneScheduleResponse;
 import com.calendarbox.backend.schedule.dto.response.CreateScheduleResponse;
 import com.calendarbox.backend.schedule.dto.response.ScheduleDto;
+import com.calendarbox.backend.schedule.enums.AddParticipantMode;
 import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
 import com.calendarbox.backend.schedule.enums.ScheduleTheme;
 import com.calendarbox.backend.schedule.repository.*;
 import com.calendarbox.backend.schedule.util.DefaultScheduleEmbeddingService;
@@ -44,6 +49,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus.INVITED;
 
@@ -53,15 +59,15 @@ import static com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus.I
 @Transactional
 public class ScheduleService {
     private final MemberRepository memberRepository;
+    private final PrincipalResolver principalResolver;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleRepository scheduleRepository;
     private final ScheduleLinkRepository scheduleLinkRepository;
     private final ScheduleTodoRepository scheduleTodoRepository;
     private final SchedulePlaceRepository schedulePlaceRepository;
     private final AttachmentRepository attachmentRepository;
     private final CalendarRepository calendarRepository;
-    private final CalendarMemberRepository calendarMemberRepository;
     private final CalendarHistoryRepository calendarHistoryRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
     private final ObjectMapper objectMapper;
     private final FriendshipRepository friendshipRepository;
     private final NotificationRepository notificationRepository;
@@ -69,6 +75,13 @@ public class ScheduleService {
     private final DefaultScheduleEmbeddingService scheduleEmbeddingService;
     private final ScheduleEmbeddingRepository scheduleEmbeddingRepository;
     private final EmbeddingEnqueueService embeddingEnqueueService;
+    private final OccurrenceIndexService occurrenceIndexService;
+    private final ScheduleChangeService scheduleChangeService;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
+    private final OccurrenceMonthCache occurrenceMonthCache;
+    private final FreeBusyCache freeBusyCache;
+    private final ScheduleConflictService scheduleConflictService;
 
 
     public CloneScheduleResponse clone(Long userId, Long calendarId, CloneScheduleRequest request) {
@@ -79,11 +92,11 @@ public class ScheduleService {
         Member creator = memberRepository.findById(userId).orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         Calendar targetCalendar = calendarRepository.findById(calendarId).orElseThrow(() -> new BusinessException(ErrorCode.CALENDAR_NOT_FOUND));
 
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(targetCalendar.getId(), creator.getId(), CalendarMemberStatus.ACCEPTED)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(targetCalendar.getId(), creator.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         Schedule src = scheduleRepository.findById(request.sourceScheduleId()).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(src.getCalendar().getId(), creator.getId(), CalendarMemberStatus.ACCEPTED) || !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(src.getId(), creator.getId(), ScheduleParticipantStatus.ACCEPTED)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(src.getCalendar().getId(), creator.getId()) || !accessDecisionCache.isScheduleParticipant(src.getId(), creator.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         ZoneId zone = ZoneId.of("Asia/Seoul");
 
@@ -109,6 +122,12 @@ public class ScheduleService {
 
         Schedule dst = Schedule.cloneHeader(src,targetCalendar,creator,effStart,effEnd);
         scheduleRepository.save(dst);
+        occurrenceIndexService.rebuild(dst);
+        scheduleChangeService.changed(dst);
+        scheduleSearchDocService.changed(dst.getId());
+        scheduleCounterService.changed(dst.getId());
+        occurrenceMonthCache.evictAfterCommit(dst);
+        freeBusyCache.evictAfterCommit(dst);
 
         Long srcId = src.getId();
         Long dstId = dst.getId();
@@ -124,12 +143,11 @@ public class ScheduleService {
     }
 
     public CreateScheduleResponse create(Long userId, Long calendarId, CreateScheduleRequest request) {
-        Member user = memberRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        Member user = principalResolver.reference(userId);
         Calendar calendar = calendarRepository.findById(calendarId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CALENDAR_NOT_FOUND));
 
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(calendar.getId(),user.getId(), CalendarMemberStatus.ACCEPTED)) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(calendar.getId(), user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         if(!request.startAt().isBefore(request.endAt())) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
 
         ScheduleTheme theme = (request.theme() == null)? ScheduleTheme.BLACK : request.theme();
@@ -205,10 +223,18 @@ public class ScheduleService {
 
         // 5. 참가자
         if(request.participants() != null) {
+            // 회원 참가자는 한 번에 조회 (참가자마다 findById 하지 않도록)
+            Map<Long, Member> addressees = memberRepository.findAllById(request.participants().stream()
+                            .filter(p -> p.mode() == AddParticipantMode.SERVICE_USER)
+                            .map(CreateScheduleRequest.ParticipantReq::memberId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()))
+                    .stream().collect(Collectors.toMap(Member::getId, m -> m));
             for (var participant : request.participants()) {
                 switch(participant.mode()) {
                     case SERVICE_USER -> {
-                        Member addressee = memberRepository.findById(participant.memberId()).orElseThrow(() ->new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+                        Member addressee = addressees.get(participant.memberId());
+                        if (addressee == null) throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
 
                         ScheduleParticipant sp = ScheduleParticipant.ofMember(null,addressee,user);
                         schedule.addParticipant(sp);
@@ -314,9 +340,16 @@ public class ScheduleService {
 
         // 7. 첨부 -> 스케줄 만들고 차례로 upload
 
+        occurrenceIndexService.applyCostEstimate(schedule);
         scheduleRepository.save(schedule);
         scheduleRepository.flush();
 
+        occurrenceIndexService.rebuild(schedule);
+        scheduleChangeService.changed(schedule);
+        scheduleSearchDocService.changed(schedule.getId());
+        scheduleCounterService.changed(schedule.getId());
+        occurrenceMonthCache.evictAfterCommit(schedule);
+        freeBusyCache.evictAfterCommit(schedule);
         embeddingEnqueueService.enqueueAfterCommit(schedule.getId());
 
         List<Notification> inviteNotis = schedule.getParticipants().stream()
@@ -368,22 +401,24 @@ public class ScheduleService {
                 schedule.getReminders().size(),
                 schedule.getParticipants().size(),
                 schedule.getPlaces().size(),
-                (schedule.getRecurrence()!=null)
+                (schedule.getRecurrence()!=null),
+                scheduleConflictService.findConflicts(userId, schedule)
         );
     }
 
     public ScheduleDto edit(Long userId, Long scheduleId, EditScheduleRequest req){
-        Member user = memberRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        Member user = principalResolver.reference(userId);
 
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         Calendar c = s.getCalendar();
 
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),user.getId(),CalendarMemberStatus.ACCEPTED) && !c.getOwner().getId().equals(user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(c.getId(), user.getId()) && !c.getOwner().getId().equals(user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
 
         boolean changed = false;
+        boolean timeChanged = false;
+        var before = OccurrenceMonthCache.spanOf(s); // 옮기기 전 달 버킷도 지워야 함
 
         Instant newStart = (req.startAt() != null) ? req.startAt() : s.getStartAt();
         Instant newEnd   = (req.endAt()   != null) ? req.endAt()   : s.getEndAt();
@@ -391,7 +426,10 @@ public class ScheduleService {
             if (!newStart.isBefore(newEnd)) throw new BusinessException(ErrorCode.START_AFTER_BEFORE);
             if (!newStart.equals(s.getStartAt()) || !newEnd.equals(s.getEndAt())) {
                 s.reschedule(newStart, newEnd);
+                occurrenceIndexService.applyCostEstimate(s);
+                occurrenceIndexService.rebuild(s);
                 changed = true;
+                timeChanged = true;
             }
         }
 
@@ -410,6 +448,10 @@ public class ScheduleService {
 
         if (changed) {
             s.touchUpdateBy(user);
+            scheduleChangeService.changed(s);
+            scheduleSearchDocService.changed(s.getId());
+            occurrenceMonthCache.evictAfterCommit(s, before);
+            freeBusyCache.evictAfterCommit(s, before);
 
             embeddingEnqueueService.enqueueAfterCommit(s.getId());
             calendarHistoryRepository.save(
@@ -431,18 +473,18 @@ public class ScheduleService {
                 s.getId(), s.getCalendar().getId(), s.getTitle(), s.getMemo(), s.getTheme()
                 , s.getStartAt(), s.getEndAt(), s.getCreatedBy().getId(), s.getUpdatedBy().getId()
                 , s.getCreatedAt(), s.getUpdatedAt()
+                , timeChanged ? scheduleConflictService.findConflicts(userId, s) : List.of()
         );
     }
 
     public void delete(Long userId, Long scheduleId){
-        Member user = memberRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        Member user = principalResolver.reference(userId);
 
         Schedule s = scheduleRepository.findById(scheduleId).orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         Calendar c = s.getCalendar();
 
-        if(!calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(c.getId(),user.getId(),CalendarMemberStatus.ACCEPTED) && !c.getOwner().getId().equals(user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        if(!accessDecisionCache.isCalendarMember(c.getId(), user.getId()) && !c.getOwner().getId().equals(user.getId())) throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
 
         CalendarHistory history = CalendarHistory.builder()
@@ -454,6 +496,10 @@ public class ScheduleService {
                 .build();
         calendarHistoryRepository.save(history);
         scheduleEmbeddingRepository.deleteByScheduleId(s.getId());
+        occurrenceIndexService.remove(s.getId());
+        scheduleChangeService.removed(s);
+        occurrenceMonthCache.evictAfterCommit(s);
+        freeBusyCache.evictAfterCommit(s);
         scheduleRepository.delete(s);
     }
 
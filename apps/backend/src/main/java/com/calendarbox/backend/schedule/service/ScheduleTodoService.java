@@ -1,6 +1,6 @@
 package com.calendarbox.backend.schedule.service;
 
-import com.calendarbox.backend.calendar.repository.CalendarMemberRepository;
+import com.calendarbox.backend.calendar.support.AccessDecisionCache;
 import com.calendarbox.backend.global.error.BusinessException;
 import com.calendarbox.backend.global.error.ErrorCode;
 import com.calendarbox.backend.schedule.domain.Schedule;
@@ -9,8 +9,6 @@ import com.calendarbox.backend.schedule.dto.request.TodoCreateRequest;
 import com.calendarbox.backend.schedule.dto.request.TodoReorderRequest;
 import com.calendarbox.backend.schedule.dto.request.TodoUpdateRequest;
 import com.calendarbox.backend.schedule.dto.response.TodoResponse;
-import com.calendarbox.backend.schedule.enums.ScheduleParticipantStatus;
-import com.calendarbox.backend.schedule.repository.ScheduleParticipantRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleRepository;
 import com.calendarbox.backend.schedule.repository.ScheduleTodoRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +19,17 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 
-import static com.calendarbox.backend.calendar.enums.CalendarMemberStatus.ACCEPTED;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ScheduleTodoService {
 
-    private final CalendarMemberRepository calendarMemberRepository;
-    private final ScheduleParticipantRepository scheduleParticipantRepository;
+    private final AccessDecisionCache accessDecisionCache;
     private final ScheduleTodoRepository scheduleTodoRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleSearchDocService scheduleSearchDocService;
+    private final ScheduleCounterService scheduleCounterService;
 
     public TodoResponse addAtBottom(Long userId, Long scheduleId, TodoCreateRequest req) {
 
@@ -39,8 +37,8 @@ public class ScheduleTodoService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if(!s.getCreatedBy().getId().equals(userId)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(s.getCalendar().getId(),userId,ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isCalendarMember(s.getCalendar().getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
         if (req.content() == null || req.content().isBlank())
@@ -51,6 +49,8 @@ public class ScheduleTodoService {
         var todo = ScheduleTodo.of(req.content().trim(),false, next);
         s.addTodo(todo);
         ScheduleTodo saved = scheduleTodoRepository.save(todo);
+        scheduleSearchDocService.changed(scheduleId);
+        scheduleCounterService.changed(scheduleId);
         return TodoResponse.from(saved);
     }
 
@@ -58,8 +58,8 @@ public class ScheduleTodoService {
         Schedule s = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         if(!s.getCreatedBy().getId().equals(userId)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(s.getCalendar().getId(),userId,ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED)){
+                && !accessDecisionCache.isCalendarMember(s.getCalendar().getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId)){
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
 
@@ -69,6 +69,7 @@ public class ScheduleTodoService {
             throw new BusinessException(ErrorCode.REQUEST_NO_CHANGES);
 
         t.editContent(req.content().trim());
+        scheduleSearchDocService.changed(scheduleId);
         return TodoResponse.from(t);
     }
 
@@ -77,8 +78,8 @@ public class ScheduleTodoService {
         Schedule s = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         if(!s.getCreatedBy().getId().equals(userId)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(s.getCalendar().getId(),userId,ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED)){
+                && !accessDecisionCache.isCalendarMember(s.getCalendar().getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId)){
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
         var t = getAndCheck(scheduleId, todoId);
@@ -94,8 +95,8 @@ public class ScheduleTodoService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
 
         if (!s.getCreatedBy().getId().equals(userId)
-                && !calendarMemberRepository.existsByCalendar_IdAndMember_IdAndStatus(s.getCalendar().getId(), userId, ACCEPTED)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(), userId, ScheduleParticipantStatus.ACCEPTED)) {
+                && !accessDecisionCache.isCalendarMember(s.getCalendar().getId(), userId)
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId)) {
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
 
@@ -154,12 +155,14 @@ public class ScheduleTodoService {
         Schedule s = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
         if(!s.getCreatedBy().getId().equals(userId)
-                && !scheduleParticipantRepository.existsBySchedule_IdAndMember_IdAndStatus(s.getId(),userId, ScheduleParticipantStatus.ACCEPTED))
+                && !accessDecisionCache.isScheduleParticipant(s.getId(), userId))
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
 
 
         var t = getAndCheck(scheduleId, todoId);
         s.removeTodo(t);
+        scheduleSearchDocService.changed(scheduleId);
+        scheduleCounterService.changed(scheduleId);
     }
 
     private ScheduleTodo getAndCheck(Long scheduleId, Long todoId) {
@@ -0,0 +1,39 @@
+package com.calendarbox.backend.schedule.util;
+
+import com.calendarbox.backend.schedule.repository.ScheduleCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일정 하위 항목 개수 컬럼(V18) 재조정.
+ * 서비스 밖에서 바뀐 하위 행(직접 SQL, 누락된 호출 등)으로 어긋난 값을 실제 개수로 맞춤.
+ * 범위마다 따로 커밋 (트랜잭션 없이 문장 단위) - 한 번에 오래 잠그지 않도록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCounterReconcileBatch {
+
+    private final ScheduleCounterRepository scheduleCounterRepository;
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 매일 새벽 4:10 (한국 기준)
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void runDaily() {
+        long afterId = 0;
+        int fixed = 0;
+        while (true) {
+            List<Long> ids = scheduleCounterRepository.findIdsAfter(afterId, BATCH_SIZE);
+            if (ids.isEmpty()) break;
+            long toId = ids.get(ids.size() - 1);
+            fixed += scheduleCounterRepository.reconcileRange(ids.get(0), toId);
+            afterId = toId;
+        }
+        if (fixed > 0) log.warn("[SCHEDULE COUNTER] reconciled={}", fixed);
+    }
+}
@@ -1,10 +1,12 @@
 package com.calendarbox.backend.schedule.validation;
 
+import com.calendarbox.backend.occurrence.support.RecurrenceCost;
 import com.calendarbox.backend.schedule.dto.request.RecurrenceUpsertRequest;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -14,6 +16,9 @@ public class RecurrenceRuleValidator implements ConstraintValidator<ValidRecurre
 
     private static final Pattern BYDAY_TOKEN = Pattern.compile("^([+-]?[1-5])?(MO|TU|WE|TH|FR|SA|SU)$");
 
+    // 31일 윈도우 한 번 전개에 만드는 후보 수 상한 (정상 규칙 최대는 YEARLY 12개월 x 31일 수준)
+    private static final int MAX_WINDOW_COST = 1000;
+
     private static boolean empty(Collection<?> x){ return x==null || x.isEmpty(); }
 
     private static boolean inRange(Set<Integer> s, int lo, int hi, boolean excludeZero) {
@@ -89,9 +94,30 @@ public class RecurrenceRuleValidator implements ConstraintValidator<ValidRecurre
                 }
             }
         }
+
+        // --- 전개 비용 (규칙만으로 추정, 시리즈 길이 기준 거절은 서비스에서) ---
+        RecurrenceCost cost = estimate(r);
+        if (cost.windowCost() > MAX_WINDOW_COST)
+            return fail(c, "recurrence rule too expensive to expand (window cost " + cost.windowCost() + ")");
         return true;
     }
 
+    private static RecurrenceCost estimate(RecurrenceUpsertRequest r) {
+        Set<String> weeklyDays = new HashSet<>();
+        int ordinals = 0;
+        if (r.byDay() != null) {
+            for (String raw : r.byDay()) {
+                Matcher m = BYDAY_TOKEN.matcher(raw.trim().toUpperCase(Locale.ROOT));
+                if (!m.matches()) continue;
+                weeklyDays.add(m.group(2));
+                if (m.group(1) != null) ordinals++;
+            }
+        }
+        return RecurrenceCost.of(r.freq(), r.intervalCount(), weeklyDays.size(), ordinals,
+                r.byMonthday() == null ? 0 : r.byMonthday().size(),
+                r.byMonth() == null ? 0 : r.byMonth().size());
+    }
+
     private boolean fail(ConstraintValidatorContext c, String msg){
         c.disableDefaultConstraintViolation();
         c.buildConstraintViolationWithTemplate(msg).addConstraintViolation();
@@ -0,0 +1,34 @@
+-- ============================================
+-- V11__schedule_occurrence_index.sql
+-- 캘린더 뷰용 occurrence 물리화 테이블
+--  - 단발 일정은 1행, 반복 일정은 전개 결과를 horizon까지 저장
+--  - 반복 규칙/예외/일정 변경 시 서비스에서 증분 갱신
+-- ============================================
+
+CREATE TABLE schedule_occurrence (
+    schedule_occurrence_id BIGSERIAL PRIMARY KEY,
+    schedule_id BIGINT NOT NULL,
+    calendar_id BIGINT NOT NULL,
+    start_at TIMESTAMPTZ NOT NULL,
+    end_at TIMESTAMPTZ NOT NULL,
+    recurring BOOLEAN NOT NULL DEFAULT false,
+    CONSTRAINT fk_schedule_occurrence_schedule FOREIGN KEY (schedule_id) REFERENCES schedule(schedule_id) ON DELETE CASCADE,
+    CONSTRAINT uq_schedule_occurrence UNIQUE (schedule_id, start_at)
+);
+
+-- 윈도우 조회: calendar_id IN (...) AND start_at < :to AND end_at > :from
+CREATE INDEX ix_schedule_occurrence_calendar_start
+    ON schedule_occurrence (calendar_id, start_at, end_at);
+
+-- 반복 시리즈가 어디까지 물리화되었는지 (NULL이면 아직 전개 안 됨 → 조회 시 즉석 전개)
+ALTER TABLE schedule_recurrence
+    ADD COLUMN IF NOT EXISTS materialized_until TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS ix_recur_materialized_until
+    ON schedule_recurrence (materialized_until);
+
+-- 기존 단발 일정 백필 (반복 일정은 horizon 배치가 채움)
+INSERT INTO schedule_occurrence (schedule_id, calendar_id, start_at, end_at, recurring)
+SELECT s.schedule_id, s.calendar_id, s.start_at, s.end_at, false
+FROM schedule s
+WHERE NOT EXISTS (SELECT 1 FROM schedule_recurrence r WHERE r.schedule_id = s.schedule_id);
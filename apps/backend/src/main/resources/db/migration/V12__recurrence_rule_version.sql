@@ -0,0 +1,3 @@
+-- 반복 규칙 버전 (규칙 변경 시 증가, 전개 플랜 캐시 키로 사용)
+ALTER TABLE schedule_recurrence
+    ADD COLUMN IF NOT EXISTS rule_version INT NOT NULL DEFAULT 0;
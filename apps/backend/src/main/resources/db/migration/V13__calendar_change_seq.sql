@@ -0,0 +1,23 @@
+-- ============================================
+-- V13__calendar_change_seq.sql
+-- 캘린더별 변경 순번 + 일정 단위 변경 로그 (syncToken 기반 델타 동기화)
+--  - calendar.change_seq: 일정/반복/예외/참가자/장소 변경 시 1씩 증가
+--  - schedule_change: 일정마다 마지막 변경 순번 1행 (삭제는 removed=true 툼스톤으로 남김)
+-- ============================================
+
+ALTER TABLE calendar
+    ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 삭제된 일정도 툼스톤으로 남아야 하므로 schedule FK는 두지 않음
+CREATE TABLE schedule_change (
+    calendar_id BIGINT NOT NULL,
+    schedule_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    removed BOOLEAN NOT NULL DEFAULT false,
+    CONSTRAINT pk_schedule_change PRIMARY KEY (calendar_id, schedule_id),
+    CONSTRAINT fk_schedule_change_calendar FOREIGN KEY (calendar_id) REFERENCES calendar(calendar_id) ON DELETE CASCADE
+);
+
+-- 델타 조회: calendar_id = ? AND change_seq > :since
+CREATE INDEX ix_schedule_change_calendar_seq
+    ON schedule_change (calendar_id, change_seq);
@@ -0,0 +1,15 @@
+-- ============================================
+-- V14__recurrence_occurrence_bounds.sql
+-- 반복 시리즈의 실제 occurrence 범위 (조회 시 윈도우와 겹치는 시리즈만 로드)
+--  - first_occurrence_at: 첫 occurrence 시작 (시드 이전 후보가 있으면 시드보다 이를 수 있음)
+--  - last_occurrence_at : 마지막 occurrence 종료 (until 없는 시리즈는 NULL)
+--  - 반복/예외/일정 시간 변경 시 OccurrenceIndexService가 갱신, 기존 행은 OccurrenceHorizonJob이 채움
+-- ============================================
+
+ALTER TABLE schedule_recurrence
+    ADD COLUMN IF NOT EXISTS first_occurrence_at TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS last_occurrence_at TIMESTAMPTZ;
+
+-- 윈도우 겹침: last_occurrence_at > :from AND first_occurrence_at < :to
+CREATE INDEX IF NOT EXISTS ix_recur_occurrence_window
+    ON schedule_recurrence (last_occurrence_at, first_occurrence_at);
@@ -0,0 +1,17 @@
+-- ============================================
+-- V15__recurrence_expansion_cost.sql
+-- 반복 시리즈별 전개 비용 추정치와 전개 전략
+--  - occurrences_per_year : 연간 예상 occurrence 수 (규칙만으로 계산, 최대 366)
+--  - window_cost          : 31일 윈도우 한 번 전개 시 예상 후보 수
+--  - expansion_strategy   : MATERIALIZED(시드부터 horizon까지 물리화)
+--                           INLINE(물리화 없이 조회 때 전개, 드문 시리즈)
+--                           STREAMING(최근 구간만 물리화, 그 이전은 조회 때 전개)
+--  - materialized_from    : 물리화 시작 시각 (NULL = 시드부터)
+--  - 기존 행은 MATERIALIZED + 추정치 NULL (규칙이 바뀔 때 채워짐)
+-- ============================================
+
+ALTER TABLE schedule_recurrence
+    ADD COLUMN IF NOT EXISTS occurrences_per_year REAL,
+    ADD COLUMN IF NOT EXISTS window_cost INTEGER,
+    ADD COLUMN IF NOT EXISTS expansion_strategy VARCHAR(16) NOT NULL DEFAULT 'MATERIALIZED',
+    ADD COLUMN IF NOT EXISTS materialized_from TIMESTAMPTZ;
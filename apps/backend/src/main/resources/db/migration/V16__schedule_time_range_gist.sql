@@ -0,0 +1,26 @@
+-- ============================================
+-- V16__schedule_time_range_gist.sql
+-- 일정/occurrence 시간 구간을 tstzrange 생성 컬럼으로 두고 (calendar_id, time_range) GiST 인덱스
+--  - 기존 조건 start_at < :to AND end_at > :from 은 B-tree에서 한쪽 경계만 범위 스캔이 되어
+--    캘린더의 과거/미래 일정을 통째로 훑음 → time_range && tstzrange(:from, :to) 로 바꿔 양쪽 경계를 함께 사용
+--  - calendar_id(bigint)를 GiST에 같이 넣기 위해 btree_gist 확장 필요
+--  - 구간은 '[)' (start 포함, end 제외) 이라 기존 부등식 조건과 결과가 같음 (start_at < end_at 전제)
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE schedule
+    ADD COLUMN IF NOT EXISTS time_range TSTZRANGE
+        GENERATED ALWAYS AS (tstzrange(start_at, end_at, '[)')) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_schedule_calendar_time_range
+    ON schedule USING gist (calendar_id, time_range);
+
+ALTER TABLE schedule_occurrence
+    ADD COLUMN IF NOT EXISTS time_range TSTZRANGE
+        GENERATED ALWAYS AS (tstzrange(start_at, end_at, '[)')) STORED;
+
+CREATE INDEX IF NOT EXISTS ix_schedule_occurrence_calendar_time_range
+    ON schedule_occurrence USING gist (calendar_id, time_range);
+
+-- schedule_occurrence의 기존 (calendar_id, start_at, end_at) B-tree는 그대로 둠 (플래너가 윈도우 크기에 따라 선택)
@@ -0,0 +1,34 @@
+-- ============================================
+-- V17__schedule_search_doc.sql
+-- 일정 키워드 검색용 비정규화 문서 (일정 1행 = 문서 1행)
+--  - 기존 검색은 제목/메모 lower(..) like '%q%' + 참가자/할일/장소/링크/첨부 EXISTS 5개를 페이지/카운트 두 번 실행
+--  - doc: 제목, 메모, 참가자 이름, 할일 내용, 장소 이름, 링크 라벨, 첨부 파일명을 줄바꿈으로 이어 붙인 텍스트
+--  - pg_trgm GIN(doc) → ILIKE '%q%' 와 유사도 정렬, tsvector GIN → 단어 단위 매칭
+--  - 갱신은 애플리케이션이 커밋 직전에 바뀐 일정만 다시 계산 (ScheduleSearchDocService), 일정 삭제 시 CASCADE
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE schedule_search_doc (
+    schedule_id BIGINT PRIMARY KEY,
+    calendar_id BIGINT NOT NULL,
+    doc TEXT NOT NULL,
+    tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', doc)) STORED,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT fk_schedule_search_doc_schedule FOREIGN KEY (schedule_id) REFERENCES schedule(schedule_id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_schedule_search_doc_calendar ON schedule_search_doc (calendar_id);
+CREATE INDEX ix_schedule_search_doc_trgm ON schedule_search_doc USING gin (doc gin_trgm_ops);
+CREATE INDEX ix_schedule_search_doc_tsv ON schedule_search_doc USING gin (tsv);
+
+-- 기존 일정 채우기 (ScheduleSearchDocRepository.refresh와 같은 식)
+INSERT INTO schedule_search_doc (schedule_id, calendar_id, doc)
+SELECT s.schedule_id, s.calendar_id,
+       concat_ws(E'\n', s.title, s.memo,
+           (SELECT string_agg(p.name, E'\n') FROM schedule_participant p WHERE p.schedule_id = s.schedule_id),
+           (SELECT string_agg(t.content, E'\n') FROM schedule_todo t WHERE t.schedule_id = s.schedule_id),
+           (SELECT string_agg(sp.name, E'\n') FROM schedule_place sp WHERE sp.schedule_id = s.schedule_id),
+           (SELECT string_agg(l.label, E'\n') FROM schedule_link l WHERE l.schedule_id = s.schedule_id),
+           (SELECT string_agg(a.original_name, E'\n') FROM attachment a WHERE a.schedule_id = s.schedule_id))
+FROM schedule s;
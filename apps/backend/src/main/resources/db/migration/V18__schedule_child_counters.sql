@@ -0,0 +1,28 @@
+-- ============================================
+-- V18__schedule_child_counters.sql
+-- 일정 상세 요약(참가자/반복/알림/링크/할일/장소/이미지/파일 개수)을 schedule 행에 비정규화
+--  - 상세 조회가 하위 테이블 count 8번 대신 schedule 한 행만 읽도록
+--  - 값은 하위 항목을 바꾼 트랜잭션이 커밋 직전에 다시 계산 (ScheduleCounterService),
+--    어긋난 행은 ScheduleCounterReconcileJob이 주기적으로 맞춤
+-- ============================================
+
+ALTER TABLE schedule
+    ADD COLUMN IF NOT EXISTS participant_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS recurrence_count  INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS reminder_count    INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS link_count        INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS todo_count        INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS place_count       INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS img_count         INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS file_count        INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 일정 채우기
+UPDATE schedule s
+   SET participant_count = (SELECT count(*) FROM schedule_participant x WHERE x.schedule_id = s.schedule_id),
+       recurrence_count  = (SELECT count(*) FROM schedule_recurrence x WHERE x.schedule_id = s.schedule_id),
+       reminder_count    = (SELECT count(*) FROM schedule_reminder x WHERE x.schedule_id = s.schedule_id),
+       link_count        = (SELECT count(*) FROM schedule_link x WHERE x.schedule_id = s.schedule_id),
+       todo_count        = (SELECT count(*) FROM schedule_todo x WHERE x.schedule_id = s.schedule_id),
+       place_count       = (SELECT count(*) FROM schedule_place x WHERE x.schedule_id = s.schedule_id),
+       img_count         = (SELECT count(*) FROM attachment x WHERE x.schedule_id = s.schedule_id AND x.is_img),
+       file_count        = (SELECT count(*) FROM attachment x WHERE x.schedule_id = s.schedule_id AND NOT x.is_img);
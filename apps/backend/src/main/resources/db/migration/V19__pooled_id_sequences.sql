@@ -0,0 +1,31 @@
+-- ============================================
+-- V19__pooled_id_sequences.sql
+-- 대량으로 함께 insert되는 엔티티의 id를 IDENTITY → pooled SEQUENCE (allocationSize = 50)
+--  - IDENTITY는 insert마다 생성 id를 받아야 해서 Hibernate가 JDBC batch를 못 씀
+--  - 대상: calendar_member, notification, schedule_participant/todo/reminder/place/link
+--  - BIGSERIAL 시퀀스를 그대로 쓰고 증가폭만 50으로 (엔티티의 @SequenceGenerator와 같아야 함)
+--  - 컬럼 DEFAULT nextval은 유지: 네이티브 INSERT가 받은 값 v는 (v-49 .. v] 블록을 통째로 소비하므로
+--    Hibernate가 받은 블록과 겹치지 않음
+--  - pooled는 nextval 값 v로 (v-49 .. v]를 쓰므로 현재 최대 id + 50으로 맞춰 기존 id와 겹치지 않게 함
+-- ============================================
+
+DO $$
+DECLARE
+    t   RECORD;
+    seq TEXT;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+                 ('calendar_member',      'calendar_member_id'),
+                 ('notification',         'notification_id'),
+                 ('schedule_participant', 'schedule_participant_id'),
+                 ('schedule_todo',        'schedule_todo_id'),
+                 ('schedule_reminder',    'schedule_reminder_id'),
+                 ('schedule_place',       'schedule_place_id'),
+                 ('schedule_link',        'schedule_link_id')
+             ) AS v(tbl, col)
+    LOOP
+        seq := pg_get_serial_sequence(t.tbl, t.col);
+        EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', seq);
+        EXECUTE format('SELECT setval(%L, (SELECT COALESCE(max(%I), 0) FROM %I) + 50)', seq, t.col, t.tbl);
+    END LOOP;
+END $$;
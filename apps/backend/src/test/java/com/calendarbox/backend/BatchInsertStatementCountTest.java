@@ -0,0 +1,126 @@
+package com.calendarbox.backend;
+
+import com.calendarbox.backend.calendar.dto.request.InviteMembersRequest;
+import com.calendarbox.backend.calendar.enums.CalendarType;
+import com.calendarbox.backend.calendar.enums.Visibility;
+import com.calendarbox.backend.calendar.service.CalendarMemberService;
+import com.calendarbox.backend.calendar.service.CalendarService;
+import com.calendarbox.backend.member.domain.Member;
+import com.calendarbox.backend.member.repository.MemberRepository;
+import com.calendarbox.backend.schedule.dto.request.CreateScheduleRequest;
+import com.calendarbox.backend.schedule.dto.request.CreateScheduleRequest.ParticipantReq;
+import com.calendarbox.backend.schedule.enums.AddParticipantMode;
+import com.calendarbox.backend.schedule.service.ScheduleService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스 id(V19) + JDBC batch로 insert 문장 수가 행 수에 비례하지 않는지 확인.
+ * Hibernate 통계의 prepareStatementCount(= 서버 왕복 수, batch는 한 번)로 셈
+ * - 참가자 50명 일정 생성: 참가자 5명일 때와 거의 같은 문장 수
+ * - 200명 캘린더 초대: calendar_member/notification 각각 50개 단위 batch + 시퀀스 호출
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BatchInsertStatementCountTest {
+
+    @MockitoBean
+    RabbitTemplate rabbitTemplate;
+
+    @Autowired ScheduleService scheduleService;
+    @Autowired CalendarService calendarService;
+    @Autowired CalendarMemberService calendarMemberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long ownerId;
+    private List<Long> others;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = newMember().getId();
+        others = new ArrayList<>();
+        for (int i = 0; i < 210; i++) others.add(newMember().getId());
+    }
+
+    @Test
+    void scheduleCreateWithFiftyParticipantsDoesNotIssueStatementPerRow() {
+        Long calendarId = calendarService.create(ownerId, "batch-" + UUID.randomUUID(),
+                CalendarType.PERSONAL, Visibility.PRIVATE, false).calendarId();
+        createSchedule(calendarId, 1);   // 캐시/시퀀스 워밍업
+
+        long five = measure(() -> createSchedule(calendarId, 5));
+        long fifty = measure(() -> createSchedule(calendarId, 50));
+        long fiftyInserts = statistics.getEntityInsertCount();
+
+        String counts = String.format("5 participants=%d statements, 50 participants=%d statements (%d entity inserts)",
+                five, fifty, fiftyInserts);
+        assertThat(fiftyInserts).as(counts).isGreaterThanOrEqualTo(100);   // 참가자 50 + 초대 알림 50
+        // 참가자/알림 insert가 각각 한 batch (+ 시퀀스 블록 하나씩)
+        assertThat(fifty).as(counts).isLessThanOrEqualTo(five + 4);
+        assertThat(fifty).as(counts).isLessThan(60);   // 행마다 insert하면 이것만 100개 이상
+    }
+
+    @Test
+    void inviteTwoHundredMembersBatchesCalendarMembersAndNotifications() {
+        Long calendarId = calendarService.create(ownerId, "invite-" + UUID.randomUUID(),
+                CalendarType.GROUP, Visibility.PRIVATE, false).calendarId();
+        calendarMemberService.inviteMembers(ownerId, calendarId, new InviteMembersRequest(others.subList(0, 1)));
+
+        long ten = measure(() -> calendarMemberService.inviteMembers(ownerId, calendarId,
+                new InviteMembersRequest(others.subList(1, 11))));
+        long twoHundred = measure(() -> calendarMemberService.inviteMembers(ownerId, calendarId,
+                new InviteMembersRequest(others.subList(11, 211))));
+        long twoHundredInserts = statistics.getEntityInsertCount();
+
+        String counts = String.format("10 members=%d statements, 200 members=%d statements (%d entity inserts)",
+                ten, twoHundred, twoHundredInserts);
+        assertThat(twoHundredInserts).as(counts).isGreaterThanOrEqualTo(400);   // calendar_member 200 + notification 200
+        // 테이블마다 batch 4개 + 시퀀스 블록 4개 (10명일 때는 1개씩)
+        assertThat(twoHundred).as(counts).isLessThanOrEqualTo(ten + 12);
+        assertThat(twoHundred).as(counts).isLessThan(40);
+    }
+
+    private long measure(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createSchedule(Long calendarId, int participants) {
+        Instant start = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.DAYS);
+        List<ParticipantReq> reqs = others.subList(0, participants).stream()
+                .map(id -> new ParticipantReq(AddParticipantMode.SERVICE_USER, id, null))
+                .toList();
+        scheduleService.create(ownerId, calendarId, new CreateScheduleRequest(
+                "batch", null, null, start, start.plus(1, ChronoUnit.HOURS),
+                null, null, reqs, null, null, null));
+    }
+
+    private Member newMember() {
+        String key = UUID.randomUUID().toString();
+        return memberRepository.save(Member.builder()
+                .name("m-" + key.substring(0, 8))
+                .email(key + "@example.com")
+                .phoneNumber(key)
+                .build());
+    }
+}
@@ -0,0 +1,84 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Case;
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Window;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.calendarbox.backend.occurrence.support.RecurrenceFixtures.DST_ZONES;
+import static com.calendarbox.backend.occurrence.support.RecurrenceFixtures.randomWindows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EpochRecurrenceExpander가 RecurrenceExpanderImpl(zoned)과 순서까지 같은 결과를 내는지 확인.
+ * 같은 스레드에서 zone을 번갈아 쓰므로 스레드별 전환표/버퍼 재사용도 함께 검사됨
+ */
+class EpochRecurrenceExpanderTest {
+
+    // 하루가 통째로 사라진 zone(Pacific/Apia 2011-12-30)과 오프셋이 큰 zone까지
+    private static final List<ZoneId> ZONES = Stream.concat(DST_ZONES.stream(),
+            Stream.of(ZoneId.of("Pacific/Apia"), ZoneId.of("Pacific/Kiritimati"))).toList();
+
+    private final RecurrencePlanCache planCache = new RecurrencePlanCache(100);
+    private final RecurrenceExpanderImpl zoned = new RecurrenceExpanderImpl(planCache);
+    private final EpochRecurrenceExpander epoch = new EpochRecurrenceExpander(planCache);
+
+    static Stream<Arguments> randomCases() {
+        Random rnd = new Random(3_003L);
+        return IntStream.range(0, 500)
+                .mapToObj(i -> Arguments.of(RecurrenceFixtures.randomCase(rnd, ZONES), 7_000L + i));
+    }
+
+    static Stream<Case> edgeCases() {
+        return RecurrenceFixtures.edgeCases().stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    void matchesZonedEngine(Case c, long windowSeed) {
+        for (Window w : randomWindows(new Random(windowSeed), c, 4)) {
+            assertSameAsZoned(c, w, c.zone());
+        }
+        // 시드와 다른 zone으로 전개 (조회 타임존 ≠ 물리화 타임존)
+        Random rnd = new Random(windowSeed);
+        ZoneId other = ZONES.get(rnd.nextInt(ZONES.size()));
+        for (Window w : randomWindows(rnd, c, 2)) {
+            assertSameAsZoned(c, new Window(w.from().withZoneSameInstant(other), w.to().withZoneSameInstant(other)), other);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void matchesZonedEngineOnEdgeCases(Case c) {
+        ZonedDateTime seed = c.schedule().getStartAt().atZone(c.zone());
+        assertSameAsZoned(c, new Window(seed.minusDays(10), seed.plusYears(6)), c.zone());
+        ZonedDateTime month = seed.withDayOfMonth(1).toLocalDate().atStartOfDay(c.zone());
+        for (int m = -1; m < 72; m++) {
+            assertSameAsZoned(c, new Window(month.plusMonths(m), month.plusMonths(m + 1)), c.zone());
+        }
+    }
+
+    private void assertSameAsZoned(Case c, Window w, ZoneId zone) {
+        var s = c.schedule();
+        List<RecurrenceExpander.Slice> expected = zoned.expand(s, s.getRecurrence(), w.from(), w.to(), zone);
+
+        assertThat(epoch.expand(s, s.getRecurrence(), w.from(), w.to(), zone))
+                .as("%s %s in %s", c, w, zone).isEqualTo(expected);
+
+        // expandInto(버퍼)도 같은 값
+        OccurrenceBuffer buf = new OccurrenceBuffer();
+        epoch.expandInto(s, s.getRecurrence(), w.from(), w.to(), zone, buf);
+        List<RecurrenceExpander.Slice> fromBuffer = new ArrayList<>(buf.size());
+        for (int i = 0; i < buf.size(); i++) fromBuffer.add(new RecurrenceExpander.Slice(buf.startAt(i), buf.endAt(i)));
+        assertThat(fromBuffer).as("expandInto %s %s in %s", c, w, zone).isEqualTo(expected);
+    }
+}
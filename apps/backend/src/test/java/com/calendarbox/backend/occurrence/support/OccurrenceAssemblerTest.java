@@ -0,0 +1,81 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정렬된 run 병합 + 한 번 훑기 그룹핑이 전체 정렬 후 groupingBy(이전 구현)와 같은지 확인
+ */
+class OccurrenceAssemblerTest {
+
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
+
+    static LongStream seeds() {
+        return LongStream.range(0, 200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void mergeAndGroupMatchesFullSort(long seed) {
+        Random rnd = new Random(seed);
+        // St_Johns 2010-11-07: 00:01 → 전날 23:01 (자정을 넘어 되돌아가는 overlap)
+        ZoneId zone = ZoneId.of(rnd.nextBoolean() ? "America/St_Johns" : "Asia/Seoul");
+        Instant base = LocalDate.of(2010, 11, 1).atStartOfDay(zone).toInstant();
+
+        List<List<OccurrenceItem>> runs = new ArrayList<>();
+        long scheduleId = 1;
+        for (int r = 0, n = 1 + rnd.nextInt(4); r < n; r++) {
+            List<OccurrenceItem> run = new ArrayList<>();
+            for (int i = 0, size = rnd.nextInt(200); i < size; i++) {
+                Instant st = base.plusSeconds(900L * rnd.nextInt(4 * 24 * 14));
+                run.add(OccurrenceAssembler.item(scheduleId++, 1L, "t", "BLACK", st, st.plusSeconds(1800), r % 2 == 0));
+            }
+            run.sort(START_ORDER);
+            runs.add(run);
+        }
+
+        List<OccurrenceItem> all = runs.stream().flatMap(List::stream).sorted(START_ORDER).toList();
+        List<OccurrenceItem> merged = OccurrenceAssembler.merge(runs, START_ORDER);
+
+        assertThat(merged).isEqualTo(all);
+        assertThat(OccurrenceAssembler.groupByDay(merged, zone)).isEqualTo(referenceGroupByDay(all, zone));
+    }
+
+    @Test
+    void keepsDayWhenClockFallsBackPastMidnight() {
+        // America/St_Johns 2010-11-07 00:01 (-02:30) → 2010-11-06 23:01 (-03:30): 시작순인데 날짜가 거꾸로 감
+        ZoneId stJohns = ZoneId.of("America/St_Johns");
+        Instant beforeMidnight = LocalDateTime.of(2010, 11, 6, 23, 59, 30).atZone(stJohns).withEarlierOffsetAtOverlap().toInstant();
+        Instant afterMidnight = beforeMidnight.plusSeconds(60);        // 11-07 00:00:30 (-02:30)
+        Instant repeatedHour = afterMidnight.plusSeconds(40);          // 11-06 23:01:10 (-03:30)
+
+        List<OccurrenceItem> sorted = List.of(
+                OccurrenceAssembler.item(1L, 1L, "a", "BLACK", beforeMidnight, beforeMidnight.plusSeconds(60), false),
+                OccurrenceAssembler.item(2L, 1L, "b", "BLACK", afterMidnight, afterMidnight.plusSeconds(60), false),
+                OccurrenceAssembler.item(3L, 1L, "c", "BLACK", repeatedHour, repeatedHour.plusSeconds(60), false));
+
+        Map<LocalDate, List<OccurrenceItem>> days = OccurrenceAssembler.groupByDay(sorted, stJohns);
+
+        assertThat(days.keySet()).containsExactly(LocalDate.of(2010, 11, 6), LocalDate.of(2010, 11, 7));
+        assertThat(days.get(LocalDate.of(2010, 11, 6))).containsExactly(sorted.get(0), sorted.get(2));
+        assertThat(days.get(LocalDate.of(2010, 11, 7))).containsExactly(sorted.get(1));
+    }
+
+    private static Map<LocalDate, List<OccurrenceItem>> referenceGroupByDay(List<OccurrenceItem> sorted, ZoneId zone) {
+        return sorted.stream().collect(Collectors.groupingBy(
+                it -> it.startAtUtc().atZone(zone).toLocalDate(), LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.dto.response.OccurrenceItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 버킷 인코딩 → 디코딩이 (시작, 일정) 순으로 정렬한 원본과 같은지 확인
+ */
+class OccurrenceBucketCodecTest {
+
+    private static final Long CALENDAR_ID = 7L;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Comparator<OccurrenceItem> START_ORDER =
+            Comparator.comparing(OccurrenceItem::startAtUtc).thenComparing(OccurrenceItem::scheduleId);
+
+    static LongStream seeds() {
+        return LongStream.range(0, 200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void roundTripsRandomBucket(long seed) {
+        Random rnd = new Random(seed);
+        // 1970 이전(음수 epoch 초)부터 먼 미래까지
+        long monthStart = LocalDate.of(1900 + rnd.nextInt(300), 1 + rnd.nextInt(12), 1)
+                .atStartOfDay(SEOUL).toEpochSecond();
+        List<OccurrenceItem> items = new ArrayList<>();
+        for (int i = 0, n = rnd.nextInt(120); i < n; i++) {
+            long scheduleId = 1 + rnd.nextInt(Math.max(1, n / 3 + 1)) + (rnd.nextBoolean() ? 0 : 1L << 40);
+            Instant st = Instant.ofEpochSecond(monthStart + rnd.nextInt(31 * 86_400), rnd.nextInt(3) == 0 ? rnd.nextInt(1_000_000_000) : 0);
+            Instant et = Instant.ofEpochSecond(st.getEpochSecond() + rnd.nextInt(3 * 86_400), rnd.nextInt(1_000_000_000));
+            items.add(item(scheduleId, st, et));
+        }
+
+        assertRoundTrip(items);
+    }
+
+    @Test
+    void emptyBucket() {
+        assertThat(OccurrenceBucketCodec.decode(CALENDAR_ID, OccurrenceBucketCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void startsBeforeEpoch() {
+        Instant st = LocalDateTime.of(1969, 12, 31, 23, 0).atZone(SEOUL).toInstant();
+        assertRoundTrip(List.of(
+                item(1L, st, st.plusSeconds(7_200)),
+                item(2L, st.minusSeconds(86_400 * 400L), st.minusSeconds(86_400 * 399L)),
+                item(1L, Instant.ofEpochSecond(-1, 999_999_999), Instant.ofEpochSecond(0, 1))));
+    }
+
+    @Test
+    void allDayItemsAtMonthEdges() {
+        // 종일 일정: 로컬 자정 ~ 다음 날 자정, 달의 첫날/마지막 날
+        YearMonth month = YearMonth.of(2024, 2);
+        Instant firstDay = month.atDay(1).atStartOfDay(SEOUL).toInstant();
+        Instant lastDay = month.atEndOfMonth().atStartOfDay(SEOUL).toInstant();
+        Instant nextMonth = month.plusMonths(1).atDay(1).atStartOfDay(SEOUL).toInstant();
+        assertRoundTrip(List.of(
+                item(3L, lastDay, nextMonth),
+                item(4L, firstDay, firstDay.plusSeconds(86_400)),
+                item(5L, firstDay, nextMonth),
+                // 달 경계 직전/직후 나노 단위
+                item(6L, nextMonth.minusNanos(1), nextMonth),
+                item(6L, firstDay.minusNanos(1), firstDay.plusNanos(1))));
+    }
+
+    @Test
+    void sameStartOrderedByScheduleAndKeepsScheduleFields() {
+        Instant st = Instant.parse("2024-03-01T00:00:00Z");
+        List<OccurrenceItem> items = List.of(
+                new OccurrenceItem(null, 9L, CALENDAR_ID, "반복", "BLUE", st, st.plusSeconds(60), true),
+                new OccurrenceItem(null, 2L, CALENDAR_ID, null, null, st, st, false),
+                new OccurrenceItem(null, 9L, CALENDAR_ID, "반복", "BLUE", st.plusSeconds(86_400), st.plusSeconds(86_460), true));
+
+        List<OccurrenceItem> decoded = OccurrenceBucketCodec.decode(CALENDAR_ID, OccurrenceBucketCodec.encode(items));
+
+        assertThat(decoded).extracting(OccurrenceItem::scheduleId).containsExactly(2L, 9L, 9L);
+        assertThat(decoded.get(0).title()).isNull();
+        assertThat(decoded.get(0).theme()).isNull();
+        assertThat(decoded.get(1).title()).isEqualTo("반복");
+        assertThat(decoded.get(1).recurring()).isTrue();
+        assertThat(decoded.get(1).occurrenceId()).isEqualTo("9@" + st);
+    }
+
+    @Test
+    void unknownVersionIsMiss() {
+        byte[] bytes = OccurrenceBucketCodec.encode(List.of(item(1L, Instant.EPOCH, Instant.EPOCH.plusSeconds(60))));
+        bytes[0] = 99;
+        assertThat(OccurrenceBucketCodec.decode(CALENDAR_ID, bytes)).isNull();
+    }
+
+    private static void assertRoundTrip(List<OccurrenceItem> items) {
+        List<OccurrenceItem> expected = new ArrayList<>(items);
+        expected.sort(START_ORDER);
+        assertThat(OccurrenceBucketCodec.decode(CALENDAR_ID, OccurrenceBucketCodec.encode(items))).isEqualTo(expected);
+    }
+
+    // 같은 일정은 제목/테마/반복 여부가 같음 (코덱이 일정별로 한 번만 저장)
+    private static OccurrenceItem item(long scheduleId, Instant st, Instant et) {
+        return OccurrenceAssembler.item(scheduleId, CALENDAR_ID, "일정 " + scheduleId, scheduleId % 2 == 0 ? "BLUE" : "BLACK",
+                st, et, scheduleId % 3 == 0);
+    }
+}
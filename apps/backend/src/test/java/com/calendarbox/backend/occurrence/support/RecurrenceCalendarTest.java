@@ -0,0 +1,190 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Case;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.calendarbox.backend.occurrence.support.RecurrenceFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurrenceCalendar의 주기별 날짜 계산이 기준 전개의 후보(주기 k 커서에서 규칙을 다시 파싱)와 같은지,
+ * seek에 쓰는 경계(firstPeriodReaching, first/lastPossibleDay, periodOf)가 후보를 놓치지 않는지 확인.
+ * 로컬 날짜만 보므로 하루가 통째로 사라지는 zone(Pacific/Apia)은 제외
+ */
+class RecurrenceCalendarTest {
+
+    private static final LocalDate LAST_DATE = LocalDate.of(4000, 1, 1);
+
+    static Stream<Arguments> randomCases() {
+        Random rnd = new Random(4_004L);
+        return IntStream.range(0, 300)
+                .mapToObj(i -> Arguments.of(RecurrenceFixtures.randomCase(rnd, DST_ZONES), 9_000L + i));
+    }
+
+    static Stream<Case> edgeCases() {
+        return RecurrenceFixtures.edgeCases().stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    void matchesReferenceCandidates(Case c, long seed) {
+        assertSameAsReference(c, new Random(seed));
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void matchesReferenceCandidatesOnEdgeCases(Case c) {
+        assertSameAsReference(c, new Random(c.label().hashCode()));
+    }
+
+    @Test
+    void fifthWeekdaySpillsIntoNextMonth() {
+        // 2024-01-29는 1월의 5번째 월요일, 2월에는 5번째 월요일이 없어 3월 첫 월요일로 넘어감
+        RecurrenceCalendar cal = calendar(RecurrenceFreq.MONTHLY, arr("5MO"), null, LocalDate.of(2024, 1, 29));
+
+        assertThat(dates(cal, 0)).containsExactly(day(2024, 1, 29));
+        assertThat(dates(cal, 1)).containsExactly(day(2024, 3, 4));
+        assertThat(dates(cal, 2)).containsExactly(day(2024, 4, 1));
+        assertThat(dates(cal, 3)).containsExactly(day(2024, 4, 29));
+        // 다음 달로 넘어간 날짜도 그 주기의 경계 안, seek가 2월 주기를 건너뛰지 않음
+        assertThat(cal.lastPossibleDay(1)).isGreaterThanOrEqualTo(day(2024, 3, 4));
+        assertThat(cal.firstPeriodReaching(day(2024, 3, 4))).isLessThanOrEqualTo(1);
+        assertThat(cal.periodOf(day(2024, 3, 4))).isEqualTo(2L);
+    }
+
+    @Test
+    void negativeFifthWeekdaySpillsIntoPreviousMonth() {
+        // 2024-03-01은 3월의 마지막에서 5번째 금요일, 4월에는 없어 3월 마지막 주로 넘어감
+        RecurrenceCalendar cal = calendar(RecurrenceFreq.MONTHLY, arr("-5FR"), null, LocalDate.of(2024, 3, 1));
+
+        assertThat(dates(cal, 0)).containsExactly(day(2024, 3, 1));
+        assertThat(dates(cal, 1)).containsExactly(day(2024, 3, 29));
+        assertThat(cal.firstPossibleDay(1)).isLessThanOrEqualTo(day(2024, 3, 29));
+        assertThat(cal.periodOf(day(2024, 3, 29))).isEqualTo(0L);
+    }
+
+    @Test
+    void day31ClampsToShortMonths() {
+        RecurrenceCalendar cal = calendar(RecurrenceFreq.MONTHLY, null, ints(31, -31), LocalDate.of(2023, 1, 31));
+
+        assertThat(dates(cal, 0)).containsExactly(day(2023, 1, 1), day(2023, 1, 31));
+        assertThat(dates(cal, 1)).containsExactly(day(2023, 2, 1), day(2023, 2, 28));
+        assertThat(dates(cal, 3)).containsExactly(day(2023, 4, 1), day(2023, 4, 30));
+        assertThat(dates(cal, 13)).containsExactly(day(2024, 2, 1), day(2024, 2, 29));
+    }
+
+    @Test
+    void yearlyDay31InFebruaryOfLeapAndCommonYears() {
+        ScheduleRecurrence r = ScheduleRecurrence.of(RecurrenceFreq.YEARLY, 1, null, ints(31, 29), ints(2), null);
+        RecurrenceCalendar cal = new RecurrenceCalendar(CompiledRecurrence.compile(r), LocalDate.of(2020, 2, 29));
+
+        assertThat(dates(cal, 0)).containsExactly(day(2020, 2, 29));
+        assertThat(dates(cal, 1)).containsExactly(day(2021, 2, 28));
+        assertThat(dates(cal, 4)).containsExactly(day(2024, 2, 29));
+    }
+
+    private void assertSameAsReference(Case c, Random rnd) {
+        ScheduleRecurrence r = c.schedule().getRecurrence();
+        ZonedDateTime seedStart = c.schedule().getStartAt().atZone(c.zone());
+        CompiledRecurrence plan = CompiledRecurrence.compile(r);
+        RecurrenceCalendar cal = new RecurrenceCalendar(plan, seedStart.toLocalDate());
+        long[] buf = new long[Math.max(1, cal.maxDatesPerPeriod())];
+
+        long maxPeriod = cal.periodOf(LAST_DATE.toEpochDay());
+        LongStream periods = LongStream.concat(LongStream.range(0, 60),
+                rnd.longs(20, 60, maxPeriod));
+        periods.forEach(k -> {
+            long[] expected = referenceDates(r, seedStart, k);
+            int n = cal.datesOf(k, buf);
+            long[] actual = Arrays.copyOf(buf, n);
+            assertThat(actual).as("%s period %d", c, k).containsExactly(expected);
+
+            for (long d : actual) {
+                assertThat(d).as("%s period %d date %s >= firstPossibleDay", c, k, LocalDate.ofEpochDay(d))
+                        .isGreaterThanOrEqualTo(cal.firstPossibleDay(k));
+                assertThat(d).as("%s period %d date %s <= lastPossibleDay", c, k, LocalDate.ofEpochDay(d))
+                        .isLessThanOrEqualTo(cal.lastPossibleDay(k));
+                // 달/해 경계 넘침은 최대 1주 → 이웃 주기까지만 (RecurrenceNavigator의 rank 계산 전제)
+                assertThat(cal.periodOf(d) - k).as("%s period %d date %s periodOf", c, k, LocalDate.ofEpochDay(d))
+                        .isGreaterThanOrEqualTo(-1).isLessThanOrEqualTo(1);
+                // seek가 이 날짜를 포함하는 주기를 건너뛰지 않음
+                assertThat(cal.firstPeriodReaching(d)).as("%s period %d date %s firstPeriodReaching", c, k,
+                        LocalDate.ofEpochDay(d)).isLessThanOrEqualTo(k);
+            }
+
+            // 주기 k의 로컬 구간 [start(k), start(k+1)) 안의 날짜는 periodOf == k
+            long from = periodStart(plan, seedStart.toLocalDate(), k);
+            long to = periodStart(plan, seedStart.toLocalDate(), k + 1);
+            for (long d : new long[]{from, (from + to) / 2, to - 1}) {
+                assertThat(cal.periodOf(d)).as("%s periodOf %s", c, LocalDate.ofEpochDay(d)).isEqualTo(k);
+            }
+            assertThat(cal.periodOf(to)).as("%s periodOf %s", c, LocalDate.ofEpochDay(to)).isEqualTo(k + 1);
+
+            // 400년 주기: 후보 수가 cycleLength 뒤 주기와 같음
+            if (k < maxPeriod - cal.cycleLength()) {
+                assertThat(cal.datesOf(k + cal.cycleLength(), buf)).as("%s period %d + cycle", c, k).isEqualTo(n);
+            }
+        });
+
+        // 임의 날짜 기준: firstPeriodReaching 이전 주기의 후보는 전부 그 날짜 이전
+        for (int i = 0; i < 30; i++) {
+            long target = seedStart.toLocalDate().toEpochDay() - 40 + rnd.nextInt(20 * 365);
+            long p = cal.firstPeriodReaching(target);
+            for (long k = Math.max(0, p - 3); k < p; k++) {
+                for (long d : referenceDates(r, seedStart, k)) {
+                    assertThat(d).as("%s target %s skipped period %d", c, LocalDate.ofEpochDay(target), k)
+                            .isLessThan(target);
+                }
+            }
+        }
+    }
+
+    private static long[] referenceDates(ScheduleRecurrence r, ZonedDateTime seedStart, long k) {
+        return referenceCandidates(r, seedStart, k).stream()
+                .mapToLong(z -> z.toLocalDate().toEpochDay())
+                .distinct().sorted().toArray();
+    }
+
+    /** 주기 k가 덮는 로컬 구간의 첫 날 (달력 API로 계산) */
+    private static long periodStart(CompiledRecurrence plan, LocalDate seed, long k) {
+        long amount = k * plan.interval();
+        LocalDate d = switch (plan.freq()) {
+            case DAILY -> seed.plusDays(amount);
+            case WEEKLY -> plan.hasWeeklyDays()
+                    ? seed.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(amount)
+                    : seed.plusWeeks(amount);
+            case MONTHLY -> seed.withDayOfMonth(1).plusMonths(amount);
+            case YEARLY -> seed.withDayOfYear(1).plusYears(amount);
+        };
+        return d.toEpochDay();
+    }
+
+    private static RecurrenceCalendar calendar(RecurrenceFreq freq, String[] byDay, Integer[] byMonthday, LocalDate seed) {
+        ScheduleRecurrence r = ScheduleRecurrence.of(freq, 1, byDay, byMonthday, null, null);
+        return new RecurrenceCalendar(CompiledRecurrence.compile(r), seed);
+    }
+
+    private static long[] dates(RecurrenceCalendar cal, long k) {
+        long[] buf = new long[Math.max(1, cal.maxDatesPerPeriod())];
+        return Arrays.copyOf(buf, cal.datesOf(k, buf));
+    }
+
+    private static long day(int year, int month, int dayOfMonth) {
+        return LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+}
@@ -0,0 +1,85 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Case;
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Window;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.calendarbox.backend.occurrence.support.RecurrenceFixtures.*;
+import static java.time.DayOfWeek.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurrenceExpanderImpl(컴파일된 플랜 + 윈도우 seek)이 기준 전개(주기마다 규칙 파싱, 주기 0부터)와
+ * 순서까지 같은 결과를 내는지 확인.
+ */
+class RecurrenceExpanderImplTest {
+
+    private final RecurrenceExpanderImpl expander = new RecurrenceExpanderImpl(new RecurrencePlanCache(100));
+
+    static Stream<Arguments> randomCases() {
+        Random rnd = new Random(20_251_017L);
+        return IntStream.range(0, 300)
+                .mapToObj(i -> Arguments.of(RecurrenceFixtures.randomCase(rnd, DST_ZONES), 1_000L + i));
+    }
+
+    static Stream<Case> edgeCases() {
+        return RecurrenceFixtures.edgeCases().stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    void matchesReferenceExpansion(Case c, long windowSeed) {
+        for (Window w : randomWindows(new Random(windowSeed), c, 4)) {
+            assertSameAsReference(c, w);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void matchesReferenceExpansionOnEdgeCases(Case c) {
+        ZonedDateTime seed = c.schedule().getStartAt().atZone(c.zone());
+        assertSameAsReference(c, new Window(seed.minusDays(10), seed.plusYears(6)));
+        // 달 단위 윈도우 (월 경계를 넘는 후보, 짧은 달)
+        ZonedDateTime month = seed.withDayOfMonth(1).toLocalDate().atStartOfDay(c.zone());
+        for (int m = -1; m < 72; m++) {
+            assertSameAsReference(c, new Window(month.plusMonths(m), month.plusMonths(m + 1)));
+        }
+    }
+
+    @Test
+    void compilesByDayTokensAndArraysOnce() {
+        ScheduleRecurrence r = ScheduleRecurrence.of(RecurrenceFreq.MONTHLY, 0,
+                arr("3WE", " -1su", "+2MO", "FR", "bogus"), ints(15, null, -1), ints(12, 3, null, 3), null);
+
+        CompiledRecurrence plan = CompiledRecurrence.compile(r);
+
+        assertThat(plan.interval()).isEqualTo(1);
+        // WEEKLY는 서수를 무시하고 요일만 (월→일 순)
+        assertThat(plan.weeklyDays()).containsExactly(MONDAY, WEDNESDAY, FRIDAY, SUNDAY);
+        // MONTHLY/YEARLY는 서수 있는 토큰만, 입력 순서대로
+        assertThat(plan.ordinals()).containsExactly(3, -1, 2);
+        assertThat(plan.ordinalDays()).containsExactly(WEDNESDAY, SUNDAY, MONDAY);
+        assertThat(plan.monthdays()).containsExactly(15, -1);
+        assertThat(plan.months()).containsExactly(3, 12);
+    }
+
+    private void assertSameAsReference(Case c, Window w) {
+        List<RecurrenceExpander.Slice> expected = referenceExpand(c.schedule(), w.from(), w.to(), c.zone());
+        assertThat(expected.size()).as("기준 전개가 MAX_OCCURRENCES 미만이어야 비교 가능").isLessThan(5000);
+
+        List<RecurrenceExpander.Slice> actual =
+                expander.expand(c.schedule(), c.schedule().getRecurrence(), w.from(), w.to(), c.zone());
+        assertThat(actual).as("%s %s", c, w).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,389 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.domain.ScheduleRecurrence;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import com.calendarbox.backend.schedule.enums.ScheduleTheme;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 반복 전개 테스트 공용: 시리즈/윈도우 생성과 기준(reference) 전개.
+ * - 기준 전개는 규칙 문자열을 주기마다 다시 파싱하고(CompiledRecurrence 이전 방식) 주기 0부터 빠짐없이 훑음
+ *   → 컴파일된 플랜, 윈도우 seek(RecurrenceCalendar)을 거치지 않은 결과
+ * - 랜덤 규칙은 RecurrenceRuleValidator가 허용하는 모양만 만듦
+ */
+final class RecurrenceFixtures {
+
+    /** DST 없음 / 02:00 전환 / 01:00 전환 / 자정 전환 / 30분 전환 */
+    static final List<ZoneId> DST_ZONES = List.of(
+            ZoneId.of("Asia/Seoul"),
+            ZoneId.of("America/New_York"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("America/Santiago"),
+            ZoneId.of("America/Sao_Paulo"),
+            ZoneId.of("Asia/Tehran"),
+            ZoneId.of("Australia/Lord_Howe")
+    );
+
+    private static final Pattern BYDAY_TOKEN = Pattern.compile("^([+-]?[1-5])?(MO|TU|WE|TH|FR|SA|SU)$");
+    private static final String[] DAYS = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    // DST 전환 시각 근처를 자주 고름
+    private static final LocalTime[] TIMES = {
+            LocalTime.MIDNIGHT, LocalTime.of(0, 30), LocalTime.of(1, 30), LocalTime.of(2, 0),
+            LocalTime.of(2, 30), LocalTime.of(9, 0), LocalTime.of(23, 30)
+    };
+
+    private static final Duration[] LENGTHS = {
+            Duration.ofMinutes(15), Duration.ofHours(1), Duration.ofHours(25), Duration.ofDays(3), Duration.ofDays(9)
+    };
+
+    private RecurrenceFixtures() {}
+
+    record Case(String label, Schedule schedule, ZoneId zone) {
+        @Override public String toString() { return label; }
+    }
+
+    record Window(ZonedDateTime from, ZonedDateTime to) {
+        @Override public String toString() { return "[" + from + ", " + to + ")"; }
+    }
+
+    static Schedule series(ZonedDateTime start, Duration length, RecurrenceFreq freq, int interval,
+                           String[] byDay, Integer[] byMonthday, Integer[] byMonth, Instant until,
+                           LocalDate... exceptions) {
+        Schedule s = new Schedule(null, "t", null, ScheduleTheme.BLACK,
+                start.toInstant(), start.toInstant().plus(length), null);
+        ScheduleRecurrence r = ScheduleRecurrence.of(freq, interval, byDay, byMonthday, byMonth, until);
+        s.makeRecurrence(r);
+        r.assignExceptionEpochDays(Arrays.stream(exceptions).mapToInt(d -> (int) d.toEpochDay()).distinct().sorted().toArray());
+        return s;
+    }
+
+    static Case edge(String label, ZonedDateTime start, Duration length, RecurrenceFreq freq, int interval,
+                     String[] byDay, Integer[] byMonthday, Integer[] byMonth, Instant until, LocalDate... exceptions) {
+        return new Case(label, series(start, length, freq, interval, byDay, byMonthday, byMonth, until, exceptions),
+                start.getZone());
+    }
+
+    /**
+     * 경계 사례: 없는 5번째 요일(다음 달로 넘어감), 31일/-31일이 짧은 달, 윤일,
+     * DST gap/overlap(나중 오프셋 포함) 시각의 시드, 시드 날짜 예외, until이 후보와 같은 시각
+     */
+    static List<Case> edgeCases() {
+        ZoneId ny = ZoneId.of("America/New_York");
+        ZoneId santiago = ZoneId.of("America/Santiago");
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        ZoneId lordHowe = ZoneId.of("Australia/Lord_Howe");
+        ZonedDateTime jan31 = ZonedDateTime.of(2023, 1, 31, 9, 0, 0, 0, ny);
+        return List.of(
+                edge("monthly 5th monday (spills into next month)", ZonedDateTime.of(2024, 1, 29, 10, 0, 0, 0, seoul),
+                        Duration.ofHours(1), RecurrenceFreq.MONTHLY, 1, arr("5MO"), null, null, null),
+                edge("monthly -5 friday (spills into previous month)", ZonedDateTime.of(2024, 3, 1, 10, 0, 0, 0, seoul),
+                        Duration.ofHours(1), RecurrenceFreq.MONTHLY, 1, arr("-5FR"), null, null, null),
+                edge("monthly 5th sunday + 1st sunday, every 2 months", ZonedDateTime.of(2023, 4, 30, 8, 0, 0, 0, ny),
+                        Duration.ofHours(2), RecurrenceFreq.MONTHLY, 2, arr("5SU", "1SU"), null, null,
+                        Instant.parse("2027-01-01T00:00:00Z")),
+                edge("monthly day 31 in short months", jan31, Duration.ofHours(1), RecurrenceFreq.MONTHLY, 1,
+                        null, ints(31), null, null),
+                edge("monthly day 31 and -31, every 3 months", jan31, Duration.ofHours(1), RecurrenceFreq.MONTHLY, 3,
+                        null, ints(31, -31, 30), null, Instant.parse("2026-06-30T13:00:00Z")),
+                edge("monthly day 31 until exactly a candidate", jan31, Duration.ofHours(1), RecurrenceFreq.MONTHLY, 1,
+                        null, ints(31), null, jan31.plusMonths(7).toInstant()),
+                edge("yearly feb 29/30/31", ZonedDateTime.of(2020, 2, 29, 12, 0, 0, 0, seoul), Duration.ofHours(1),
+                        RecurrenceFreq.YEARLY, 1, null, ints(29, 30, 31, -1), ints(2), null),
+                edge("yearly 5th weekday in feb/apr/dec", ZonedDateTime.of(2021, 2, 1, 7, 0, 0, 0, ny), Duration.ofHours(1),
+                        RecurrenceFreq.YEARLY, 1, arr("5MO", "-5TU", "4SA"), null, ints(12, 2, 4, 2), null),
+                edge("weekly on monday, seed on sunday", ZonedDateTime.of(2024, 3, 10, 2, 30, 0, 0, ny),
+                        Duration.ofHours(1), RecurrenceFreq.WEEKLY, 1, arr("MO", "SU"), null, null, null),
+                edge("weekly with ordinal tokens, every 3 weeks", ZonedDateTime.of(2024, 11, 3, 1, 30, 0, 0, ny),
+                        Duration.ofMinutes(90), RecurrenceFreq.WEEKLY, 3, arr("2MO", "-1FR", "we"), null, null, null),
+                edge("daily through a midnight gap", ZonedDateTime.of(2023, 9, 1, 0, 0, 0, 0, santiago),
+                        Duration.ofMinutes(30), RecurrenceFreq.DAILY, 1, null, null, null, null,
+                        LocalDate.of(2023, 9, 3), LocalDate.of(2023, 9, 1)),
+                edge("daily every 2 days at 02:30 through gap and overlap", ZonedDateTime.of(2024, 3, 1, 2, 30, 0, 0, ny),
+                        Duration.ofHours(1), RecurrenceFreq.DAILY, 2, null, null, null, null),
+                edge("daily 01:45 through a 30-minute transition", ZonedDateTime.of(2023, 3, 30, 1, 45, 0, 0, lordHowe),
+                        Duration.ofHours(2), RecurrenceFreq.DAILY, 1, null, null, null, null),
+                edge("daily seeded in the later half of an overlap",
+                        LocalDateTime.of(2024, 11, 3, 1, 30).atZone(ny).withLaterOffsetAtOverlap(),
+                        Duration.ofMinutes(45), RecurrenceFreq.DAILY, 1, null, null, null, null),
+                edge("weekly seeded in the later half of an overlap",
+                        LocalDateTime.of(2023, 4, 2, 1, 40).atZone(lordHowe).withLaterOffsetAtOverlap(),
+                        Duration.ofMinutes(20), RecurrenceFreq.WEEKLY, 1, arr("SU", "MO"), null, null, null),
+                edge("sub-second seed", ZonedDateTime.of(2024, 1, 15, 9, 0, 0, 123_456_789, ny),
+                        Duration.ofMillis(3_600_999), RecurrenceFreq.WEEKLY, 1, arr("MO", "TH"), null, null, null)
+        );
+    }
+
+    /** 검증기가 허용하는 모양의 랜덤 규칙 */
+    static Case randomCase(Random rnd, List<ZoneId> zones) {
+        ZoneId zone = zones.get(rnd.nextInt(zones.size()));
+        RecurrenceFreq freq = RecurrenceFreq.values()[rnd.nextInt(4)];
+        int interval = rnd.nextInt(3) == 0 ? 1 + rnd.nextInt(5) : 1;
+
+        LocalDate seedDate = LocalDate.of(2010, 1, 1).plusDays(rnd.nextInt(14 * 365));
+        LocalTime time = rnd.nextInt(5) == 0
+                ? LocalTime.of(rnd.nextInt(24), rnd.nextInt(4) * 15)
+                : TIMES[rnd.nextInt(TIMES.length)];
+        if (rnd.nextInt(10) == 0) time = time.withNano(rnd.nextInt(1_000_000_000));
+        ZonedDateTime start = ZonedDateTime.of(seedDate, time, zone);
+        Duration length = LENGTHS[rnd.nextInt(LENGTHS.length)];
+
+        String[] byDay = null;
+        Integer[] byMonthday = null;
+        Integer[] byMonth = null;
+        switch (freq) {
+            case DAILY -> { }
+            case WEEKLY -> {
+                if (rnd.nextInt(4) != 0) byDay = randomDays(rnd, 1 + rnd.nextInt(4), rnd.nextInt(4) == 0);
+            }
+            case MONTHLY, YEARLY -> {
+                int kind = rnd.nextInt(3);
+                if (kind != 1) byMonthday = randomMonthdays(rnd, 1 + rnd.nextInt(3));
+                if (kind != 0) byDay = randomDays(rnd, 1 + rnd.nextInt(2), true);
+                if (freq == RecurrenceFreq.YEARLY) {
+                    byMonth = new Integer[1 + rnd.nextInt(3)];
+                    for (int i = 0; i < byMonth.length; i++) byMonth[i] = 1 + rnd.nextInt(12);
+                }
+            }
+        }
+
+        Instant until = switch (rnd.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> start.plusDays(1 + rnd.nextInt(3000)).toInstant();
+            default -> cursor(start, freq, (long) interval * (1 + rnd.nextInt(60))).toInstant();   // 주기 커서와 같은 시각
+        };
+
+        // 주기 간격으로 예외를 찍어 실제 occurrence와 자주 겹치게 (시드 날짜 포함 가능)
+        int stride = switch (freq) {
+            case DAILY -> 1 + rnd.nextInt(10);
+            case WEEKLY -> 1 + rnd.nextInt(14);
+            default -> 1 + rnd.nextInt(40);
+        };
+        int offset = rnd.nextInt(3) - 1;
+        LocalDate[] exceptions = IntStream.range(0, rnd.nextInt(40))
+                .mapToObj(i -> seedDate.plusDays(offset + (long) i * stride * (1 + rnd.nextInt(3))))
+                .toArray(LocalDate[]::new);
+
+        Schedule s = series(start, length, freq, interval, byDay, byMonthday, byMonth, until, exceptions);
+        String label = "%s every %d at %s %s byDay=%s byMonthday=%s byMonth=%s until=%s exceptions=%d".formatted(
+                freq, interval, start, length, Arrays.toString(byDay), Arrays.toString(byMonthday),
+                Arrays.toString(byMonth), until, exceptions.length);
+        return new Case(label, s, zone);
+    }
+
+    /** 시드 앞뒤의 랜덤 윈도우 (시드 이전, 몇 년 뒤, 하루~3년 길이) */
+    static List<Window> randomWindows(Random rnd, Case c, int count) {
+        ZonedDateTime seed = c.schedule().getStartAt().atZone(c.zone());
+        List<Window> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ZonedDateTime from = seed.minusDays(60).plusDays(rnd.nextInt(8 * 365)).plusMinutes(rnd.nextInt(24 * 60));
+            if (rnd.nextInt(3) == 0) from = from.truncatedTo(ChronoUnit.DAYS);
+            Duration length = switch (rnd.nextInt(6)) {
+                case 0 -> Duration.ofHours(1 + rnd.nextInt(6));
+                case 1 -> Duration.ofDays(1);
+                case 2 -> Duration.ofDays(7);
+                case 3 -> Duration.ofDays(31);
+                case 4 -> Duration.ofDays(100 + rnd.nextInt(300));
+                default -> Duration.ofDays(365 * 3);
+            };
+            out.add(new Window(from, from.plus(length)));
+        }
+        return out;
+    }
+
+    // ---- 기준 전개 ----
+
+    /**
+     * 주기 0부터 순서대로 전개 (seek 없음). 순서/중복 제거/예외/until 처리는 전개 엔진과 같은 정의:
+     * - 시드는 until 이전이면 포함, 주기 k의 커서 = 시드 + k*interval, 커서가 until 이상이면 끝
+     * - 주기 안 후보는 시각순, 시작 시각이 이미 나온 것은 건너뜀
+     */
+    static List<RecurrenceExpander.Slice> referenceExpand(Schedule s, ZonedDateTime winFrom, ZonedDateTime winTo, ZoneId zone) {
+        ScheduleRecurrence r = s.getRecurrence();
+        ZonedDateTime seedStart = s.getStartAt().atZone(zone);
+        ZonedDateTime seedEnd = s.getEndAt().atZone(zone);
+        if (!seedStart.isBefore(seedEnd)) return List.of();
+
+        Instant until = r.getUntil();
+        ZonedDateTime upper = winTo;
+        if (until != null && until.atZone(zone).isBefore(upper)) upper = until.atZone(zone);
+
+        Set<LocalDate> exceptions = new HashSet<>();
+        for (int d : r.exceptionEpochDays()) exceptions.add(LocalDate.ofEpochDay(d));
+        Duration dur = Duration.between(seedStart, seedEnd);
+
+        List<RecurrenceExpander.Slice> out = new ArrayList<>();
+        Set<Instant> seen = new HashSet<>();
+        if (seedStart.isBefore(winTo) && seedEnd.isAfter(winFrom) && !seedStart.isAfter(upper)
+                && !exceptions.contains(seedStart.toLocalDate()) && seen.add(seedStart.toInstant())) {
+            out.add(new RecurrenceExpander.Slice(seedStart.toInstant(), seedEnd.toInstant()));
+        }
+
+        RecurrenceFreq freq = r.getFreq();
+        int interval = Math.max(1, r.getIntervalCount());
+        // 주기 후보는 커서의 주/달/해(넘침 1주) 안에 있으므로 커서가 윈도우 끝 + 2단위를 넘으면 끝
+        LocalDate stop = winTo.toLocalDate().plus(2, unit(freq));
+
+        for (long k = 0; ; k++) {
+            ZonedDateTime cursor = cursor(seedStart, freq, k * interval);
+            if (until != null && !cursor.toInstant().isBefore(until)) break;
+            if (cursor.toLocalDate().isAfter(stop)) break;
+
+            for (ZonedDateTime c : referenceCandidates(r, seedStart, k)) {
+                ZonedDateTime end = c.plus(dur);
+                if (!c.isBefore(winTo) || !end.isAfter(winFrom)) continue;
+                if (exceptions.contains(c.toLocalDate())) continue;
+                if (!seen.add(c.toInstant())) continue;
+                out.add(new RecurrenceExpander.Slice(c.toInstant(), end.toInstant()));
+            }
+        }
+        return out;
+    }
+
+    /** 주기 k의 후보 (커서 = 시드 + k*interval, 시각순, 중복 제거 전) */
+    static List<ZonedDateTime> referenceCandidates(ScheduleRecurrence r, ZonedDateTime seedStart, long k) {
+        ZonedDateTime cursor = cursor(seedStart, r.getFreq(), k * Math.max(1, r.getIntervalCount()));
+        return switch (r.getFreq()) {
+            case DAILY -> List.of(cursor);
+            case WEEKLY -> weeklyCandidates(cursor, r.getByDay());
+            case MONTHLY -> monthCandidates(cursor, seedStart, r.getByMonthday(), r.getByDay());
+            case YEARLY -> yearlyCandidates(cursor, seedStart, r, seedStart.getZone());
+        };
+    }
+
+    static ZonedDateTime cursor(ZonedDateTime seedStart, RecurrenceFreq freq, long amount) {
+        return switch (freq) {
+            case DAILY -> seedStart.plusDays(amount);
+            case WEEKLY -> seedStart.plusWeeks(amount);
+            case MONTHLY -> seedStart.plusMonths(amount);
+            case YEARLY -> seedStart.plusYears(amount);
+        };
+    }
+
+    private static ChronoUnit unit(RecurrenceFreq freq) {
+        return switch (freq) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+            case YEARLY -> ChronoUnit.YEARS;
+        };
+    }
+
+    private static List<ZonedDateTime> weeklyCandidates(ZonedDateTime cursor, String[] byDay) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (byDay != null) {
+            for (String token : byDay) {
+                if (token == null || token.isBlank()) continue;
+                String t = token.trim().toUpperCase(Locale.ROOT);
+                DayOfWeek dow = dayOf(t.substring(Math.max(0, t.length() - 2)));
+                if (dow != null) days.add(dow);
+            }
+        }
+        if (days.isEmpty()) return List.of(cursor);
+
+        ZonedDateTime monday = cursor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        List<ZonedDateTime> out = new ArrayList<>();
+        for (DayOfWeek dow : days) {
+            out.add(monday.with(TemporalAdjusters.nextOrSame(dow))
+                    .withHour(cursor.getHour())
+                    .withMinute(cursor.getMinute())
+                    .withSecond(cursor.getSecond())
+                    .withNano(cursor.getNano()));
+        }
+        out.sort(Comparator.naturalOrder());
+        return out;
+    }
+
+    private static List<ZonedDateTime> yearlyCandidates(ZonedDateTime cursor, ZonedDateTime seedStart,
+                                                        ScheduleRecurrence r, ZoneId zone) {
+        SortedSet<Integer> months = new TreeSet<>();
+        for (Integer m : r.getByMonth()) if (m != null) months.add(m);
+        List<ZonedDateTime> out = new ArrayList<>();
+        for (int m : months) {
+            ZonedDateTime anchor = ZonedDateTime.of(LocalDate.of(cursor.getYear(), m, 1), seedStart.toLocalTime(), zone);
+            out.addAll(monthCandidates(anchor, seedStart, r.getByMonthday(), r.getByDay()));
+        }
+        out.sort(Comparator.naturalOrder());
+        return out;
+    }
+
+    private static List<ZonedDateTime> monthCandidates(ZonedDateTime anchor, ZonedDateTime seedStart,
+                                                       Integer[] byMonthday, String[] byDay) {
+        List<ZonedDateTime> out = new ArrayList<>();
+        if (byMonthday != null) {
+            int len = anchor.toLocalDate().lengthOfMonth();
+            for (Integer d : byMonthday) {
+                if (d == null) continue;
+                int day = d > 0 ? Math.min(d, len) : Math.max(1, len + d + 1);
+                out.add(withSeedTime(anchor.withDayOfMonth(day), seedStart));
+            }
+        }
+        if (byDay != null) {
+            ZonedDateTime first = withSeedTime(anchor.withDayOfMonth(1), seedStart);
+            for (String raw : byDay) {
+                Matcher m = BYDAY_TOKEN.matcher(raw.trim().toUpperCase(Locale.ROOT));
+                if (!m.matches() || m.group(1) == null) continue;
+                int ordinal = Integer.parseInt(m.group(1));
+                DayOfWeek dow = dayOf(m.group(2));
+                ZonedDateTime c;
+                if (ordinal > 0) {
+                    c = first.with(TemporalAdjusters.dayOfWeekInMonth(ordinal, dow));
+                } else {
+                    c = first.with(TemporalAdjusters.lastInMonth(dow));
+                    if (ordinal < -1) c = c.minusWeeks(-ordinal - 1);
+                }
+                out.add(c);
+            }
+        }
+        out.sort(Comparator.naturalOrder());
+        return out;
+    }
+
+    private static ZonedDateTime withSeedTime(ZonedDateTime z, ZonedDateTime seedStart) {
+        return z.withHour(seedStart.getHour())
+                .withMinute(seedStart.getMinute())
+                .withSecond(seedStart.getSecond())
+                .withNano(seedStart.getNano());
+    }
+
+    // ---- 랜덤 규칙 조각 ----
+
+    private static String[] randomDays(Random rnd, int count, boolean ordinal) {
+        String[] out = new String[count];
+        for (int i = 0; i < count; i++) {
+            String day = DAYS[rnd.nextInt(7)];
+            if (ordinal) {
+                int n = 1 + rnd.nextInt(5);
+                day = (rnd.nextBoolean() ? "-" : (rnd.nextInt(4) == 0 ? "+" : "")) + n + day;
+            }
+            out[i] = rnd.nextInt(6) == 0 ? " " + day.toLowerCase(Locale.ROOT) : day;
+        }
+        return out;
+    }
+
+    private static Integer[] randomMonthdays(Random rnd, int count) {
+        Integer[] out = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            int d = rnd.nextInt(4) == 0 ? 28 + rnd.nextInt(4) : 1 + rnd.nextInt(31);
+            out[i] = rnd.nextInt(3) == 0 ? -d : d;
+        }
+        return out;
+    }
+
+    private static DayOfWeek dayOf(String two) {
+        int i = Arrays.asList(DAYS).indexOf(two);
+        return i < 0 ? null : DayOfWeek.of(i + 1);
+    }
+
+    static String[] arr(String... tokens) { return tokens; }
+
+    static Integer[] ints(Integer... values) { return values; }
+}
@@ -0,0 +1,154 @@
+package com.calendarbox.backend.occurrence.support;
+
+import com.calendarbox.backend.occurrence.support.RecurrenceFixtures.Case;
+import com.calendarbox.backend.schedule.domain.Schedule;
+import com.calendarbox.backend.schedule.enums.RecurrenceFreq;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.calendarbox.backend.occurrence.support.RecurrenceFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurrenceNavigator의 n번째 / 순번 / 마지막 occurrence가 기준 전개 전체를 시작 시각순으로 정렬한 목록과 같은지 확인.
+ * 하루가 통째로 사라지는 zone(Pacific/Apia)은 날짜 단위 계산의 알려진 한계라 제외
+ */
+class RecurrenceNavigatorTest {
+
+    // 기준 전개 범위: 시드 2년 전 ~ 6년 뒤 (시드보다 이른 주기 0 후보까지 포함)
+    private static final int YEARS_AFTER_SEED = 6;
+
+    private final RecurrencePlanCache planCache = new RecurrencePlanCache(100);
+    private final RecurrenceNavigator navigator = new RecurrenceNavigator(planCache, new RecurrenceExpanderImpl(planCache));
+
+    static Stream<Arguments> randomCases() {
+        Random rnd = new Random(4_040L);
+        return IntStream.range(0, 300)
+                .mapToObj(i -> Arguments.of(RecurrenceFixtures.randomCase(rnd, DST_ZONES), 11_000L + i));
+    }
+
+    static Stream<Case> edgeCases() {
+        return RecurrenceFixtures.edgeCases().stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    void matchesSortedReferenceExpansion(Case c, long seed) {
+        assertSameAsReference(c, new Random(seed));
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void matchesSortedReferenceExpansionOnEdgeCases(Case c) {
+        assertSameAsReference(c, new Random(c.label().hashCode()));
+    }
+
+    @Test
+    void fifthWeekdayThatDoesNotExistMovesToNextMonth() {
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        Schedule s = series(ZonedDateTime.of(2024, 1, 29, 10, 0, 0, 0, seoul), Duration.ofHours(1),
+                RecurrenceFreq.MONTHLY, 1, arr("5MO"), null, null, null);
+
+        // 2월 주기 → 3/4, 3월 주기 → 4/1, 4월 주기 → 4/29
+        assertThat(startOf(navigator.nthOccurrence(s, 1, seoul))).isEqualTo(at(2024, 3, 4, 10, seoul));
+        assertThat(startOf(navigator.nthOccurrence(s, 2, seoul))).isEqualTo(at(2024, 4, 1, 10, seoul));
+        assertThat(startOf(navigator.nthOccurrence(s, 3, seoul))).isEqualTo(at(2024, 4, 29, 10, seoul));
+        assertThat(navigator.occurrenceIndexAt(s, at(2024, 4, 1, 10, seoul), seoul)).isEqualTo(2L);
+        assertThat(navigator.occurrenceIndexAt(s, at(2024, 4, 2, 0, seoul), seoul)).isEqualTo(3L);
+    }
+
+    @Test
+    void day31InShortMonths() {
+        ZoneId ny = ZoneId.of("America/New_York");
+        ZonedDateTime seed = ZonedDateTime.of(2023, 1, 31, 9, 0, 0, 0, ny);
+        Schedule s = series(seed, Duration.ofHours(1), RecurrenceFreq.MONTHLY, 1, null, ints(31), null,
+                seed.plusMonths(13).toInstant());
+
+        assertThat(startOf(navigator.nthOccurrence(s, 1, ny))).isEqualTo(at(2023, 2, 28, 9, ny));
+        assertThat(startOf(navigator.nthOccurrence(s, 3, ny))).isEqualTo(at(2023, 4, 30, 9, ny));
+        assertThat(navigator.occurrenceIndexAt(s, at(2023, 4, 30, 9, ny), ny)).isEqualTo(3L);
+        assertThat(navigator.occurrenceIndexAt(s, at(2023, 5, 1, 0, ny), ny)).isEqualTo(4L);
+        // until = 2024-02-29 09:00 (커서와 같은 시각) → 2024-01-31이 마지막
+        assertThat(startOf(navigator.lastOccurrence(s, ny))).isEqualTo(at(2024, 1, 31, 9, ny));
+        assertThat(navigator.nthOccurrence(s, 13, ny)).isEmpty();
+    }
+
+    private void assertSameAsReference(Case c, Random rnd) {
+        Schedule s = c.schedule();
+        ZoneId zone = c.zone();
+        ZonedDateTime seed = s.getStartAt().atZone(zone);
+        ZonedDateTime horizon = seed.plusYears(YEARS_AFTER_SEED);
+
+        // horizon 이전에 시작하는 occurrence 전체 (시작 시각순)
+        List<RecurrenceExpander.Slice> all = new ArrayList<>();
+        for (RecurrenceExpander.Slice slice : referenceExpand(s, seed.minusYears(2), horizon, zone)) {
+            if (slice.startUtc().isBefore(horizon.toInstant())) all.add(slice);
+        }
+        all.sort(Comparator.comparing(RecurrenceExpander.Slice::startUtc));
+        Instant until = s.getRecurrence().getUntil();
+        boolean complete = until != null && until.isBefore(horizon.toInstant());
+
+        // nthOccurrence: 앞쪽, 랜덤, 끝쪽 순번
+        List<Integer> indexes = new ArrayList<>();
+        for (int n = 0; n < Math.min(all.size(), 40); n++) indexes.add(n);
+        for (int i = 0; i < 20 && !all.isEmpty(); i++) indexes.add(rnd.nextInt(all.size()));
+        for (int n = Math.max(0, all.size() - 3); n < all.size(); n++) indexes.add(n);
+        for (int n : indexes) {
+            assertThat(navigator.nthOccurrence(s, n, zone)).as("%s nth(%d)", c, n).hasValue(all.get(n));
+        }
+        Optional<RecurrenceExpander.Slice> beyond = navigator.nthOccurrence(s, all.size(), zone);
+        if (complete) {
+            assertThat(beyond).as("%s nth(%d) past the end", c, all.size()).isEmpty();
+        } else if (beyond.isPresent()) {
+            assertThat(beyond.get().startUtc().isBefore(horizon.toInstant()))
+                    .as("%s nth(%d) = %s before horizon", c, all.size(), beyond.get()).isFalse();
+        }
+
+        // occurrenceIndexAt: occurrence 시작 시각 자체/직후, 임의 시각 → at 이전 시작 개수
+        List<Instant> probes = new ArrayList<>();
+        for (int n : indexes) {
+            probes.add(all.get(n).startUtc());
+            probes.add(all.get(n).startUtc().plusNanos(1));
+            probes.add(all.get(n).startUtc().minusSeconds(1));
+        }
+        long span = Duration.between(seed.minusDays(40), horizon).toSeconds();
+        for (int i = 0; i < 40; i++) {
+            probes.add(seed.minusDays(40).toInstant().plusSeconds((long) (rnd.nextDouble() * span)));
+        }
+        for (Instant at : probes) {
+            long expected = all.stream().filter(x -> x.startUtc().isBefore(at)).count();
+            assertThat(navigator.occurrenceIndexAt(s, at, zone)).as("%s indexAt(%s)", c, at.atZone(zone))
+                    .isEqualTo(expected);
+        }
+
+        // lastOccurrence: until 없는 시리즈는 empty
+        if (until == null) {
+            assertThat(navigator.lastOccurrence(s, zone)).as("%s last", c).isEmpty();
+        } else if (complete) {
+            Optional<RecurrenceExpander.Slice> expected = all.isEmpty() ? Optional.empty() : Optional.of(all.get(all.size() - 1));
+            assertThat(navigator.lastOccurrence(s, zone)).as("%s last", c).isEqualTo(expected);
+        }
+    }
+
+    private static Instant startOf(Optional<RecurrenceExpander.Slice> slice) {
+        return slice.map(RecurrenceExpander.Slice::startUtc).orElse(null);
+    }
+
+    private static Instant at(int year, int month, int day, int hour, ZoneId zone) {
+        return ZonedDateTime.of(year, month, day, hour, 0, 0, 0, zone).toInstant();
+    }
+}
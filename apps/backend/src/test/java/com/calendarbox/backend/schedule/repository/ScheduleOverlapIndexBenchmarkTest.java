@@ -0,0 +1,179 @@
+package com.calendarbox.backend.schedule.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 겹침 조회: B-tree 부등식(start_at < :to AND end_at > :from) vs GiST(time_range &&) 비교.
+ * - 일정 100만 건 (캘린더 1000개, 5년치)을 V15까지 올린 DB에 넣고 기존 조건을 측정한 뒤 V16을 적용해 다시 측정
+ * - 실행 계획(EXPLAIN ANALYZE)과 지연 중앙값/p95를 출력, 두 조건의 결과 건수가 같은지와 GiST 인덱스 사용 여부만 검증
+ * 오래 걸리므로 기본 test에서는 제외: ./gradlew benchmarkTest
+ */
+@Tag("benchmark")
+@Testcontainers
+class ScheduleOverlapIndexBenchmarkTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int SCHEDULES = 1_000_000;
+    private static final int CALENDARS = 1_000;
+    private static final int VIEW_CALENDARS = 20;   // 한 사용자가 보는 캘린더 수
+    private static final int RUNS = 50;
+
+    private static final String LEGACY_SQL = """
+            SELECT s.schedule_id
+              FROM schedule s
+             WHERE s.calendar_id = ANY (?)
+               AND s.start_at < ?
+               AND s.end_at   > ?
+            """;
+
+    private static final String RANGE_SQL = """
+            SELECT s.schedule_id
+              FROM schedule s
+             WHERE s.calendar_id = ANY (?)
+               AND s.time_range && tstzrange(?, ?, '[)')
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:0.8.1-pg16").asCompatibleSubstituteFor("postgres"));
+
+    private static List<Window> windows;
+
+    private record Window(Long[] calendarIds, Instant from, Instant to) {}
+
+    @BeforeAll
+    static void load() throws SQLException {
+        flyway("15").migrate();
+        try (Connection con = connection(); Statement st = con.createStatement()) {
+            st.execute("INSERT INTO member (name, email, phone_number) VALUES ('bench', 'bench@example.com', '010-0000-0000')");
+            st.execute("INSERT INTO calendar (owner_id, name) SELECT 1, 'cal ' || g FROM generate_series(1, " + CALENDARS + ") g");
+            // 15분 단위 시작, 30분~3시간 길이, 1/50은 1~3일짜리
+            st.execute("""
+                    INSERT INTO schedule (calendar_id, title, start_at, end_at, created_by, created_at, updated_at)
+                    SELECT 1 + (g %% %d), 'bench ' || g, t,
+                           t + CASE WHEN g %% 50 = 0 THEN (1 + g %% 3) * interval '1 day'
+                                    ELSE (30 + (g::bigint * 7919) %% 151) * interval '1 minute' END,
+                           1, now(), now()
+                      FROM generate_series(1, %d) g,
+                           LATERAL (SELECT timestamptz '2022-01-01 00:00+09'
+                                           + ((g::bigint * 104729) %% (5 * 365 * 96)) * interval '15 minutes' AS t) x
+                    """.formatted(CALENDARS, SCHEDULES));
+            // 비교 기준: 기존 조건이 쓸 수 있는 가장 좋은 B-tree
+            st.execute("CREATE INDEX ix_bench_schedule_calendar_start ON schedule (calendar_id, start_at, end_at)");
+            st.execute("ANALYZE schedule");
+        }
+
+        Random rnd = new Random(7);
+        windows = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            Long[] ids = rnd.longs(VIEW_CALENDARS, 1, CALENDARS + 1).boxed().toArray(Long[]::new);
+            LocalDate month = LocalDate.of(2022, 1, 1).plusMonths(rnd.nextInt(60));
+            windows.add(new Window(ids, month.atStartOfDay(ZONE).toInstant(), month.plusMonths(1).atStartOfDay(ZONE).toInstant()));
+        }
+    }
+
+    @Test
+    void rangeOverlapUsesGistAndMatchesLegacyPredicate() throws SQLException {
+        long[] legacyCounts = new long[RUNS];
+        Stats legacy;
+        try (Connection con = connection()) {
+            print("B-tree (start_at < :to AND end_at > :from)", explain(con, LEGACY_SQL, windows.get(0), true));
+            legacy = measure(con, LEGACY_SQL, true, legacyCounts);
+        }
+
+        flyway(null).migrate();   // V16: time_range 생성 컬럼 + GiST
+        try (Connection con = connection(); Statement st = con.createStatement()) {
+            st.execute("ANALYZE schedule");
+        }
+
+        long[] rangeCounts = new long[RUNS];
+        Stats range;
+        String plan;
+        try (Connection con = connection()) {
+            plan = explain(con, RANGE_SQL, windows.get(0), false);
+            print("GiST (time_range && tstzrange(:from, :to))", plan);
+            range = measure(con, RANGE_SQL, false, rangeCounts);
+        }
+
+        System.out.printf("%n[overlap benchmark] %,d schedules, %d calendars x 1 month, %d runs%n", SCHEDULES, VIEW_CALENDARS, RUNS);
+        System.out.printf("  b-tree  median=%.2fms p95=%.2fms%n", legacy.medianMs(), legacy.p95Ms());
+        System.out.printf("  gist    median=%.2fms p95=%.2fms%n", range.medianMs(), range.p95Ms());
+
+        assertThat(rangeCounts).containsExactly(legacyCounts);
+        assertThat(plan).contains("ix_schedule_calendar_time_range");
+    }
+
+    private record Stats(double medianMs, double p95Ms) {}
+
+    private static Stats measure(Connection con, String sql, boolean legacy, long[] counts) throws SQLException {
+        // 워밍업 (버퍼 캐시/플랜 캐시)
+        for (Window w : windows) count(con, sql, w, legacy);
+
+        double[] ms = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long t0 = System.nanoTime();
+            counts[i] = count(con, sql, windows.get(i), legacy);
+            ms[i] = (System.nanoTime() - t0) / 1_000_000.0;
+        }
+        Arrays.sort(ms);
+        return new Stats(ms[RUNS / 2], ms[(int) Math.ceil(RUNS * 0.95) - 1]);
+    }
+
+    private static long count(Connection con, String sql, Window w, boolean legacy) throws SQLException {
+        try (PreparedStatement ps = prepare(con, sql, w, legacy); ResultSet rs = ps.executeQuery()) {
+            long n = 0;
+            while (rs.next()) n++;
+            return n;
+        }
+    }
+
+    private static String explain(Connection con, String sql, Window w, boolean legacy) throws SQLException {
+        StringBuilder sb = new StringBuilder();
+        try (PreparedStatement ps = prepare(con, "EXPLAIN (ANALYZE, BUFFERS) " + sql, w, legacy);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) sb.append(rs.getString(1)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static PreparedStatement prepare(Connection con, String sql, Window w, boolean legacy) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql);
+        ps.setArray(1, con.createArrayOf("bigint", w.calendarIds()));
+        // 기존 조건은 (to, from), 범위 조건은 (from, to) 순서
+        ps.setObject(legacy ? 3 : 2, w.from().atOffset(ZoneOffset.UTC));
+        ps.setObject(legacy ? 2 : 3, w.to().atOffset(ZoneOffset.UTC));
+        return ps;
+    }
+
+    private static void print(String title, String plan) {
+        System.out.printf("%n=== %s ===%n%s", title, plan);
+    }
+
+    private static Flyway flyway(String target) {
+        var config = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) config.target(target);
+        return config.load();
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}